@@ -41,8 +41,15 @@ dependencies {
         // used by java grpc client
         api("org.apache.tomcat:annotations-api:6.0.53")
 
+        // the version grpc-protobuf depends on
+        api("com.google.protobuf:protobuf-java:3.21.7")
+
         val temporalVersion = "1.25.1"
         api("io.temporal:temporal-sdk:$temporalVersion")
         api("io.temporal:temporal-testing:$temporalVersion")
+
+        val jmhVersion = "1.37"
+        api("org.openjdk.jmh:jmh-core:$jmhVersion")
+        api("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
     }
 }
\ No newline at end of file
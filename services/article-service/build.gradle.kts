@@ -46,6 +46,9 @@ dependencies {
     implementation("org.liquibase:liquibase-core")
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -76,6 +79,9 @@ dependencies {
     intTestImplementation("org.testcontainers:junit-jupiter")
     intTestImplementation("org.springframework.security:spring-security-test")
     intTestImplementation("org.springframework.cloud:spring-cloud-starter-contract-stub-runner")
+    intTestImplementation("org.openjdk.jmh:jmh-core")
+
+    intTestAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess")
 }
 
 // mark intTest directories as Test Sources and Test Resources
@@ -109,5 +115,25 @@ tasks.intTest {
 //    systemProperties(CUSTOM_SYSTEM_PROPS)
     systemProperty(SPRING_PROFILES_ACTIVE, "intTest")
 
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmarks, database ones against a Postgres container."
+    group = "verification"
+
+    testClassesDirs = sourceSets.intTest.get().output.classesDirs
+    classpath = sourceSets.intTest.get().runtimeClasspath
+
+    systemProperty(SPRING_PROFILES_ACTIVE, "intTest")
+
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+
+    testLogging {
+        showStandardStreams = true
+    }
 }
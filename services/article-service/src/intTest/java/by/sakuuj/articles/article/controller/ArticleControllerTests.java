@@ -5,13 +5,22 @@ import by.sakuuj.articles.article.ArticleTestDataBuilder;
 import by.sakuuj.articles.article.AuthenticatedUserTestBuilder;
 import by.sakuuj.articles.article.PagingTestDataBuilder;
 import by.sakuuj.articles.article.TopicTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleIdsRequest;
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
 import by.sakuuj.articles.article.dto.ArticleRequest;
 import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.dto.CreateRequestDTO;
+import by.sakuuj.articles.article.dto.SerializedResponse;
 import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.UpdateRequestDTO;
+import by.sakuuj.articles.article.service.ArticleExportService;
+import by.sakuuj.articles.article.service.ArticlePayloadService;
 import by.sakuuj.articles.article.service.ArticleService;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.article.utils.ETagUtils;
+import by.sakuuj.articles.article.utils.PreferUtils;
 import by.sakuuj.articles.paging.PageView;
+import by.sakuuj.articles.paging.RequestedCursorPage;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.security.AuthenticatedUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,24 +28,43 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.securityContext;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -44,6 +72,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SecuredControllerTest
@@ -56,6 +85,12 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
     @MockBean
     private ArticleService articleService;
 
+    @MockBean
+    private ArticlePayloadService articlePayloadService;
+
+    @MockBean
+    private ArticleExportService articleExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -73,6 +108,7 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
         static List<String> shouldReturnStatusUnauthorizedOnTheForbiddenUris() {
             return List.of(
                     "/articles/something/something",
+                    "/articles/operations/article-create-0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d",
                     "/random-uri"
             );
         }
@@ -90,16 +126,57 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
             UUID idToFindBy = articleBuilder.getId();
             ArticleResponse expectedResponse = articleBuilder.buildResponse();
             String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
+            String expectedETag = ETagUtils.toETag(idToFindBy, articleBuilder.getVersion());
+
+            SerializedResponse serializedResponse = SerializedResponse.builder()
+                    .json(objectMapper.writeValueAsBytes(expectedResponse))
+                    .eTag(expectedETag)
+                    .build();
 
-            when(articleService.findById(any())).thenReturn(Optional.of(expectedResponse));
+            when(articlePayloadService.findById(any())).thenReturn(Optional.of(serializedResponse));
 
             // when, then
             mockMvc.perform(get("/articles/{id}", idToFindBy))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(content().json(expectedResponseJson));
 
-            verify(articleService).findById(idToFindBy);
-            verifyNoMoreInteractions(articleService);
+            verify(articlePayloadService).findById(idToFindBy);
+            verifyNoMoreInteractions(articlePayloadService);
+
+            verifyNoInteractions(articleService);
+        }
+
+        @Test
+        void shouldFindGzippedById_whenGzipIsAccepted() throws Exception {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+            UUID idToFindBy = articleBuilder.getId();
+            byte[] gzippedJson = {31, -117, 8, 0};
+
+            SerializedResponse serializedResponse = SerializedResponse.builder()
+                    .json(objectMapper.writeValueAsBytes(articleBuilder.buildResponse()))
+                    .gzippedJson(gzippedJson)
+                    .eTag(ETagUtils.toETag(idToFindBy, articleBuilder.getVersion()))
+                    .build();
+
+            when(articlePayloadService.findById(any())).thenReturn(Optional.of(serializedResponse));
+
+            // when, then
+            mockMvc.perform(get("/articles/{id}", idToFindBy)
+                            .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                    .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+                    .andExpect(content().bytes(gzippedJson));
+
+            verify(articlePayloadService).findById(idToFindBy);
+            verifyNoMoreInteractions(articlePayloadService);
         }
 
         @Test
@@ -110,14 +187,86 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
 
             UUID idToFindBy = articleBuilder.getId();
 
-            when(articleService.findById(any())).thenReturn(Optional.empty());
+            when(articlePayloadService.findById(any())).thenReturn(Optional.empty());
 
             // when, then
             mockMvc.perform(get("/articles/{id}", idToFindBy))
                     .andExpect(status().isNotFound())
                     .andExpect(content().string(""));
 
-            verify(articleService).findById(idToFindBy);
+            verify(articlePayloadService).findById(idToFindBy);
+            verifyNoMoreInteractions(articlePayloadService);
+        }
+
+        @Test
+        void shouldReturnNotModified_whenIfNoneMatchIsCurrent() throws Exception {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+            UUID idToFindBy = articleBuilder.getId();
+            String currentETag = ETagUtils.toETag(idToFindBy, articleBuilder.getVersion());
+
+            when(articleService.findVersionById(any())).thenReturn(Optional.of(articleBuilder.getVersion()));
+
+            // when, then
+            mockMvc.perform(get("/articles/{id}", idToFindBy)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"outdated\", " + currentETag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, currentETag))
+                    .andExpect(content().string(""));
+
+            verify(articleService).findVersionById(idToFindBy);
+            verifyNoMoreInteractions(articleService);
+        }
+
+        @Test
+        void shouldFindById_whenIfNoneMatchIsOutdated() throws Exception {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+            UUID idToFindBy = articleBuilder.getId();
+            short currentVersion = articleBuilder.getVersion();
+            ArticleResponse expectedResponse = articleBuilder.buildResponse();
+            String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
+
+            SerializedResponse serializedResponse = SerializedResponse.builder()
+                    .json(objectMapper.writeValueAsBytes(expectedResponse))
+                    .eTag(ETagUtils.toETag(idToFindBy, currentVersion))
+                    .build();
+
+            when(articleService.findVersionById(any())).thenReturn(Optional.of(currentVersion));
+            when(articlePayloadService.findById(any())).thenReturn(Optional.of(serializedResponse));
+
+            // when, then
+            mockMvc.perform(get("/articles/{id}", idToFindBy)
+                            .header(HttpHeaders.IF_NONE_MATCH, ETagUtils.toETag(idToFindBy, (short) (currentVersion - 1))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toETag(idToFindBy, currentVersion)))
+                    .andExpect(content().json(expectedResponseJson));
+
+            verify(articleService).findVersionById(idToFindBy);
+            verifyNoMoreInteractions(articleService);
+
+            verify(articlePayloadService).findById(idToFindBy);
+            verifyNoMoreInteractions(articlePayloadService);
+        }
+
+        @Test
+        void shouldNotFindById_whenIfNoneMatchIsPresentAndVersionIsNotFound() throws Exception {
+
+            // given
+            UUID idToFindBy = ArticleTestDataBuilder.anArticle().getId();
+
+            when(articleService.findVersionById(any())).thenReturn(Optional.empty());
+
+            // when, then
+            mockMvc.perform(get("/articles/{id}", idToFindBy)
+                            .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                    .andExpect(status().isNotFound());
+
+            verify(articleService).findVersionById(idToFindBy);
             verifyNoMoreInteractions(articleService);
         }
     }
@@ -140,7 +289,7 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
             PageView<ArticleResponse> expectedResponse = pagingBuilder.aPageView(List.of(firstResponse, secondResponse));
             String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
 
-            when(articleService.findAllSortedByCreatedAtDesc(any())).thenReturn(expectedResponse);
+            when(articleService.findAllSortedByCreatedAtDesc(any(RequestedPage.class))).thenReturn(expectedResponse);
 
             // when, then
             mockMvc.perform(get("/articles")
@@ -164,7 +313,7 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
             PageView<ArticleResponse> expectedResponse = pagingBuilder.emptyPageView();
             String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
 
-            when(articleService.findAllSortedByCreatedAtDesc(any())).thenReturn(expectedResponse);
+            when(articleService.findAllSortedByCreatedAtDesc(any(RequestedPage.class))).thenReturn(expectedResponse);
 
             // when, then
             mockMvc.perform(get("/articles")
@@ -198,6 +347,28 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
 
     }
 
+    @Nested
+    class findAllSortedByCreatedAtDescUsingCursor {
+
+        @MethodSource
+        @ParameterizedTest
+        void shouldRespondWithStatus4xx_whenInvalidPageSize(int pageSize) throws Exception {
+
+            // when, then
+            mockMvc.perform(get("/articles")
+                            .queryParam("page-size", String.valueOf(pageSize))
+                    )
+                    .andExpect(status().is4xxClientError());
+
+            verifyNoInteractions(articlePayloadService);
+            verifyNoInteractions(articleService);
+        }
+
+        static List<Integer> shouldRespondWithStatus4xx_whenInvalidPageSize() {
+            return List.of(0, -10, RequestedCursorPage.MAX_SIZE + 1, Integer.MAX_VALUE);
+        }
+    }
+
     @Nested
     class findAllBySearchTermsSortedByRelevance {
 
@@ -298,6 +469,100 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
         }
     }
 
+    @Nested
+    class findAllByIdsInOrder {
+
+        @Test
+        void shouldFindAllByIds_whenIdsAreInQuery() throws Exception {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+            ArticleResponse firstResponse = articleBuilder.buildResponse();
+            ArticleResponse secondResponse = articleBuilder
+                    .withId(UUID.fromString("90d99038-92c0-45c1-a69a-58cfe93d8a20"))
+                    .buildResponse();
+
+            List<UUID> ids = List.of(firstResponse.id(), secondResponse.id());
+            List<ArticleResponse> expectedResponse = List.of(firstResponse, secondResponse);
+            String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
+
+            when(articleService.findAllByIdsInOrder(any())).thenReturn(expectedResponse);
+
+            // when, then
+            mockMvc.perform(get("/articles")
+                            .queryParam(ArticleController.IDS_REQUEST_PARAM, ids.get(0) + "," + ids.get(1))
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(expectedResponseJson, true));
+
+            verify(articleService).findAllByIdsInOrder(ids);
+            verifyNoMoreInteractions(articleService);
+        }
+
+        @Test
+        void shouldFindAllByIds_whenIdsAreInBody() throws Exception {
+
+            // given
+            ArticleResponse foundResponse = ArticleTestDataBuilder.anArticle().buildResponse();
+
+            List<UUID> ids = List.of(foundResponse.id(), UUID.fromString("90d99038-92c0-45c1-a69a-58cfe93d8a20"));
+            String requestJson = objectMapper.writeValueAsString(new ArticleIdsRequest(ids));
+
+            List<ArticleResponse> expectedResponse = List.of(foundResponse);
+            String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
+
+            when(articleService.findAllByIdsInOrder(any())).thenReturn(expectedResponse);
+
+            // when, then
+            mockMvc.perform(post("/articles/lookup")
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(requestJson)
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(expectedResponseJson, true));
+
+            verify(articleService).findAllByIdsInOrder(ids);
+            verifyNoMoreInteractions(articleService);
+        }
+
+        @Test
+        void shouldRespondWithStatus4xx_whenTooManyIdsInQuery() throws Exception {
+
+            // given
+            String ids = Stream.generate(UUID::randomUUID)
+                    .limit(CompileTimeConstants.MAX_IDS_PER_BATCH_REQUEST + 1)
+                    .map(UUID::toString)
+                    .collect(Collectors.joining(","));
+
+            // when, then
+            mockMvc.perform(get("/articles")
+                            .queryParam(ArticleController.IDS_REQUEST_PARAM, ids)
+                    )
+                    .andExpect(status().is4xxClientError());
+
+            verifyNoInteractions(articleService);
+        }
+
+        @Test
+        void shouldRespondWithStatus4xx_whenTooManyIdsInBody() throws Exception {
+
+            // given
+            List<UUID> ids = Stream.generate(UUID::randomUUID)
+                    .limit(CompileTimeConstants.MAX_IDS_PER_BATCH_REQUEST + 1)
+                    .toList();
+            String requestJson = objectMapper.writeValueAsString(new ArticleIdsRequest(ids));
+
+            // when, then
+            mockMvc.perform(post("/articles/lookup")
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(requestJson)
+                    )
+                    .andExpect(status().is4xxClientError());
+
+            verifyNoInteractions(articleService);
+        }
+    }
+
     @Nested
     class findAllByTopicsSortedByCreatedAtDesc {
 
@@ -328,7 +593,7 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
             PageView<ArticleResponse> expectedResponse = pagingBuilder.aPageView(List.of(firstResponse, secondResponse));
             String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
 
-            when(articleService.findAllByTopicsSortedByCreatedAtDesc(any(), any())).thenReturn(expectedResponse);
+            when(articleService.findAllByTopicsSortedByCreatedAtDesc(any(), any(RequestedPage.class))).thenReturn(expectedResponse);
 
             // when, then
             mockMvc.perform(get("/articles")
@@ -365,7 +630,7 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
             PageView<ArticleResponse> expectedResponse = pagingBuilder.emptyPageView();
             String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
 
-            when(articleService.findAllByTopicsSortedByCreatedAtDesc(any(), any())).thenReturn(expectedResponse);
+            when(articleService.findAllByTopicsSortedByCreatedAtDesc(any(), any(RequestedPage.class))).thenReturn(expectedResponse);
 
             // when, then
             mockMvc.perform(get("/articles")
@@ -420,6 +685,120 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
         }
     }
 
+    @Nested
+    class exportAllSortedByUpdatedAt {
+
+        private static final String EXPORTED_LINES = "{\"title\":\"first\"}\n{\"title\":\"second\"}\n";
+
+        @Test
+        void shouldExportAsNdjson() throws Exception {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+            SecurityContext securityContext = SecurityUtils.createSecurityContext(authenticatedUser);
+
+            LocalDateTime updatedSince = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+            doAnswer(invocation -> writeExportedLines(invocation.getArgument(1)))
+                    .when(articleExportService).exportAllSortedByUpdatedAt(any(), any());
+
+            // when
+            MvcResult startedExport = mockMvc.perform(get("/articles/export")
+                            .param(ArticleController.UPDATED_SINCE_REQUEST_PARAM, "2024-01-01T12:00:00")
+                            .with(securityContext(securityContext))
+                    ).andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(startedExport))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(EXPORTED_LINES));
+
+            InOrder inOrder = inOrder(articleExportService);
+            inOrder.verify(articleExportService).authorizeExport(authenticatedUser);
+            inOrder.verify(articleExportService).exportAllSortedByUpdatedAt(eq(updatedSince), any());
+            verifyNoMoreInteractions(articleExportService);
+        }
+
+        @Test
+        void shouldExportGzipped_whenGzipIsAccepted() throws Exception {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+            SecurityContext securityContext = SecurityUtils.createSecurityContext(authenticatedUser);
+
+            doAnswer(invocation -> writeExportedLines(invocation.getArgument(1)))
+                    .when(articleExportService).exportAllSortedByUpdatedAt(any(), any());
+
+            // when
+            MvcResult startedExport = mockMvc.perform(get("/articles/export")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                            .with(securityContext(securityContext))
+                    ).andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            MvcResult finishedExport = mockMvc.perform(asyncDispatch(startedExport))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andReturn();
+
+            byte[] gzippedLines = finishedExport.getResponse().getContentAsByteArray();
+            assertThat(gunzip(gzippedLines)).isEqualTo(EXPORTED_LINES);
+
+            verify(articleExportService).authorizeExport(authenticatedUser);
+            verify(articleExportService).exportAllSortedByUpdatedAt(eq(null), any());
+            verifyNoMoreInteractions(articleExportService);
+        }
+
+        @Test
+        void shouldRespondWithStatusForbidden_whenExportIsNotAuthorized() throws Exception {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+            SecurityContext securityContext = SecurityUtils.createSecurityContext(authenticatedUser);
+
+            doThrow(new AccessDeniedException("export is not allowed"))
+                    .when(articleExportService).authorizeExport(any());
+
+            // when, then
+            mockMvc.perform(get("/articles/export")
+                            .with(securityContext(securityContext))
+                    )
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isForbidden());
+
+            verify(articleExportService).authorizeExport(authenticatedUser);
+            verifyNoMoreInteractions(articleExportService);
+        }
+
+        @Test
+        void shouldNotExport_whenNotAuthenticated() throws Exception {
+
+            // when, then
+            mockMvc.perform(get("/articles/export"))
+                    .andExpect(status().isUnauthorized());
+
+            verifyNoInteractions(articleExportService);
+        }
+
+        private static Void writeExportedLines(OutputStream outputStream) throws IOException {
+
+            outputStream.write(EXPORTED_LINES.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }
+
+        private static String gunzip(byte[] gzipped) throws IOException {
+
+            try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+                return new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
     @Nested
     class create {
 
@@ -458,6 +837,48 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
             verifyNoMoreInteractions(articleService);
         }
 
+        @Test
+        void shouldStartCreation_WhenRespondAsyncIsPreferred() throws Exception {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+            SecurityContext securityContext = SecurityUtils.createSecurityContext(authenticatedUser);
+
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+            ArticleRequest articleRequest = articleBuilder.buildRequest();
+            UUID idempotencyTokenValue = UUID.fromString("ab43236d-f11b-4a54-9fbb-e271fdabb949");
+
+            var createRequest = new CreateRequestDTO<>(
+                    idempotencyTokenValue,
+                    articleRequest
+            );
+            String createRequestJson = objectMapper.writeValueAsString(createRequest);
+
+            ArticleOperationResponse operation = ArticleOperationResponse.builder()
+                    .id("article-create-" + articleBuilder.getId())
+                    .status(ArticleOperationResponse.Status.RUNNING)
+                    .articleId(articleBuilder.getId())
+                    .build();
+            String expectedResponseJson = objectMapper.writeValueAsString(operation);
+
+            when(articleService.startCreate(any(), any(), any())).thenReturn(operation);
+
+            // when, then
+            mockMvc.perform(post("/articles")
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(createRequestJson)
+                            .header(PreferUtils.PREFER, "respond-async, wait=10")
+                            .with(securityContext(securityContext))
+                    ).andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, "/articles/operations/" + operation.id()))
+                    .andExpect(header().string(PreferUtils.PREFERENCE_APPLIED, PreferUtils.RESPOND_ASYNC))
+                    .andExpect(content().json(expectedResponseJson));
+
+            verify(articleService).startCreate(articleRequest, idempotencyTokenValue, authenticatedUser);
+            verifyNoMoreInteractions(articleService);
+        }
+
         @Test
         void shouldNotCreate_OnInvalidCreateRequest() throws Exception {
 
@@ -482,6 +903,59 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
         }
     }
 
+    @Nested
+    class findOperationById {
+
+        @Test
+        void shouldFindOperation_WhenFoundInService() throws Exception {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+            SecurityContext securityContext = SecurityUtils.createSecurityContext(authenticatedUser);
+
+            String operationId = "article-create-0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d";
+            ArticleOperationResponse operation = ArticleOperationResponse.builder()
+                    .id(operationId)
+                    .status(ArticleOperationResponse.Status.FAILED)
+                    .articleId(UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d"))
+                    .failureType("IdempotencyTokenExistsException")
+                    .failureMessage("Idempotency token has been used already")
+                    .build();
+            String expectedResponseJson = objectMapper.writeValueAsString(operation);
+
+            when(articleService.findOperationById(any(), any())).thenReturn(Optional.of(operation));
+
+            // when, then
+            mockMvc.perform(get("/articles/operations/{operationId}", operationId)
+                            .with(securityContext(securityContext))
+                    ).andExpect(status().isOk())
+                    .andExpect(content().json(expectedResponseJson));
+
+            verify(articleService).findOperationById(operationId, authenticatedUser);
+            verifyNoMoreInteractions(articleService);
+        }
+
+        @Test
+        void shouldReturnNotFound_WhenNotFoundInService() throws Exception {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+            SecurityContext securityContext = SecurityUtils.createSecurityContext(authenticatedUser);
+
+            String operationId = "article-create-0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d";
+
+            when(articleService.findOperationById(any(), any())).thenReturn(Optional.empty());
+
+            // when, then
+            mockMvc.perform(get("/articles/operations/{operationId}", operationId)
+                            .with(securityContext(securityContext))
+                    ).andExpect(status().isNotFound());
+
+            verify(articleService).findOperationById(operationId, authenticatedUser);
+            verifyNoMoreInteractions(articleService);
+        }
+    }
+
     @Nested
     class updateById {
 
@@ -516,6 +990,48 @@ class ArticleControllerTests extends HavingSecurityMocksPrepared {
             verifyNoMoreInteractions(articleService);
         }
 
+        @Test
+        void shouldStartUpdate_WhenRespondAsyncIsPreferred() throws Exception {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+            SecurityContext securityContext = SecurityUtils.createSecurityContext(authenticatedUser);
+
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+            ArticleRequest articleRequest = articleBuilder.buildRequest();
+            UUID idToUpdateBy = articleBuilder.getId();
+            short version = articleBuilder.getVersion();
+
+            var updateRequestDTO = new UpdateRequestDTO<>(
+                    version,
+                    articleRequest
+            );
+            String updateRequestJson = objectMapper.writeValueAsString(updateRequestDTO);
+
+            ArticleOperationResponse operation = ArticleOperationResponse.builder()
+                    .id("article-update-" + idToUpdateBy + "-0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d")
+                    .status(ArticleOperationResponse.Status.RUNNING)
+                    .articleId(idToUpdateBy)
+                    .build();
+            String expectedResponseJson = objectMapper.writeValueAsString(operation);
+
+            when(articleService.startUpdateById(any(), any(), any(Short.class), any())).thenReturn(operation);
+
+            // when, then
+            mockMvc.perform(put("/articles/{id}", idToUpdateBy)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(updateRequestJson)
+                            .header(PreferUtils.PREFER, PreferUtils.RESPOND_ASYNC)
+                            .with(securityContext(securityContext))
+                    ).andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, "/articles/operations/" + operation.id()))
+                    .andExpect(content().json(expectedResponseJson));
+
+            verify(articleService).startUpdateById(idToUpdateBy, articleRequest, version, authenticatedUser);
+            verifyNoMoreInteractions(articleService);
+        }
+
 
         @Test
         void shouldNotUpdate_onInvalidUpdateRequest() throws Exception {
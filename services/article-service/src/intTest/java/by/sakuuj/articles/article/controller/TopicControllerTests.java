@@ -9,6 +9,7 @@ import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.TopicResponse;
 import by.sakuuj.articles.article.dto.UpdateRequestDTO;
 import by.sakuuj.articles.article.service.TopicService;
+import by.sakuuj.articles.article.utils.ETagUtils;
 import by.sakuuj.articles.security.AuthenticatedUser;
 import by.sakuuj.articles.paging.PageView;
 import by.sakuuj.articles.paging.RequestedPage;
@@ -94,6 +95,7 @@ class TopicControllerTests extends HavingSecurityMocksPrepared {
             // when, then
             mockMvc.perform(get("/topics/{id}", id))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toETag(id, topicBuilder.getVersion())))
                     .andExpect(MockMvcResultMatchers.content().json(expectedJsonResponse));
 
             verify(topicService).findById(id);
@@ -117,6 +119,71 @@ class TopicControllerTests extends HavingSecurityMocksPrepared {
             verify(topicService).findById(id);
             verifyNoMoreInteractions(topicService);
         }
+
+        @Test
+        void shouldReturnNotModified_whenIfNoneMatchIsCurrent() throws Exception {
+
+            // given
+            TopicTestDataBuilder topicBuilder = TopicTestDataBuilder.aTopic();
+
+            UUID idToFindBy = topicBuilder.getId();
+            String currentETag = ETagUtils.toETag(idToFindBy, topicBuilder.getVersion());
+
+            when(topicService.findVersionById(any())).thenReturn(Optional.of(topicBuilder.getVersion()));
+
+            // when, then
+            mockMvc.perform(get("/topics/{id}", idToFindBy)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"outdated\", " + currentETag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, currentETag))
+                    .andExpect(content().string(""));
+
+            verify(topicService).findVersionById(idToFindBy);
+            verifyNoMoreInteractions(topicService);
+        }
+
+        @Test
+        void shouldFindById_whenIfNoneMatchIsOutdated() throws Exception {
+
+            // given
+            TopicTestDataBuilder topicBuilder = TopicTestDataBuilder.aTopic();
+
+            UUID idToFindBy = topicBuilder.getId();
+            short currentVersion = topicBuilder.getVersion();
+            TopicResponse expectedResponse = topicBuilder.buildResponse();
+            String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
+
+            when(topicService.findVersionById(any())).thenReturn(Optional.of(currentVersion));
+            when(topicService.findById(any())).thenReturn(Optional.of(expectedResponse));
+
+            // when, then
+            mockMvc.perform(get("/topics/{id}", idToFindBy)
+                            .header(HttpHeaders.IF_NONE_MATCH, ETagUtils.toETag(idToFindBy, (short) (currentVersion - 1))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toETag(idToFindBy, currentVersion)))
+                    .andExpect(content().json(expectedResponseJson));
+
+            verify(topicService).findVersionById(idToFindBy);
+            verify(topicService).findById(idToFindBy);
+            verifyNoMoreInteractions(topicService);
+        }
+
+        @Test
+        void shouldNotFindById_whenIfNoneMatchIsPresentAndVersionIsNotFound() throws Exception {
+
+            // given
+            UUID idToFindBy = TopicTestDataBuilder.aTopic().getId();
+
+            when(topicService.findVersionById(any())).thenReturn(Optional.empty());
+
+            // when, then
+            mockMvc.perform(get("/topics/{id}", idToFindBy)
+                            .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                    .andExpect(status().isNotFound());
+
+            verify(topicService).findVersionById(idToFindBy);
+            verifyNoMoreInteractions(topicService);
+        }
     }
 
     @Nested
@@ -0,0 +1,237 @@
+package by.sakuuj.articles.article.orchestration;
+
+import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
+import by.sakuuj.articles.article.dto.ArticleRequest;
+import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
+import by.sakuuj.articles.entity.jpa.generators.UuidV7Generator;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.temporal.api.common.v1.Payloads;
+import io.temporal.api.enums.v1.EventType;
+import io.temporal.api.history.v1.History;
+import io.temporal.api.history.v1.HistoryEvent;
+import io.temporal.api.history.v1.WorkflowExecutionCompletedEventAttributes;
+import io.temporal.api.workflowservice.v1.GetSystemInfoRequest;
+import io.temporal.api.workflowservice.v1.GetSystemInfoResponse;
+import io.temporal.api.workflowservice.v1.GetWorkflowExecutionHistoryRequest;
+import io.temporal.api.workflowservice.v1.GetWorkflowExecutionHistoryResponse;
+import io.temporal.api.workflowservice.v1.StartWorkflowExecutionRequest;
+import io.temporal.api.workflowservice.v1.StartWorkflowExecutionResponse;
+import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc;
+import io.temporal.client.WorkflowClient;
+import io.temporal.common.converter.DefaultDataConverter;
+import io.temporal.serviceclient.WorkflowServiceStubs;
+import io.temporal.serviceclient.WorkflowServiceStubsOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput of blocking article creations served by 8 platform threads,
+ * the former Tomcat limit, and by a virtual thread per request.
+ * <p>
+ * Excluded from {@code intTest}, run with {@code gradle :services:article-service:benchmark}.
+ * <p>
+ * The Temporal frontend is replaced by an in-process gRPC service that completes every workflow
+ * after the usual duration of its activities without doing any work, so that only the threads
+ * blocked in the Temporal client are measured: the in-memory test server itself
+ * can not run more than a few dozens of workflows per second.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BlockingWorkflowCallsBenchmark {
+
+    private static final int PLATFORM_THREADS = 8;
+
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final int WARMUP_REQUESTS = 200;
+
+    private static final long WORKFLOW_DURATION_MS = 50;
+
+    private static final String SERVER_NAME = BlockingWorkflowCallsBenchmark.class.getSimpleName();
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private WorkflowServiceStubs workflowServiceStubs;
+
+    private OrchestratedArticleService orchestratedArticleService;
+
+    @BeforeAll
+    void startTemporalFrontend() throws Exception {
+
+        server = InProcessServerBuilder.forName(SERVER_NAME)
+                .addService(new CompletingAfterDelayWorkflowService())
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(SERVER_NAME).build();
+
+        workflowServiceStubs = WorkflowServiceStubs.newServiceStubs(WorkflowServiceStubsOptions.newBuilder()
+                .setChannel(channel)
+                .build()
+        );
+        orchestratedArticleService = new OrchestratedArticleServiceImpl(
+                WorkflowClient.newInstance(workflowServiceStubs),
+                workflowServiceStubs
+        );
+    }
+
+    @AfterAll
+    void stopTemporalFrontend() throws Exception {
+        workflowServiceStubs.shutdownNow();
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination();
+    }
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+
+        Supplier<ExecutorService> platformThreads = () -> Executors.newFixedThreadPool(PLATFORM_THREADS);
+        Supplier<ExecutorService> virtualThreads = Executors::newVirtualThreadPerTaskExecutor;
+
+        createConcurrently(platformThreads, WARMUP_REQUESTS);
+        createConcurrently(virtualThreads, WARMUP_REQUESTS);
+
+        long platformThreadsMillis = createConcurrently(platformThreads, CONCURRENT_REQUESTS);
+        long virtualThreadsMillis = createConcurrently(virtualThreads, CONCURRENT_REQUESTS);
+
+        log.info("%n%20s %10s %14s%n%20s %10d %14d%n%20s %10d %14d%n".formatted(
+                "threads", "total, ms", "requests/s",
+                PLATFORM_THREADS + " platform", platformThreadsMillis, throughput(platformThreadsMillis),
+                "virtual", virtualThreadsMillis, throughput(virtualThreadsMillis)
+        ));
+
+        assertThat(virtualThreadsMillis).isLessThan(platformThreadsMillis);
+    }
+
+    private long createConcurrently(Supplier<ExecutorService> executorSupplier, int requests) throws Exception {
+
+        ArticleRequest articleRequest = ArticleTestDataBuilder.anArticle().buildRequest();
+        UUID clientId = UUID.fromString("453060c1-e4fe-4a18-9075-74d89252f84e");
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = executorSupplier.get()) {
+
+            List<Future<ArticleIdAndVersion>> responses = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+
+                IdempotencyTokenId idempotencyTokenId = IdempotencyTokenId.builder()
+                        .clientId(clientId)
+                        .idempotencyTokenValue(UUID.randomUUID())
+                        .build();
+
+                responses.add(executor.submit(() -> orchestratedArticleService.create(
+                        articleRequest,
+                        idempotencyTokenId,
+                        UuidV7Generator.generateUuid()
+                )));
+            }
+
+            for (Future<ArticleIdAndVersion> response : responses) {
+                assertThat(getOrThrow(response)).isNotNull();
+            }
+        }
+
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static ArticleIdAndVersion getOrThrow(Future<ArticleIdAndVersion> response) throws InterruptedException {
+
+        try {
+            return response.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static long throughput(long totalMillis) {
+        return CONCURRENT_REQUESTS * 1_000L / Math.max(totalMillis, 1);
+    }
+
+    /**
+     * Answers the history long poll of a workflow once the workflow duration has passed since its start,
+     * no thread is blocked meanwhile
+     */
+    private static class CompletingAfterDelayWorkflowService extends WorkflowServiceGrpc.WorkflowServiceImplBase {
+
+        private final Executor afterWorkflowDuration = CompletableFuture.delayedExecutor(
+                WORKFLOW_DURATION_MS,
+                TimeUnit.MILLISECONDS
+        );
+
+        private final Map<String, CompletableFuture<Void>> completions = new ConcurrentHashMap<>();
+
+        private final Payloads result = DefaultDataConverter.STANDARD_INSTANCE
+                .toPayloads(new ArticleIdAndVersion(UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d"), (short) 0))
+                .orElseThrow();
+
+        @Override
+        public void getSystemInfo(GetSystemInfoRequest request, StreamObserver<GetSystemInfoResponse> responseObserver) {
+            responseObserver.onNext(GetSystemInfoResponse.getDefaultInstance());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void startWorkflowExecution(StartWorkflowExecutionRequest request,
+                                           StreamObserver<StartWorkflowExecutionResponse> responseObserver) {
+
+            completions.put(request.getWorkflowId(), CompletableFuture.runAsync(() -> {
+            }, afterWorkflowDuration));
+
+            responseObserver.onNext(StartWorkflowExecutionResponse.newBuilder()
+                    .setRunId(UUID.randomUUID().toString())
+                    .build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getWorkflowExecutionHistory(GetWorkflowExecutionHistoryRequest request,
+                                                StreamObserver<GetWorkflowExecutionHistoryResponse> responseObserver) {
+
+            String workflowId = request.getExecution().getWorkflowId();
+
+            completions.remove(workflowId).thenRun(() -> {
+
+                HistoryEvent completedEvent = HistoryEvent.newBuilder()
+                        .setEventId(1)
+                        .setEventType(EventType.EVENT_TYPE_WORKFLOW_EXECUTION_COMPLETED)
+                        .setWorkflowExecutionCompletedEventAttributes(WorkflowExecutionCompletedEventAttributes.newBuilder()
+                                .setResult(result)
+                                .build())
+                        .build();
+
+                responseObserver.onNext(GetWorkflowExecutionHistoryResponse.newBuilder()
+                        .setHistory(History.newBuilder()
+                                .addEvents(completedEvent)
+                                .build())
+                        .build());
+                responseObserver.onCompleted();
+            });
+        }
+    }
+}
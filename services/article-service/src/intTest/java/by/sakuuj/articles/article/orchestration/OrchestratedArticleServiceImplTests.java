@@ -0,0 +1,274 @@
+package by.sakuuj.articles.article.orchestration;
+
+import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
+import by.sakuuj.articles.article.dto.ArticleRequest;
+import by.sakuuj.articles.article.exception.IdempotencyTokenExistsException;
+import by.sakuuj.articles.article.orchestration.activities.CreateArticleActivities;
+import by.sakuuj.articles.article.orchestration.workflows.CreateArticleWorkflowImpl;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
+import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowStub;
+import io.temporal.failure.ApplicationFailure;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.worker.Worker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class OrchestratedArticleServiceImplTests {
+
+    private static final UUID CLIENT_ID = UUID.fromString("453060c1-e4fe-4a18-9075-74d89252f84e");
+
+    private TestWorkflowEnvironment workflowEnv;
+
+    private CreateArticleActivities activities;
+
+    private OrchestratedArticleServiceImpl orchestratedArticleService;
+
+    @BeforeEach
+    void startWorkflowEnv() {
+
+        workflowEnv = TestWorkflowEnvironment.newInstance();
+
+        activities = Mockito.mock(CreateArticleActivities.class, withSettings().withoutAnnotations());
+
+        Worker worker = workflowEnv.newWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME);
+        worker.registerWorkflowImplementationTypes(CreateArticleWorkflowImpl.class);
+        worker.registerActivitiesImplementations(activities);
+
+        workflowEnv.start();
+
+        orchestratedArticleService = new OrchestratedArticleServiceImpl(
+                workflowEnv.getWorkflowClient(),
+                workflowEnv.getWorkflowServiceStubs()
+        );
+    }
+
+    @AfterEach
+    void closeWorkflowEnv() {
+        workflowEnv.close();
+    }
+
+    @Test
+    void shouldReturnCompletedOperation_WithIdOfCreatedArticle() {
+
+        // given
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+        ArticleRequest articleRequest = articleBuilder.buildRequest();
+        ArticleIdAndVersion article = new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion());
+
+        UUID articleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenReturn(article);
+
+        // when
+        ArticleOperationResponse started = orchestratedArticleService.startCreate(
+                articleRequest,
+                idempotencyTokenId(),
+                articleId
+        );
+        awaitCompletion(started.id());
+
+        Optional<ArticleOperationResponse> actual = orchestratedArticleService.findOperationById(started.id(), CLIENT_ID);
+
+        // then
+        assertThat(started.status()).isEqualTo(ArticleOperationResponse.Status.RUNNING);
+        assertThat(started.articleId()).isEqualTo(articleId);
+
+        assertThat(actual).contains(ArticleOperationResponse.builder()
+                .id(started.id())
+                .status(ArticleOperationResponse.Status.COMPLETED)
+                .articleId(article.id())
+                .build());
+    }
+
+    @Test
+    void shouldReturnFailedOperation_WithUnderlyingExceptionType() {
+
+        // given
+        ArticleRequest articleRequest = ArticleTestDataBuilder.anArticle().buildRequest();
+
+        UUID articleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenThrow(new IdempotencyTokenExistsException());
+
+        // when
+        ArticleOperationResponse started = orchestratedArticleService.startCreate(
+                articleRequest,
+                idempotencyTokenId(),
+                articleId
+        );
+        awaitCompletion(started.id());
+
+        Optional<ArticleOperationResponse> actual = orchestratedArticleService.findOperationById(started.id(), CLIENT_ID);
+
+        // then
+        assertThat(actual).hasValueSatisfying(operation -> {
+            assertThat(operation.status()).isEqualTo(ArticleOperationResponse.Status.FAILED);
+            assertThat(operation.articleId()).isEqualTo(articleId);
+            assertThat(operation.failureType()).isEqualTo(IdempotencyTokenExistsException.class.getSimpleName());
+        });
+    }
+
+    @Test
+    void shouldReturnResultOfFirstCreation_WhenRetriedWithSameIdempotencyToken() {
+
+        // given
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+        ArticleRequest articleRequest = articleBuilder.buildRequest();
+        ArticleIdAndVersion article = new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion());
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenReturn(article);
+
+        ArticleIdAndVersion created = orchestratedArticleService.create(
+                articleRequest,
+                idempotencyTokenId(),
+                articleBuilder.getId()
+        );
+
+        // when
+        ArticleIdAndVersion actual = orchestratedArticleService.create(
+                articleRequest,
+                idempotencyTokenId(),
+                UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d")
+        );
+
+        // then
+        assertThat(actual).isEqualTo(created);
+
+        verify(activities).saveInDatabase(any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnFirstOperation_WhenStartedAgainWithSameIdempotencyToken() {
+
+        // given
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+        ArticleRequest articleRequest = articleBuilder.buildRequest();
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenReturn(new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion()));
+
+        ArticleOperationResponse started = orchestratedArticleService.startCreate(
+                articleRequest,
+                idempotencyTokenId(),
+                articleBuilder.getId()
+        );
+        awaitCompletion(started.id());
+
+        // when
+        ArticleOperationResponse actual = orchestratedArticleService.startCreate(
+                articleRequest,
+                idempotencyTokenId(),
+                UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d")
+        );
+
+        // then
+        assertThat(actual).isEqualTo(ArticleOperationResponse.builder()
+                .id(started.id())
+                .status(ArticleOperationResponse.Status.COMPLETED)
+                .articleId(articleBuilder.getId())
+                .build());
+
+        verify(activities).saveInDatabase(any(), any(), any());
+    }
+
+    @Test
+    void shouldCreateAgain_WhenRetriedAfterFailedCreation() {
+
+        // given
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+        ArticleRequest articleRequest = articleBuilder.buildRequest();
+        ArticleIdAndVersion article = new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion());
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenThrow(new IdempotencyTokenExistsException())
+                .thenReturn(article);
+
+        assertThatThrownBy(() -> orchestratedArticleService.create(articleRequest, idempotencyTokenId(), article.id()))
+                .isInstanceOf(ApplicationFailure.class);
+
+        // when
+        ArticleIdAndVersion actual = orchestratedArticleService.create(articleRequest, idempotencyTokenId(), article.id());
+
+        // then
+        assertThat(actual).isEqualTo(article);
+
+        verify(activities, times(2)).saveInDatabase(any(), any(), any());
+    }
+
+    @Test
+    void shouldNotFindOperation_StartedByAnotherClient() {
+
+        // given
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenReturn(new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion()));
+
+        ArticleOperationResponse started = orchestratedArticleService.startCreate(
+                articleBuilder.buildRequest(),
+                idempotencyTokenId(),
+                UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d")
+        );
+
+        // when
+        Optional<ArticleOperationResponse> actual = orchestratedArticleService.findOperationById(
+                started.id(),
+                UUID.fromString("9b0c1d2e-3f4a-4b5c-8d6e-7f8091a2b3c4")
+        );
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldNotFindOperation_ThatDoesNotExist() {
+
+        // when
+        Optional<ArticleOperationResponse> actual = orchestratedArticleService.findOperationById(
+                "article-create-0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d",
+                CLIENT_ID
+        );
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    private static IdempotencyTokenId idempotencyTokenId() {
+
+        return IdempotencyTokenId.builder()
+                .idempotencyTokenValue(UUID.fromString("cef9d95f-2197-4d4d-82eb-a7ab5090eccf"))
+                .clientId(CLIENT_ID)
+                .build();
+    }
+
+    private void awaitCompletion(String operationId) {
+
+        WorkflowClient workflowClient = workflowEnv.getWorkflowClient();
+        WorkflowStub workflow = workflowClient.newUntypedWorkflowStub(operationId);
+        try {
+            workflow.getResult(ArticleIdAndVersion.class);
+        } catch (RuntimeException ignored) {
+            // failed operations are asserted by their status
+        }
+    }
+}
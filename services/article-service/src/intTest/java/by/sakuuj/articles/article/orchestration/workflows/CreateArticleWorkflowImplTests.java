@@ -1,24 +1,36 @@
 package by.sakuuj.articles.article.orchestration.workflows;
 
 import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.orchestration.activities.CreateArticleActivities;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import io.temporal.activity.ActivityOptions;
+import io.temporal.api.enums.v1.EventType;
+import io.temporal.api.history.v1.HistoryEvent;
+import io.temporal.client.WorkflowClient;
 import io.temporal.client.WorkflowFailedException;
+import io.temporal.client.WorkflowOptions;
+import io.temporal.common.RetryOptions;
+import io.temporal.common.WorkflowExecutionHistory;
 import io.temporal.testing.TestWorkflowEnvironment;
 import io.temporal.testing.TestWorkflowExtension;
+import io.temporal.testing.WorkflowReplayer;
 import io.temporal.worker.Worker;
+import io.temporal.workflow.Functions;
+import io.temporal.workflow.Workflow;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
-import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -41,7 +53,7 @@ class CreateArticleWorkflowImplTests {
     }
 
     @Test
-    void shouldSaveInDatabase_AndThenSendDocumentEvent_WhenNoErrors(
+    void shouldSaveInDatabase_WithoutSendingDocumentEvent_WhenNoErrors(
             TestWorkflowEnvironment workflowEnv,
             CreateArticleWorkflow workflow,
             Worker worker
@@ -54,25 +66,23 @@ class CreateArticleWorkflowImplTests {
                 .idempotencyTokenValue(UUID.fromString("cef9d95f-2197-4d4d-82eb-a7ab5090eccf"))
                 .clientId(UUID.fromString("453060c1-e4fe-4a18-9075-74d89252f84e"))
                 .build();
+        UUID articleId = articleBuilder.getId();
 
-        ArticleResponse expected = articleBuilder.buildResponse();
+        ArticleIdAndVersion expected = new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion());
 
-        when(activities.saveInDatabase(any(), any()))
+        when(activities.saveInDatabase(any(), any(), any()))
                 .thenReturn(expected);
 
         worker.registerActivitiesImplementations(activities);
 
         workflowEnv.start();
 
-        ArticleResponse actual = workflow.createArticle(articleRequest, idempotencyTokenId);
+        ArticleIdAndVersion actual = workflow.createArticle(articleRequest, idempotencyTokenId, articleId);
 
         assertThat(actual).isEqualTo(expected);
 
-        InOrder inOrder = Mockito.inOrder(activities);
-        inOrder.verify(activities).saveInDatabase(articleRequest, idempotencyTokenId);
-        inOrder.verify(activities).sendSaveDocumentEvent(expected);
-
-        inOrder.verifyNoMoreInteractions();
+        verify(activities).saveInDatabase(articleRequest, idempotencyTokenId, articleId);
+        verifyNoMoreInteractions(activities);
     }
 
     @Test
@@ -89,18 +99,171 @@ class CreateArticleWorkflowImplTests {
                 .idempotencyTokenValue(UUID.fromString("cef9d95f-2197-4d4d-82eb-a7ab5090eccf"))
                 .clientId(UUID.fromString("453060c1-e4fe-4a18-9075-74d89252f84e"))
                 .build();
+        UUID articleId = articleBuilder.getId();
 
-        doThrow(new RuntimeException("ERROR")).when(activities).saveInDatabase(articleRequest, idempotencyTokenId);
+        doThrow(new RuntimeException("ERROR")).when(activities).saveInDatabase(articleRequest, idempotencyTokenId, articleId);
 
         worker.registerActivitiesImplementations(activities);
 
         workflowEnv.start();
 
-        assertThatThrownBy(() -> workflow.createArticle(articleRequest, idempotencyTokenId))
+        assertThatThrownBy(() -> workflow.createArticle(articleRequest, idempotencyTokenId, articleId))
                 .isInstanceOf(WorkflowFailedException.class);
 
-        verify(activities, times(1)).saveInDatabase(articleRequest, idempotencyTokenId);
+        verify(activities, times(1)).saveInDatabase(articleRequest, idempotencyTokenId, articleId);
 
         verifyNoMoreInteractions(activities);
     }
+
+    @Test
+    void shouldSaveInDatabase_AsLocalActivity_WhenLocalDatabaseActivityEnabled() {
+
+        CreateArticleActivities activities = Mockito.mock(CreateArticleActivities.class, withSettings().withoutAnnotations());
+
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+        ArticleRequest articleRequest = articleBuilder.buildRequest();
+        IdempotencyTokenId idempotencyTokenId = IdempotencyTokenId.builder()
+                .idempotencyTokenValue(UUID.fromString("cef9d95f-2197-4d4d-82eb-a7ab5090eccf"))
+                .clientId(UUID.fromString("453060c1-e4fe-4a18-9075-74d89252f84e"))
+                .build();
+        UUID articleId = articleBuilder.getId();
+
+        ArticleIdAndVersion expected = new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion());
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenReturn(expected);
+
+        try (TestWorkflowEnvironment workflowEnv = TestWorkflowEnvironment.newInstance()) {
+
+            Worker worker = workflowEnv.newWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME);
+            worker.registerWorkflowImplementationFactory(
+                    CreateArticleWorkflow.class,
+                    () -> new CreateArticleWorkflowImpl(true)
+            );
+            worker.registerActivitiesImplementations(activities);
+
+            workflowEnv.start();
+
+            String workflowId = "create-article-local-activity";
+            WorkflowClient workflowClient = workflowEnv.getWorkflowClient();
+            CreateArticleWorkflow workflow = workflowClient.newWorkflowStub(
+                    CreateArticleWorkflow.class,
+                    WorkflowOptions.newBuilder()
+                            .setTaskQueue(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME)
+                            .setWorkflowId(workflowId)
+                            .build()
+            );
+
+            ArticleIdAndVersion actual = workflow.createArticle(articleRequest, idempotencyTokenId, articleId);
+
+            assertThat(actual).isEqualTo(expected);
+
+            verify(activities).saveInDatabase(articleRequest, idempotencyTokenId, articleId);
+
+            long scheduledActivities = workflowClient.fetchHistory(workflowId).getEvents().stream()
+                    .map(HistoryEvent::getEventType)
+                    .filter(EventType.EVENT_TYPE_ACTIVITY_TASK_SCHEDULED::equals)
+                    .count();
+
+            assertThat(scheduledActivities).isZero();
+        }
+    }
+
+    @Test
+    void shouldReplay_WhenWorkflowHasBeenStartedBeforeLocalDatabaseActivity() throws Exception {
+
+        WorkflowExecutionHistory history = runAndFetchHistory(CreateArticleWorkflowBeforeLocalDatabaseActivity::new);
+
+        try (TestWorkflowEnvironment workflowEnv = TestWorkflowEnvironment.newInstance()) {
+
+            Worker worker = workflowEnv.newWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME);
+            worker.registerWorkflowImplementationFactory(
+                    CreateArticleWorkflow.class,
+                    () -> new CreateArticleWorkflowImpl(true)
+            );
+
+            assertThatNoException().isThrownBy(() -> WorkflowReplayer.replayWorkflowExecution(history, worker));
+        }
+    }
+
+    @Test
+    void shouldReplay_WhenLocalDatabaseActivityHasBeenDisabledSinceWorkflowStart() throws Exception {
+
+        WorkflowExecutionHistory history = runAndFetchHistory(() -> new CreateArticleWorkflowImpl(true));
+
+        try (TestWorkflowEnvironment workflowEnv = TestWorkflowEnvironment.newInstance()) {
+
+            Worker worker = workflowEnv.newWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME);
+            worker.registerWorkflowImplementationFactory(
+                    CreateArticleWorkflow.class,
+                    () -> new CreateArticleWorkflowImpl(false)
+            );
+
+            assertThatNoException().isThrownBy(() -> WorkflowReplayer.replayWorkflowExecution(history, worker));
+        }
+    }
+
+    private static WorkflowExecutionHistory runAndFetchHistory(Functions.Func<CreateArticleWorkflow> workflowFactory) {
+
+        CreateArticleActivities activities = Mockito.mock(CreateArticleActivities.class, withSettings().withoutAnnotations());
+
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+        IdempotencyTokenId idempotencyTokenId = IdempotencyTokenId.builder()
+                .idempotencyTokenValue(UUID.fromString("cef9d95f-2197-4d4d-82eb-a7ab5090eccf"))
+                .clientId(UUID.fromString("453060c1-e4fe-4a18-9075-74d89252f84e"))
+                .build();
+
+        when(activities.saveInDatabase(any(), any(), any()))
+                .thenReturn(new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion()));
+
+        try (TestWorkflowEnvironment workflowEnv = TestWorkflowEnvironment.newInstance()) {
+
+            Worker worker = workflowEnv.newWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME);
+            worker.registerWorkflowImplementationFactory(CreateArticleWorkflow.class, workflowFactory);
+            worker.registerActivitiesImplementations(activities);
+
+            workflowEnv.start();
+
+            String workflowId = "create-article-replay";
+            WorkflowClient workflowClient = workflowEnv.getWorkflowClient();
+            CreateArticleWorkflow workflow = workflowClient.newWorkflowStub(
+                    CreateArticleWorkflow.class,
+                    WorkflowOptions.newBuilder()
+                            .setTaskQueue(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME)
+                            .setWorkflowId(workflowId)
+                            .build()
+            );
+
+            workflow.createArticle(articleBuilder.buildRequest(), idempotencyTokenId, articleBuilder.getId());
+
+            return workflowClient.fetchHistory(workflowId);
+        }
+    }
+
+    /**
+     * The workflow as it has been before the database step could run as a local activity
+     */
+    static class CreateArticleWorkflowBeforeLocalDatabaseActivity implements CreateArticleWorkflow {
+
+        private final CreateArticleActivities activities = Workflow.newActivityStub(
+                CreateArticleActivities.class,
+                ActivityOptions.newBuilder()
+                        .setRetryOptions(RetryOptions.newBuilder()
+                                .setMaximumAttempts(1)
+                                .build())
+                        .setScheduleToCloseTimeout(Duration.ofSeconds(5))
+                        .build()
+        );
+
+        @Override
+        public ArticleIdAndVersion createArticle(ArticleRequest articleRequest,
+                                                 IdempotencyTokenId idempotencyTokenId,
+                                                 UUID articleId) {
+
+            ArticleIdAndVersion article = activities.saveInDatabase(articleRequest, idempotencyTokenId, articleId);
+            activities.sendSaveDocumentEvent(article);
+
+            return article;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package by.sakuuj.articles.article.orchestration.workflows;
+
+import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
+import by.sakuuj.articles.article.dto.ArticleRequest;
+import by.sakuuj.articles.article.orchestration.activities.CreateArticleActivities;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
+import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowOptions;
+import io.temporal.testing.TestEnvironmentOptions;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.worker.Worker;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares latency of sequential article creations with the database step run
+ * as a regular and as a local activity.
+ * <p>
+ * Excluded from {@code intTest}, run with {@code gradle :services:article-service:benchmark}.
+ * <p>
+ * Activities do no work, so that only the orchestration overhead is measured.
+ */
+@Slf4j
+@Tag("benchmark")
+class CreateArticleWorkflowLatencyBenchmark {
+
+    private static final int WARMUP_CREATIONS = 50;
+    private static final int MEASURED_CREATIONS = 300;
+
+    @Test
+    void compareRegularAndLocalDatabaseActivity() {
+
+        long[] regularMicros = measureCreations(false);
+        long[] localMicros = measureCreations(true);
+
+        log.info("%n%20s %10s %10s%n%20s %10d %10d%n%20s %10d %10d%n".formatted(
+                "database activity", "p50, us", "p99, us",
+                "regular", percentile(regularMicros, 50), percentile(regularMicros, 99),
+                "local", percentile(localMicros, 50), percentile(localMicros, 99)
+        ));
+
+        assertThat(percentile(localMicros, 50)).isLessThan(percentile(regularMicros, 50));
+    }
+
+    private static long[] measureCreations(boolean localDatabaseActivity) {
+
+        TestEnvironmentOptions options = TestEnvironmentOptions.newBuilder()
+                .setUseTimeskipping(false)
+                .build();
+
+        try (TestWorkflowEnvironment workflowEnv = TestWorkflowEnvironment.newInstance(options)) {
+
+            Worker worker = workflowEnv.newWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME);
+            worker.registerWorkflowImplementationFactory(
+                    CreateArticleWorkflow.class,
+                    () -> new CreateArticleWorkflowImpl(localDatabaseActivity)
+            );
+            worker.registerActivitiesImplementations(new NoOpCreateArticleActivities());
+
+            workflowEnv.start();
+
+            WorkflowClient workflowClient = workflowEnv.getWorkflowClient();
+
+            for (int i = 0; i < WARMUP_CREATIONS; i++) {
+                create(workflowClient);
+            }
+
+            long[] micros = new long[MEASURED_CREATIONS];
+            for (int i = 0; i < MEASURED_CREATIONS; i++) {
+
+                long start = System.nanoTime();
+                create(workflowClient);
+                micros[i] = (System.nanoTime() - start) / 1_000;
+            }
+
+            return micros;
+        }
+    }
+
+    private static void create(WorkflowClient workflowClient) {
+
+        CreateArticleWorkflow workflow = workflowClient.newWorkflowStub(
+                CreateArticleWorkflow.class,
+                WorkflowOptions.newBuilder()
+                        .setTaskQueue(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME)
+                        .build()
+        );
+
+        IdempotencyTokenId idempotencyTokenId = IdempotencyTokenId.builder()
+                .clientId(UUID.fromString("453060c1-e4fe-4a18-9075-74d89252f84e"))
+                .idempotencyTokenValue(UUID.randomUUID())
+                .build();
+
+        ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+        assertThat(workflow.createArticle(articleBuilder.buildRequest(), idempotencyTokenId, articleBuilder.getId()))
+                .isNotNull();
+    }
+
+    private static long percentile(long[] values, int percentile) {
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static class NoOpCreateArticleActivities implements CreateArticleActivities {
+
+        @Override
+        public ArticleIdAndVersion saveInDatabase(ArticleRequest articleRequest,
+                                                  IdempotencyTokenId idempotencyTokenId,
+                                                  UUID articleId) {
+            return new ArticleIdAndVersion(articleId, (short) 0);
+        }
+
+        @Override
+        public void sendSaveDocumentEvent(ArticleIdAndVersion article) {
+        }
+    }
+}
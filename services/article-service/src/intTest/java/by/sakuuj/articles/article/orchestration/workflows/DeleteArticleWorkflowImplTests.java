@@ -11,7 +11,6 @@ import io.temporal.worker.Worker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
-import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.util.UUID;
@@ -38,7 +37,7 @@ class DeleteArticleWorkflowImplTests {
     }
 
     @Test
-    void shouldDeleteFromDB_AndThenSendDocumentEvent_WhenNoErrors(
+    void shouldDeleteFromDB_WithoutSendingDocumentEvent_WhenNoErrors(
             TestWorkflowEnvironment workflowEnv,
             DeleteArticleWorkflow workflow,
             Worker worker
@@ -54,11 +53,8 @@ class DeleteArticleWorkflowImplTests {
 
         workflow.deleteDocumentById(id);
 
-        InOrder inOrder = Mockito.inOrder(activities);
-        inOrder.verify(activities).deleteFromDatabase(id);
-        inOrder.verify(activities).sendDeleteDocumentEvent(id);
-
-        inOrder.verifyNoMoreInteractions();
+        verify(activities).deleteFromDatabase(id);
+        verifyNoMoreInteractions(activities);
     }
 
     @Test
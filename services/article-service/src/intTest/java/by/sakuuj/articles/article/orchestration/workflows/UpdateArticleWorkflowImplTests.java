@@ -1,8 +1,8 @@
 package by.sakuuj.articles.article.orchestration.workflows;
 
 import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.orchestration.activities.UpdateArticleActivities;
 import by.sakuuj.articles.article.orchestration.workflows.UpdateArticleWorkflow;
 import by.sakuuj.articles.article.orchestration.workflows.UpdateArticleWorkflowImpl;
@@ -13,7 +13,6 @@ import io.temporal.worker.Worker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
-import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.util.UUID;
@@ -43,7 +42,7 @@ class UpdateArticleWorkflowImplTests {
     }
 
     @Test
-    void shouldUpdateInDatabase_AndThenSendDocumentEvent_WhenNoErrors(
+    void shouldUpdateInDatabase_WithoutSendingDocumentEvent_WhenNoErrors(
             TestWorkflowEnvironment workflowEnv,
             UpdateArticleWorkflow workflow,
             Worker worker
@@ -55,7 +54,7 @@ class UpdateArticleWorkflowImplTests {
         UUID id = articleBuilder.getId();
         short version = articleBuilder.getVersion();
 
-        ArticleResponse expected = articleBuilder.buildResponse();
+        ArticleIdAndVersion expected = new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion());
 
         when(activities.updateByIdInDatabase(any(), any(), anyShort()))
                 .thenReturn(expected);
@@ -64,15 +63,12 @@ class UpdateArticleWorkflowImplTests {
 
         workflowEnv.start();
 
-        ArticleResponse actual = workflow.updateArticle(articleRequest, id, version);
+        ArticleIdAndVersion actual = workflow.updateArticle(articleRequest, id, version);
 
         assertThat(actual).isEqualTo(expected);
 
-        InOrder inOrder = Mockito.inOrder(activities);
-        inOrder.verify(activities).updateByIdInDatabase(articleRequest, id, version);
-        inOrder.verify(activities).sendUpdateDocumentEvent(expected);
-
-        inOrder.verifyNoMoreInteractions();
+        verify(activities).updateByIdInDatabase(articleRequest, id, version);
+        verifyNoMoreInteractions(activities);
     }
 
     @Test
@@ -0,0 +1,241 @@
+package by.sakuuj.articles.article.producer;
+
+import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
+import by.sakuuj.articles.article.serialization.ArticleDocumentRequestDeserializer;
+import by.sakuuj.articles.article.serialization.ArticleDocumentRequestProtobufSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.UUIDSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the JSON and protobuf values of the articles topic: bytes per event in a record batch,
+ * uncompressed and compressed as the producer does, and the time to encode and decode an event.
+ * <p>
+ * Excluded from {@code intTest}, run with {@code gradle :services:article-service:benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+public class ArticleEventSerializationBenchmark {
+
+    private static final String TOPIC = "articles";
+    private static final String TYPE_MAPPINGS = "articleDocReq:" + ArticleDocumentRequest.class.getName();
+
+    private static final int EVENTS_PER_BATCH = 100;
+    private static final int WORDS_PER_ARTICLE = 400;
+
+    private static final List<String> WORDS = List.of(
+            "java", "virtual", "thread", "compiler", "garbage", "collector", "heap", "stack", "method", "inlining",
+            "the", "a", "of", "and", "to", "in", "is", "that", "for", "with",
+            "latency", "throughput", "allocation", "escape", "analysis", "benchmark", "profile", "cache", "memory", "lock"
+    );
+
+    @Test
+    void compareJsonAndProtobuf() throws RunnerException {
+
+        List<ArticleDocumentRequest> events = events(EVENTS_PER_BATCH);
+
+        Map<String, Serializer<ArticleDocumentRequest>> serializers = Map.of(
+                "json", jsonSerializer(),
+                "protobuf", new ArticleDocumentRequestProtobufSerializer()
+        );
+
+        StringBuilder sizes = new StringBuilder("%n%10s %12s %12s %12s%n".formatted(
+                "format", "none, B", "lz4, B", "zstd, B"
+        ));
+        Map<String, Map<CompressionType, Integer>> bytesPerEvent = serializers.keySet().stream()
+                .sorted()
+                .collect(Collectors.toMap(Function.identity(), format -> {
+
+                    Map<CompressionType, Integer> perCompression = Map.of(
+                            CompressionType.NONE, batchSize(events, serializers.get(format), CompressionType.NONE),
+                            CompressionType.LZ4, batchSize(events, serializers.get(format), CompressionType.LZ4),
+                            CompressionType.ZSTD, batchSize(events, serializers.get(format), CompressionType.ZSTD)
+                    );
+                    sizes.append("%10s %12d %12d %12d%n".formatted(
+                            format,
+                            perCompression.get(CompressionType.NONE),
+                            perCompression.get(CompressionType.LZ4),
+                            perCompression.get(CompressionType.ZSTD)
+                    ));
+                    return perCompression;
+                }));
+        log.info("bytes per event in a batch of {}:{}", EVENTS_PER_BATCH, sizes);
+
+        Options options = new OptionsBuilder()
+                .include(Pattern.quote(Codecs.class.getCanonicalName()))
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Double> nanosPerEvent = results.stream()
+                .collect(Collectors.toMap(
+                        result -> result.getParams().getBenchmark().replaceFirst(".*\\.", "")
+                                + "/" + result.getParams().getParam("format"),
+                        result -> result.getPrimaryResult().getScore()
+                ));
+
+        log.info("%n%10s %12s %12s%n%10s %12.0f %12.0f%n%10s %12.0f %12.0f%n".formatted(
+                "format", "encode, ns", "decode, ns",
+                "json", nanosPerEvent.get("encode/json"), nanosPerEvent.get("decode/json"),
+                "protobuf", nanosPerEvent.get("encode/protobuf"), nanosPerEvent.get("decode/protobuf")
+        ));
+
+        assertThat(bytesPerEvent.get("protobuf").get(CompressionType.NONE))
+                .isLessThan(bytesPerEvent.get("json").get(CompressionType.NONE));
+        assertThat(nanosPerEvent.get("decode/protobuf")).isLessThan(nanosPerEvent.get("decode/json"));
+    }
+
+    @State(Scope.Thread)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public static class Codecs {
+
+        @Param({"json", "protobuf"})
+        public String format;
+
+        private Serializer<ArticleDocumentRequest> serializer;
+        private ArticleDocumentRequestDeserializer deserializer;
+
+        private ArticleDocumentRequest event;
+        private Headers headers;
+        private byte[] data;
+
+        @Setup
+        public void setUp() {
+
+            serializer = format.equals("json")
+                    ? jsonSerializer()
+                    : new ArticleDocumentRequestProtobufSerializer();
+
+            deserializer = new ArticleDocumentRequestDeserializer();
+            deserializer.configure(Map.of(JsonDeserializer.TYPE_MAPPINGS, TYPE_MAPPINGS), false);
+
+            event = events(1).getFirst();
+            headers = new RecordHeaders();
+            data = serializer.serialize(TOPIC, headers, event);
+        }
+
+        @Benchmark
+        public byte[] encode() {
+            return serializer.serialize(TOPIC, new RecordHeaders(), event);
+        }
+
+        /**
+         * Headers are copied, as the JSON deserializer removes the type header it has read
+         */
+        @Benchmark
+        public ArticleDocumentRequest decode() {
+            return deserializer.deserialize(TOPIC, new RecordHeaders(headers.toArray()), data);
+        }
+    }
+
+    private static Serializer<ArticleDocumentRequest> jsonSerializer() {
+
+        JsonSerializer<ArticleDocumentRequest> serializer = new JsonSerializer<>();
+        serializer.configure(Map.of(JsonSerializer.TYPE_MAPPINGS, TYPE_MAPPINGS), false);
+
+        return serializer;
+    }
+
+    /**
+     * Size of the record batch divided by the number of events, headers and keys included
+     */
+    private static int batchSize(List<ArticleDocumentRequest> events,
+                                 Serializer<ArticleDocumentRequest> serializer,
+                                 CompressionType compressionType) {
+
+        MemoryRecordsBuilder batch = MemoryRecords.builder(
+                ByteBuffer.allocate(16 * 1024 * 1024),
+                compressionType,
+                TimestampType.CREATE_TIME,
+                0L
+        );
+
+        try (UUIDSerializer keySerializer = new UUIDSerializer()) {
+            for (ArticleDocumentRequest event : events) {
+
+                Headers headers = new RecordHeaders();
+                byte[] value = serializer.serialize(TOPIC, headers, event);
+                byte[] key = keySerializer.serialize(TOPIC, event.articleDocument().getId());
+
+                batch.append(System.currentTimeMillis(), key, value, headers.toArray());
+            }
+        }
+
+        return batch.build().sizeInBytes() / events.size();
+    }
+
+    /**
+     * Upserts of distinct articles, so that compression does not benefit from repeated events
+     */
+    private static List<ArticleDocumentRequest> events(int count) {
+
+        Random random = new Random(42);
+
+        List<ArticleDocumentRequest> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+
+            String content = random.ints(WORDS_PER_ARTICLE, 0, WORDS.size())
+                    .mapToObj(WORDS::get)
+                    .collect(Collectors.joining(" "));
+
+            events.add(ArticleDocumentRequest.builder()
+                    .type(ArticleDocumentRequest.RequestType.UPSERT)
+                    .articleDocument(ArticleDocument.builder()
+                            .id(new UUID(random.nextLong(), random.nextLong()))
+                            .title("Article " + i + " on " + WORDS.get(random.nextInt(WORDS.size())))
+                            .content(content)
+                            .excerpt(content.substring(0, 200) + "…")
+                            .wordCount(WORDS_PER_ARTICLE)
+                            .datePublishedOn(LocalDateTime.of(2024, 7, 1, 10, 0).plusMinutes(random.nextInt(100_000)))
+                            .build())
+                    .build());
+        }
+
+        return events;
+    }
+}
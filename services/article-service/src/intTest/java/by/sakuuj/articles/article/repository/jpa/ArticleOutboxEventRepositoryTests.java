@@ -0,0 +1,164 @@
+package by.sakuuj.articles.article.repository.jpa;
+
+import by.sakuuj.annotations.JpaTest;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleOutboxStats;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import by.sakuuj.articles.service.IdempotencyTokenServiceImpl;
+import by.sakuuj.testcontainers.PostgresSingletonContainerLauncher;
+import by.sakuuj.utils.PostgresDBCleaner;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JpaTest
+@Import(IdempotencyTokenServiceImpl.class)
+class ArticleOutboxEventRepositoryTests extends PostgresSingletonContainerLauncher {
+
+    private static final UUID FIRST_ARTICLE_ID = UUID.fromString("6b0f3a1e-2c1d-4a5b-9e8f-7d6c5b4a3f21");
+    private static final UUID SECOND_ARTICLE_ID = UUID.fromString("c2e4d6f8-1a3b-4c5d-8e7f-9a0b1c2d3e4f");
+
+    @Autowired
+    private TransactionTemplate txTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ArticleOutboxEventRepository articleOutboxEventRepository;
+
+    @AfterEach
+    void cleanDB() {
+        PostgresDBCleaner.truncateTables(txTemplate, entityManager);
+    }
+
+    @Nested
+    class claimOldest_int {
+
+        @Test
+        void shouldClaimOnlyOldestEventOfEachArticle() {
+
+            // given
+            ArticleOutboxEventEntity firstArticleUpsert = event(FIRST_ARTICLE_ID, ArticleOutboxEventEntity.EventType.UPSERT);
+            ArticleOutboxEventEntity secondArticleUpsert = event(SECOND_ARTICLE_ID, ArticleOutboxEventEntity.EventType.UPSERT);
+            ArticleOutboxEventEntity firstArticleDelete = event(FIRST_ARTICLE_ID, ArticleOutboxEventEntity.EventType.DELETE);
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                articleOutboxEventRepository.persist(firstArticleUpsert);
+                articleOutboxEventRepository.persist(secondArticleUpsert);
+                articleOutboxEventRepository.persist(firstArticleDelete);
+            });
+
+            // when, then
+            txTemplate.executeWithoutResult(txStatus -> {
+                List<ArticleOutboxEventEntity> actual = articleOutboxEventRepository.claimOldest(10);
+
+                assertThat(actual).extracting(ArticleOutboxEventEntity::getId)
+                        .containsExactly(firstArticleUpsert.getId(), secondArticleUpsert.getId());
+            });
+        }
+
+        @Test
+        void shouldNotClaimMoreThanBatchSize() {
+
+            // given
+            txTemplate.executeWithoutResult(txStatus -> {
+                articleOutboxEventRepository.persist(event(FIRST_ARTICLE_ID, ArticleOutboxEventEntity.EventType.UPSERT));
+                articleOutboxEventRepository.persist(event(SECOND_ARTICLE_ID, ArticleOutboxEventEntity.EventType.UPSERT));
+            });
+
+            // when, then
+            txTemplate.executeWithoutResult(txStatus -> {
+                List<ArticleOutboxEventEntity> actual = articleOutboxEventRepository.claimOldest(1);
+
+                assertThat(actual).extracting(ArticleOutboxEventEntity::getArticleId)
+                        .containsExactly(FIRST_ARTICLE_ID);
+            });
+        }
+    }
+
+    @Nested
+    class deleteAllByIds_List {
+
+        @Test
+        void shouldDeleteOnlyGivenEvents() {
+
+            // given
+            ArticleOutboxEventEntity toDelete = event(FIRST_ARTICLE_ID, ArticleOutboxEventEntity.EventType.UPSERT);
+            ArticleOutboxEventEntity toKeep = event(SECOND_ARTICLE_ID, ArticleOutboxEventEntity.EventType.DELETE);
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                articleOutboxEventRepository.persist(toDelete);
+                articleOutboxEventRepository.persist(toKeep);
+            });
+
+            // when
+            Integer actual = txTemplate.execute(txStatus -> articleOutboxEventRepository.deleteAllByIds(List.of(toDelete.getId())));
+
+            // then
+            assertThat(actual).isEqualTo(1);
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                List<ArticleOutboxEventEntity> remaining = entityManager
+                        .createQuery("SELECT e FROM ArticleOutboxEventEntity e", ArticleOutboxEventEntity.class)
+                        .getResultList();
+
+                assertThat(remaining).extracting(ArticleOutboxEventEntity::getId)
+                        .containsExactly(toKeep.getId());
+            });
+        }
+    }
+
+    @Nested
+    class findStats {
+
+        @Test
+        void shouldReturnDepth_AndOldestCreationTime() {
+
+            // given
+            LocalDateTime oldestCreatedAt = LocalDateTime.of(2024, 7, 1, 10, 0);
+
+            ArticleOutboxEventEntity oldest = event(FIRST_ARTICLE_ID, ArticleOutboxEventEntity.EventType.UPSERT);
+            oldest.setCreatedAt(oldestCreatedAt);
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                articleOutboxEventRepository.persist(oldest);
+                articleOutboxEventRepository.persist(event(SECOND_ARTICLE_ID, ArticleOutboxEventEntity.EventType.UPSERT));
+            });
+
+            // when
+            ArticleOutboxStats actual = txTemplate.execute(txStatus -> articleOutboxEventRepository.findStats());
+
+            // then
+            assertThat(actual).isEqualTo(new ArticleOutboxStats(2, oldestCreatedAt));
+        }
+
+        @Test
+        void shouldReturnZeroDepth_WhenEmpty() {
+
+            // when
+            ArticleOutboxStats actual = txTemplate.execute(txStatus -> articleOutboxEventRepository.findStats());
+
+            // then
+            assertThat(actual).isEqualTo(new ArticleOutboxStats(0, null));
+        }
+    }
+
+    private static ArticleOutboxEventEntity event(UUID articleId, ArticleOutboxEventEntity.EventType eventType) {
+
+        return ArticleOutboxEventEntity.builder()
+                .articleId(articleId)
+                .eventType(eventType)
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import by.sakuuj.annotations.JpaTest;
 import by.sakuuj.articles.article.ArticleTestDataBuilder;
 import by.sakuuj.articles.article.PersonTestDataBuilder;
 import by.sakuuj.articles.article.TopicTestDataBuilder;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleExportRow;
 import by.sakuuj.articles.entity.jpa.embeddable.ArticleTopicId;
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit;
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit_;
@@ -12,6 +13,7 @@ import by.sakuuj.articles.entity.jpa.entities.ArticleEntity_;
 import by.sakuuj.articles.entity.jpa.entities.ArticleTopicEntity;
 import by.sakuuj.articles.entity.jpa.entities.PersonEntity;
 import by.sakuuj.articles.entity.jpa.entities.TopicEntity;
+import by.sakuuj.articles.paging.CreatedAtIdCursor;
 import by.sakuuj.articles.paging.PageView;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.testcontainers.PostgresSingletonContainerLauncher;
@@ -37,6 +39,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -737,6 +740,75 @@ public class ArticleRepositoryTests extends PostgresSingletonContainerLauncher {
         }
     }
 
+    @Nested
+    class findAllByTopicIdForcingVersionIncrement_UUID {
+
+        @Test
+        void shouldIncrementVersionsOfArticlesWithTopicOnly() {
+            PersonEntity author = PersonTestDataBuilder.aPerson()
+                    .withId(null)
+                    .build();
+
+            ArticleTestDataBuilder articleTestDataBuilder = ArticleTestDataBuilder.anArticle()
+                    .withId(null)
+                    .withTopics(null)
+                    .withAuthor(author);
+
+            ArticleEntity articleWithTopic = articleTestDataBuilder
+                    .withTitle("with topic")
+                    .build();
+
+            ArticleEntity articleWithoutTopic = articleTestDataBuilder
+                    .withTitle("without topic")
+                    .withModificationAudit(new ModificationAudit())
+                    .build();
+
+            TopicEntity topic = TopicTestDataBuilder.aTopic()
+                    .withId(null)
+                    .build();
+
+            ArticleTopicEntity articleTopic = ArticleTopicEntity.builder().build();
+
+            txTemplate.executeWithoutResult(txStatus ->
+            {
+                entityManager.persist(author);
+                entityManager.persist(articleWithTopic);
+                entityManager.persist(articleWithoutTopic);
+                entityManager.persist(topic);
+
+                articleTopic.setId(ArticleTopicId.builder()
+                        .articleId(articleWithTopic.getId())
+                        .topicId(topic.getId())
+                        .build());
+                articleTopic.setArticle(entityManager.getReference(ArticleEntity.class, articleWithTopic.getId()));
+                articleTopic.setTopic(entityManager.getReference(TopicEntity.class, topic.getId()));
+                entityManager.persist(articleTopic);
+            });
+
+            short versionWithTopic = txTemplate.execute(txStatus ->
+                    entityManager.find(ArticleEntity.class, articleWithTopic.getId()).getVersion()
+            );
+            short versionWithoutTopic = txTemplate.execute(txStatus ->
+                    entityManager.find(ArticleEntity.class, articleWithoutTopic.getId()).getVersion()
+            );
+
+            // when
+            List<ArticleEntity> actual = txTemplate.execute(txStatus ->
+                    articleRepository.findAllByTopicIdForcingVersionIncrement(topic.getId())
+            );
+
+            // then
+            assertThat(actual).extracting(ArticleEntity::getId).containsExactly(articleWithTopic.getId());
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                assertThat(entityManager.find(ArticleEntity.class, articleWithTopic.getId()).getVersion())
+                        .isEqualTo((short) (versionWithTopic + 1));
+                assertThat(entityManager.find(ArticleEntity.class, articleWithoutTopic.getId()).getVersion())
+                        .isEqualTo(versionWithoutTopic);
+            });
+        }
+    }
+
     @Nested
     class save_ArticleEntity {
 
@@ -843,4 +915,142 @@ public class ArticleRepositoryTests extends PostgresSingletonContainerLauncher {
             });
         }
     }
+
+    @Nested
+    class findAllSortedByCreatedAtDesc_CreatedAtIdCursor_int {
+
+        @Test
+        void shouldSeekPagesAfterCursor_WithInitializedAuthor() {
+
+            PersonEntity author = PersonTestDataBuilder.aPerson()
+                    .withId(null)
+                    .build();
+
+            ArticleTestDataBuilder articleTestDataBuilder = ArticleTestDataBuilder.anArticle()
+                    .withId(null)
+                    .withTopics(null)
+                    .withAuthor(author);
+
+            ArticleEntity firstArticle = articleTestDataBuilder
+                    .withTitle("first title")
+                    .build();
+
+            ArticleEntity secondArticle = articleTestDataBuilder
+                    .withTitle("second title")
+                    .withModificationAudit(new ModificationAudit())
+                    .build();
+
+            ArticleEntity thirdArticle = articleTestDataBuilder
+                    .withTitle("third title")
+                    .withModificationAudit(new ModificationAudit())
+                    .build();
+
+            txTemplate.executeWithoutResult(txStatus ->
+            {
+                entityManager.persist(author);
+                entityManager.persist(firstArticle);
+                entityManager.flush();
+                entityManager.persist(secondArticle);
+                entityManager.flush();
+                entityManager.persist(thirdArticle);
+            });
+
+            int pageSize = 2;
+
+            // when
+            List<ArticleEntity> firstPage = txTemplate.execute(txStatus ->
+                    articleRepository.findAllSortedByCreatedAtDesc(null, pageSize)
+            );
+
+            ArticleEntity lastOfFirstPage = firstPage.getLast();
+            CreatedAtIdCursor cursor = new CreatedAtIdCursor(
+                    lastOfFirstPage.getModificationAudit().getCreatedAt(),
+                    lastOfFirstPage.getId()
+            );
+
+            List<ArticleEntity> secondPage = txTemplate.execute(txStatus ->
+                    articleRepository.findAllSortedByCreatedAtDesc(cursor, pageSize)
+            );
+
+            // then
+            assertThat(firstPage).containsExactly(thirdArticle, secondArticle);
+            assertThat(Hibernate.isInitialized(firstPage.getFirst().getAuthor())).isTrue();
+
+            assertThat(secondPage).containsExactly(firstArticle);
+            assertThat(secondPage.getFirst().getAuthor()).isEqualTo(author);
+        }
+    }
+
+    @Nested
+    class streamAllSortedByUpdatedAt_LocalDateTime_int {
+
+        @Test
+        void shouldStreamArticlesUpdatedSince_SortedByUpdatedAt() {
+
+            PersonEntity author = PersonTestDataBuilder.aPerson()
+                    .withId(null)
+                    .build();
+
+            ArticleTestDataBuilder articleTestDataBuilder = ArticleTestDataBuilder.anArticle()
+                    .withId(null)
+                    .withTopics(null)
+                    .withAuthor(author)
+                    .withModificationAudit(new ModificationAudit());
+
+            ArticleEntity firstArticle = articleTestDataBuilder
+                    .withTitle("first title")
+                    .build();
+
+            ArticleEntity secondArticle = articleTestDataBuilder
+                    .withTitle("second title")
+                    .withModificationAudit(new ModificationAudit())
+                    .build();
+
+            ArticleEntity thirdArticle = articleTestDataBuilder
+                    .withTitle("third title")
+                    .withModificationAudit(new ModificationAudit())
+                    .build();
+
+            txTemplate.executeWithoutResult(txStatus ->
+            {
+                entityManager.persist(author);
+                entityManager.persist(firstArticle);
+                entityManager.flush();
+                entityManager.persist(secondArticle);
+                entityManager.flush();
+                entityManager.persist(thirdArticle);
+            });
+
+            int fetchSize = 1;
+            LocalDateTime updatedSince = secondArticle.getModificationAudit().getUpdatedAt();
+
+            // when
+            List<ArticleExportRow> allRows = txTemplate.execute(txStatus -> {
+                try (Stream<ArticleExportRow> rows = articleRepository.streamAllSortedByUpdatedAt(null, fetchSize)) {
+                    return rows.toList();
+                }
+            });
+
+            List<ArticleExportRow> rowsUpdatedSince = txTemplate.execute(txStatus -> {
+                try (Stream<ArticleExportRow> rows = articleRepository.streamAllSortedByUpdatedAt(updatedSince, fetchSize)) {
+                    return rows.toList();
+                }
+            });
+
+            // then
+            assertThat(allRows)
+                    .map(ArticleExportRow::id)
+                    .containsExactly(firstArticle.getId(), secondArticle.getId(), thirdArticle.getId());
+
+            ArticleExportRow firstRow = allRows.getFirst();
+            assertThat(firstRow.title()).isEqualTo(firstArticle.getTitle());
+            assertThat(firstRow.content()).isEqualTo(firstArticle.getContent());
+            assertThat(firstRow.authorId()).isEqualTo(author.getId());
+            assertThat(firstRow.version()).isEqualTo(firstArticle.getVersion());
+
+            assertThat(rowsUpdatedSince)
+                    .map(ArticleExportRow::id)
+                    .containsExactly(secondArticle.getId(), thirdArticle.getId());
+        }
+    }
 }
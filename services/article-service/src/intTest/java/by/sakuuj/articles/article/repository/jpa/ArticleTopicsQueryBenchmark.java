@@ -0,0 +1,186 @@
+package by.sakuuj.articles.article.repository.jpa;
+
+import by.sakuuj.annotations.JpaTest;
+import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.paging.CreatedAtIdCursor;
+import by.sakuuj.articles.paging.RequestedPage;
+import by.sakuuj.testcontainers.PostgresSingletonContainerLauncher;
+import by.sakuuj.utils.PostgresDBCleaner;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares OFFSET and keyset pagination of the topic-intersection query
+ * by median latency for different page depths and numbers of requested topics.
+ * <p>
+ * Excluded from {@code intTest}, run with {@code gradle :services:article-service:benchmark}.
+ * <p>
+ * Topic number {@code k} is attached to every {@code (k + 1)}-th article,
+ * so the more topics are requested, the sparser the matching articles are.
+ */
+@Slf4j
+@JpaTest
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArticleTopicsQueryBenchmark extends PostgresSingletonContainerLauncher {
+
+    private static final int ARTICLES_COUNT = 50_000;
+    private static final int TOPICS_COUNT = 4;
+
+    private static final int PAGE_SIZE = 20;
+    private static final int[] PAGE_DEPTHS = {0, 10, 50, 150};
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 25;
+
+    @Autowired
+    private TransactionTemplate txTemplate;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeAll
+    void seedDB() {
+        txTemplate.executeWithoutResult(txStatus -> {
+            entityManager.createNativeQuery("""
+                    INSERT INTO persons (person_id, primary_email, is_blocked, created_at, updated_at, version)
+                    VALUES (gen_random_uuid(), 'benchmark@mail.com', false, now(), now(), 0)
+                    """).executeUpdate();
+
+            entityManager.createNativeQuery("""
+                    INSERT INTO topics (topic_id, name, created_at, updated_at, version)
+                    SELECT gen_random_uuid(), 'topic-' || k, now(), now(), 0
+                    FROM generate_series(1, :topicsCount) k
+                    """)
+                    .setParameter("topicsCount", TOPICS_COUNT)
+                    .executeUpdate();
+
+            entityManager.createNativeQuery("""
+                    INSERT INTO articles (article_id, title, content, excerpt, word_count,
+                        created_at, updated_at, author_id, version)
+                    SELECT gen_random_uuid(), 'title-' || i, 'content-' || i, 'content-' || i, 1,
+                        TIMESTAMP '2024-01-01' + i * INTERVAL '1 minute',
+                        TIMESTAMP '2024-01-01' + i * INTERVAL '1 minute',
+                        (SELECT person_id FROM persons LIMIT 1), 0
+                    FROM generate_series(1, :articlesCount) i
+                    """)
+                    .setParameter("articlesCount", ARTICLES_COUNT)
+                    .executeUpdate();
+
+            entityManager.createNativeQuery("""
+                    INSERT INTO article_topics (article_id, topic_id, created_at, updated_at)
+                    SELECT a.article_id, t.topic_id, now(), now()
+                    FROM (SELECT article_id, row_number() OVER (ORDER BY created_at) AS n FROM articles) a
+                    CROSS JOIN (SELECT topic_id, row_number() OVER (ORDER BY name) AS k FROM topics) t
+                    WHERE a.n % (t.k + 1) = 0
+                    """).executeUpdate();
+        });
+
+        txTemplate.executeWithoutResult(txStatus ->
+                entityManager.createNativeQuery("ANALYZE").executeUpdate()
+        );
+    }
+
+    @AfterAll
+    void cleanDB() {
+        PostgresDBCleaner.truncateTables(txTemplate, entityManager);
+    }
+
+    @Test
+    void compareOffsetAndKeysetPagination() {
+
+        StringBuilder report = new StringBuilder("%n%8s %10s %14s %14s%n"
+                .formatted("topics", "page", "offset, us", "keyset, us"));
+
+        for (int topicsCount = 1; topicsCount <= TOPICS_COUNT - 1; topicsCount++) {
+
+            List<String> topicNames = IntStream.rangeClosed(1, topicsCount)
+                    .mapToObj(k -> "topic-" + k)
+                    .toList();
+
+            for (int pageDepth : PAGE_DEPTHS) {
+
+                RequestedPage requestedPage = new RequestedPage(pageDepth, PAGE_SIZE);
+                CreatedAtIdCursor cursor = findCursorBeforePage(topicNames, pageDepth);
+
+                Supplier<List<ArticleEntity>> offsetQuery = () -> articleRepository
+                        .findAllByTopicsAndSortByCreatedAtDesc(topicNames, requestedPage)
+                        .content();
+                Supplier<List<ArticleEntity>> keysetQuery = () -> articleRepository
+                        .findAllByTopicsSortedByCreatedAtDesc(topicNames, cursor, PAGE_SIZE);
+
+                assertThat(inTransaction(keysetQuery))
+                        .map(ArticleEntity::getId)
+                        .containsExactlyElementsOf(inTransaction(offsetQuery).stream()
+                                .map(ArticleEntity::getId)
+                                .toList()
+                        );
+
+                report.append("%8d %10d %14d %14d%n".formatted(
+                        topicsCount,
+                        pageDepth,
+                        measureMedianMicros(offsetQuery),
+                        measureMedianMicros(keysetQuery)
+                ));
+            }
+        }
+
+        log.info(report.toString());
+    }
+
+    private CreatedAtIdCursor findCursorBeforePage(List<String> topicNames, int pageDepth) {
+
+        if (pageDepth == 0) {
+            return null;
+        }
+
+        List<ArticleEntity> previousPage = inTransaction(() -> articleRepository
+                .findAllByTopicsAndSortByCreatedAtDesc(topicNames, new RequestedPage(pageDepth - 1, PAGE_SIZE))
+                .content()
+        );
+        assertThat(previousPage).hasSize(PAGE_SIZE);
+
+        ArticleEntity last = previousPage.getLast();
+
+        return new CreatedAtIdCursor(last.getModificationAudit().getCreatedAt(), last.getId());
+    }
+
+    private long measureMedianMicros(Supplier<List<ArticleEntity>> query) {
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            inTransaction(query);
+        }
+
+        long[] timings = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+
+            long start = System.nanoTime();
+            inTransaction(query);
+            timings[i] = (System.nanoTime() - start) / 1_000;
+        }
+
+        Arrays.sort(timings);
+        return timings[MEASURED_ITERATIONS / 2];
+    }
+
+    private List<ArticleEntity> inTransaction(Supplier<List<ArticleEntity>> query) {
+        return txTemplate.execute(txStatus -> query.get());
+    }
+}
@@ -0,0 +1,85 @@
+package by.sakuuj.articles.article.configs;
+
+import by.sakuuj.articles.article.dto.SerializedResponse;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Caches are configured by 'spring.cache.*' properties, except the caches of serialized responses,
+ * which are bounded by size in bytes. Serialized articles expire no later than the cached articles,
+ * so that an eviction missed while the event consumer was not assigned its partitions does not last forever.
+ * Cache advice goes first so that a cache hit does not open a transaction
+ * <p>
+ * Caches are asynchronous so that a synchronized load runs on its own virtual thread
+ * instead of under a lock of the cache map, which would pin the carrier thread of the caller
+ * for as long as the database is queried
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    private static final int FEED_PAYLOADS_MAX_SIZE = 100;
+
+    private static final String CACHE_LOADER_THREAD_NAME = "cache-loader";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> payloadCachesCustomizer(
+            @Value("${spring.cache.caffeine.spec}") String caffeineSpec,
+            @Value("${by.sakuuj.articles.article.cache.payloads.max-size-in-bytes}") long payloadsMaxSizeInBytes,
+            @Value("${by.sakuuj.articles.article.cache.payloads.expire-after-write}") Duration payloadsExpireAfterWrite,
+            @Value("${by.sakuuj.articles.article.cache.feed-payloads.expire-after-write}") Duration feedPayloadsExpireAfterWrite
+    ) {
+        return cacheManager -> {
+
+            cacheManager.setAsyncCacheMode(true);
+            cacheManager.setCaffeine(Caffeine.from(caffeineSpec)
+                    .executor(CacheConfig::loadOnVirtualThread)
+            );
+
+            cacheManager.registerCustomCache(
+                    CompileTimeConstants.ARTICLE_PAYLOADS_CACHE_NAME,
+                    Caffeine.newBuilder()
+                            .maximumWeight(payloadsMaxSizeInBytes)
+                            .weigher(CacheConfig::weighInBytes)
+                            .expireAfterWrite(payloadsExpireAfterWrite)
+                            .recordStats()
+                            .executor(CacheConfig::loadOnVirtualThread)
+                            .buildAsync()
+            );
+
+            cacheManager.registerCustomCache(
+                    CompileTimeConstants.ARTICLE_FEED_PAYLOADS_CACHE_NAME,
+                    Caffeine.newBuilder()
+                            .maximumSize(FEED_PAYLOADS_MAX_SIZE)
+                            .expireAfterWrite(feedPayloadsExpireAfterWrite)
+                            .recordStats()
+                            .executor(CacheConfig::loadOnVirtualThread)
+                            .buildAsync()
+            );
+        };
+    }
+
+    private static void loadOnVirtualThread(Runnable load) {
+        Thread.ofVirtual()
+                .name(CACHE_LOADER_THREAD_NAME)
+                .start(load);
+    }
+
+    private static int weighInBytes(Object key, Object value) {
+
+        if (value instanceof SerializedResponse serializedResponse) {
+            return serializedResponse.sizeInBytes();
+        }
+
+        return 1;
+    }
+}
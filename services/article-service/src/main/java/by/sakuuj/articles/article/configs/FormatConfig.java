@@ -1,5 +1,6 @@
 package by.sakuuj.articles.article.configs;
 
+import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
@@ -17,6 +18,10 @@ public class FormatConfig {
         DefaultFormattingConversionService conversionService =
                 new DefaultFormattingConversionService(false);
 
+        // the bean replaces the conversion service of the bean factory,
+        // so the converters of durations like '30s' are needed for @Value to resolve them
+        ApplicationConversionService.addApplicationConverters(conversionService);
+
         DateTimeFormatterRegistrar dateTimeRegistrar = new DateTimeFormatterRegistrar();
         dateTimeRegistrar.setDateTimeFormatter(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         dateTimeRegistrar.registerFormatters(conversionService);
@@ -1,14 +1,22 @@
 package by.sakuuj.articles.article.configs;
 
 import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.serialization.ArticleDocumentRequestProtobufSerializer;
+import by.sakuuj.articles.article.serialization.ArticleEventFormat;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.UUIDDeserializer;
 import org.apache.kafka.common.serialization.UUIDSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
@@ -33,13 +41,27 @@ public class KafkaConfig {
                 .build();
     }
 
+    /**
+     * Consumers decode both formats, JSON is left for rolling back to before they did
+     */
     @Bean
-    public ProducerFactory<UUID, ArticleDocumentRequest> producerFactory(KafkaProperties kafkaProperties) {
-
+    public ProducerFactory<UUID, ArticleDocumentRequest> producerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${by.sakuuj.articles.article.kafka.value-format}") ArticleEventFormat valueFormat
+    ) {
         Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, UUIDSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        props.put(JsonSerializer.TYPE_MAPPINGS, "articleDocReq:" + ArticleDocumentRequest.class.getName());
+
+        switch (valueFormat) {
+            case PROTOBUF -> props.put(
+                    ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
+                    ArticleDocumentRequestProtobufSerializer.class
+            );
+            case JSON -> {
+                props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+                props.put(JsonSerializer.TYPE_MAPPINGS, "articleDocReq:" + ArticleDocumentRequest.class.getName());
+            }
+        }
 
 
         return new DefaultKafkaProducerFactory<>(props);
@@ -52,4 +74,28 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    /**
+     * Only keys of article events are needed to evict cached articles, values are not deserialized
+     */
+    @Bean
+    public ConsumerFactory<UUID, byte[]> articleEventKeysConsumerFactory(KafkaProperties kafkaProperties) {
+
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, UUIDDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<UUID, byte[]> articleEventKeysListenerContainerFactory(
+            ConsumerFactory<UUID, byte[]> articleEventKeysConsumerFactory
+    ) {
+        ConcurrentKafkaListenerContainerFactory<UUID, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(articleEventKeysConsumerFactory);
+
+        return factory;
+    }
+
 }
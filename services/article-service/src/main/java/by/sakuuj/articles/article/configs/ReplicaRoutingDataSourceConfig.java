@@ -0,0 +1,91 @@
+package by.sakuuj.articles.article.configs;
+
+import by.sakuuj.articles.article.configs.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connections of read-only transactions are taken from the replicas, other connections from the primary.
+ * <p>
+ * The physical connection is fetched lazily, when the read-only flag of the transaction is already known.
+ * Every pool is configured by 'spring.datasource.*' properties, except the URL of replicas.
+ * Pool metrics of the primary are bound by Spring Boot, metrics of the replicas are bound here.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "by.sakuuj.articles.datasource.replica-urls")
+public class ReplicaRoutingDataSourceConfig {
+
+    private static final String PRIMARY_POOL_NAME = "primary";
+    private static final String REPLICA_POOL_NAME_PREFIX = "replica-";
+
+    private static final String HIKARI_PROPERTIES_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    @ConfigurationProperties(HIKARI_PROPERTIES_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+
+        HikariDataSource primaryDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primaryDataSource.setPoolName(PRIMARY_POOL_NAME);
+
+        return primaryDataSource;
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${by.sakuuj.articles.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${by.sakuuj.articles.datasource.replica-max-lag}") Duration replicaMaxLag,
+            @Value("${by.sakuuj.articles.datasource.replica-lag-check-interval}") Duration replicaLagCheckInterval
+    ) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i))
+                    .build();
+            Binder.get(environment).bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(replica));
+
+            replica.setPoolName(REPLICA_POOL_NAME_PREFIX + i);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            replicas.add(replica);
+        }
+
+        return new ReplicaDataSource(primaryDataSource, replicas, replicaMaxLag, replicaLagCheckInterval);
+    }
+
+    @Bean
+    @Primary
+    public LazyConnectionDataSourceProxy dataSource(HikariDataSource primaryDataSource,
+                                                    ReplicaDataSource replicaDataSource) {
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+
+        return dataSource;
+    }
+}
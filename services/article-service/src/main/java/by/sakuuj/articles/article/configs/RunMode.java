@@ -0,0 +1,15 @@
+package by.sakuuj.articles.article.configs;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * An instance serves the API and runs the Temporal worker unless one of them is disabled,
+ * either by the {@code api} and {@code worker} profiles or by the properties themselves.
+ * The two are scaled independently by deploying instances of each mode.
+ */
+@UtilityClass
+public class RunMode {
+
+    public static final String API_ENABLED_PROPERTY = "by.sakuuj.articles.run-mode.api";
+    public static final String WORKER_ENABLED_PROPERTY = "by.sakuuj.articles.run-mode.worker";
+}
@@ -39,7 +39,9 @@ public class SecurityConfig {
                                 regexMatcher("/v3/api-docs.*")
                         ).permitAll()
                         .requestMatchers(HttpMethod.GET, "/topics", "/topics/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/articles/export").authenticated()
                         .requestMatchers(HttpMethod.GET, "/articles", "/articles/*").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/articles/lookup").permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 ->
@@ -0,0 +1,85 @@
+package by.sakuuj.articles.article.configs;
+
+import by.sakuuj.articles.article.orchestration.activities.CreateArticleActivities;
+import by.sakuuj.articles.article.orchestration.activities.DeleteArticleActivities;
+import by.sakuuj.articles.article.orchestration.activities.UpdateArticleActivities;
+import by.sakuuj.articles.article.orchestration.workflows.CreateArticleWorkflow;
+import by.sakuuj.articles.article.orchestration.workflows.CreateArticleWorkflowImpl;
+import by.sakuuj.articles.article.orchestration.workflows.DeleteArticleWorkflow;
+import by.sakuuj.articles.article.orchestration.workflows.DeleteArticleWorkflowImpl;
+import by.sakuuj.articles.article.orchestration.workflows.UpdateArticleWorkflow;
+import by.sakuuj.articles.article.orchestration.workflows.UpdateArticleWorkflowImpl;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import io.temporal.client.WorkflowClient;
+import io.temporal.worker.Worker;
+import io.temporal.worker.WorkerFactory;
+import io.temporal.worker.WorkerFactoryOptions;
+import io.temporal.worker.WorkerOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = RunMode.WORKER_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class TemporalWorkerConfig {
+
+    @Bean
+    public WorkerOptions workerOptions(
+            @Value("${by.sakuuj.temporal.worker.max-concurrent-activities}") int maxConcurrentActivities,
+            @Value("${by.sakuuj.temporal.worker.max-concurrent-local-activities}") int maxConcurrentLocalActivities,
+            @Value("${by.sakuuj.temporal.worker.max-concurrent-workflow-tasks}") int maxConcurrentWorkflowTasks,
+            @Value("${by.sakuuj.temporal.worker.activity-pollers}") int activityPollers,
+            @Value("${by.sakuuj.temporal.worker.workflow-task-pollers}") int workflowTaskPollers
+    ) {
+        return WorkerOptions.newBuilder()
+                .setMaxConcurrentActivityExecutionSize(maxConcurrentActivities)
+                .setMaxConcurrentLocalActivityExecutionSize(maxConcurrentLocalActivities)
+                .setMaxConcurrentWorkflowTaskExecutionSize(maxConcurrentWorkflowTasks)
+                .setMaxConcurrentActivityTaskPollers(activityPollers)
+                .setMaxConcurrentWorkflowTaskPollers(workflowTaskPollers)
+                .build();
+    }
+
+    @Bean
+    public WorkerFactory workerFactory(WorkflowClient workflowClient,
+                                       WorkerOptions workerOptions,
+                                       CreateArticleActivities createArticleActivities,
+                                       UpdateArticleActivities updateArticleActivities,
+                                       DeleteArticleActivities deleteArticleActivities,
+                                       @Value("${by.sakuuj.temporal.local-database-activities}")
+                                       boolean localDatabaseActivities,
+                                       @Value("${by.sakuuj.temporal.worker.sticky-cache-size}")
+                                       int stickyCacheSize
+    ) {
+        WorkerFactory workerFactory = WorkerFactory.newInstance(
+                workflowClient,
+                WorkerFactoryOptions.newBuilder()
+                        .setWorkflowCacheSize(stickyCacheSize)
+                        .build()
+        );
+
+        Worker worker = workerFactory.newWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME, workerOptions);
+
+        worker.registerWorkflowImplementationFactory(
+                CreateArticleWorkflow.class,
+                () -> new CreateArticleWorkflowImpl(localDatabaseActivities)
+        );
+        worker.registerWorkflowImplementationFactory(
+                UpdateArticleWorkflow.class,
+                () -> new UpdateArticleWorkflowImpl(localDatabaseActivities)
+        );
+        worker.registerWorkflowImplementationFactory(
+                DeleteArticleWorkflow.class,
+                () -> new DeleteArticleWorkflowImpl(localDatabaseActivities)
+        );
+
+        worker.registerActivitiesImplementations(
+                createArticleActivities,
+                updateArticleActivities,
+                deleteArticleActivities
+        );
+
+        return workerFactory;
+    }
+}
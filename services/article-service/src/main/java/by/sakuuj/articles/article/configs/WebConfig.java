@@ -1,6 +1,7 @@
 package by.sakuuj.articles.article.configs;
 
 import by.sakuuj.articles.controller.resolvers.AuthenticatedUserArgumentResolver;
+import by.sakuuj.articles.controller.resolvers.RequestedCursorPageArgumentResolver;
 import by.sakuuj.articles.controller.resolvers.RequestedPageArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ public class WebConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
 
         resolvers.add(new RequestedPageArgumentResolver(false));
+        resolvers.add(new RequestedCursorPageArgumentResolver(false));
         resolvers.add(new AuthenticatedUserArgumentResolver());
     }
 }
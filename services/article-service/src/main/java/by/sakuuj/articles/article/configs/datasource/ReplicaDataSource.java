@@ -0,0 +1,140 @@
+package by.sakuuj.articles.article.configs.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spreads connections over the replicas in a round-robin manner,
+ * replicas lagging behind the primary by more than the max lag (or not reachable) are skipped
+ * until they catch up. Connections of the primary are returned if every replica is skipped.
+ * <p>
+ * Replication lag of every replica is checked periodically in the background.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    /**
+     * Zero if everything received is replayed, so that an idle primary does not make replicas look lagging
+     */
+    private static final String SELECT_REPLICATION_LAG_SECONDS = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final List<DataSource> replicas;
+    private final Duration maxLag;
+    private final Duration lagCheckInterval;
+
+    private final ScheduledExecutorService lagCheckExecutor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform()
+                    .name("replica-lag-check")
+                    .daemon()
+                    .unstarted(runnable)
+    );
+
+    private final AtomicInteger nextReplicaCounter = new AtomicInteger();
+    private volatile List<Integer> upToDateReplicaIndexes = List.of();
+
+    public ReplicaDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag, Duration lagCheckInterval) {
+
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagCheckInterval = lagCheckInterval;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targetDataSources.put(i, this.replicas.get(i));
+        }
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+
+        checkReplicationLag();
+        lagCheckExecutor.scheduleWithFixedDelay(
+                this::checkReplicationLag,
+                lagCheckInterval.toMillis(),
+                lagCheckInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * @return {@code null} to fall back to the primary
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        List<Integer> upToDate = upToDateReplicaIndexes;
+        if (upToDate.isEmpty()) {
+            return null;
+        }
+
+        return upToDate.get(Math.floorMod(nextReplicaCounter.getAndIncrement(), upToDate.size()));
+    }
+
+    void checkReplicationLag() {
+
+        List<Integer> upToDate = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+
+            try {
+                double lagSeconds = selectReplicationLagSeconds(replicas.get(i));
+                if (lagSeconds * 1_000 <= maxLag.toMillis()) {
+                    upToDate.add(i);
+                } else {
+                    log.warn("Replica {} is lagging by {}s, skipping it", i, lagSeconds);
+                }
+
+            } catch (SQLException e) {
+                log.warn("Failed to check replication lag of replica {}, skipping it", i, e);
+            }
+        }
+
+        upToDateReplicaIndexes = List.copyOf(upToDate);
+    }
+
+    private static double selectReplicationLagSeconds(DataSource replica) throws SQLException {
+
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_REPLICATION_LAG_SECONDS)) {
+
+            resultSet.next();
+            return resultSet.getDouble(1);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+
+        lagCheckExecutor.shutdownNow();
+
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
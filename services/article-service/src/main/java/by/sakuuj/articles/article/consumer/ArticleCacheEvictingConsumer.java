@@ -0,0 +1,57 @@
+package by.sakuuj.articles.article.consumer;
+
+import by.sakuuj.articles.article.configs.RunMode;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Evicts articles and their serialized responses from the caches of this instance on every UPSERT or DELETE event,
+ * serialized feed pages are evicted entirely.
+ * Each instance consumes the whole topic using its own consumer group.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = RunMode.API_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class ArticleCacheEvictingConsumer {
+
+    private final Cache articlesCache;
+    private final Cache articlePayloadsCache;
+    private final Cache articleFeedPayloadsCache;
+
+    public ArticleCacheEvictingConsumer(CacheManager cacheManager) {
+        this.articlesCache = Objects.requireNonNull(cacheManager.getCache(CompileTimeConstants.ARTICLES_CACHE_NAME));
+        this.articlePayloadsCache = Objects.requireNonNull(
+                cacheManager.getCache(CompileTimeConstants.ARTICLE_PAYLOADS_CACHE_NAME)
+        );
+        this.articleFeedPayloadsCache = Objects.requireNonNull(
+                cacheManager.getCache(CompileTimeConstants.ARTICLE_FEED_PAYLOADS_CACHE_NAME)
+        );
+    }
+
+    @KafkaListener(
+            topics = "${by.sakuuj.articles.article.kafka.topic-name}",
+            groupId = "#{'article-service-cache-' + T(java.util.UUID).randomUUID()}",
+            containerFactory = "articleEventKeysListenerContainerFactory"
+    )
+    public void evict(ConsumerRecord<UUID, byte[]> consumerRecord) {
+
+        UUID id = consumerRecord.key();
+        if (id == null) {
+            log.warn("Skipping article event without a key, offset: {}", consumerRecord.offset());
+            return;
+        }
+
+        articlesCache.evict(id);
+        articlePayloadsCache.evict(id);
+        articleFeedPayloadsCache.clear();
+    }
+}
@@ -1,23 +1,47 @@
 package by.sakuuj.articles.article.controller;
 
+import by.sakuuj.articles.article.configs.RunMode;
+import by.sakuuj.articles.article.dto.ArticleIdsRequest;
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
 import by.sakuuj.articles.article.dto.ArticleRequest;
 import by.sakuuj.articles.article.dto.ArticleResponse;
+import by.sakuuj.articles.article.dto.ArticleSummaryResponse;
 import by.sakuuj.articles.article.dto.CreateRequestDTO;
+import by.sakuuj.articles.article.dto.SerializedResponse;
 import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.UpdateRequestDTO;
+import by.sakuuj.articles.article.service.ArticleExportService;
+import by.sakuuj.articles.article.service.ArticlePayloadService;
 import by.sakuuj.articles.article.service.ArticleService;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.article.utils.ContentEncodingUtils;
+import by.sakuuj.articles.article.utils.ETagUtils;
+import by.sakuuj.articles.article.utils.PreferUtils;
+import by.sakuuj.articles.article.utils.SerializedResponseUtils;
+import by.sakuuj.articles.controller.resolvers.RequestedCursorPageArgumentResolver;
 import by.sakuuj.articles.controller.resolvers.RequestedPageArgumentResolver;
+import by.sakuuj.articles.paging.CursorPageView;
 import by.sakuuj.articles.paging.PageView;
+import by.sakuuj.articles.paging.RequestedCursorPage;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -28,33 +52,61 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(value = "/articles", produces = MediaType.APPLICATION_JSON_VALUE)
+@ConditionalOnProperty(name = RunMode.API_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
 public class ArticleController {
 
     private static final String SECURITY_REQ_NAME = "Bearer Authentication";
     private final ArticleService articleService;
+    private final ArticlePayloadService articlePayloadService;
+    private final ArticleExportService articleExportService;
 
     public static final String HAVING_TOPICS_REQUEST_PARAM = "having-topics";
     public static final String SEARCH_TERMS_REQUEST_PARAM = "search-terms";
+    public static final String IDS_REQUEST_PARAM = "ids";
+    public static final String UPDATED_SINCE_REQUEST_PARAM = "updated-since";
 
     @GetMapping("/{id}")
-    ResponseEntity<ArticleResponse> findById(
-            @PathVariable("id") UUID id
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ArticleResponse.class)))
+    ResponseEntity<byte[]> findById(
+            @PathVariable("id") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) List<String> acceptEncoding
     ) {
-        return articleService.findById(id)
-                .map(ResponseEntity::ok)
+        if (ifNoneMatch != null) {
+
+            Optional<Short> currentVersion = articleService.findVersionById(id);
+            if (currentVersion.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            String currentETag = ETagUtils.toETag(id, currentVersion.get());
+            if (ETagUtils.anyMatches(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(currentETag)
+                        .build();
+            }
+        }
+
+        return articlePayloadService.findById(id)
+                .map(found -> SerializedResponseUtils.toResponseEntity(found, acceptEncoding))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -85,6 +137,50 @@ public class ArticleController {
         return articleService.findAllSortedByCreatedAtDesc(requestedPage);
     }
 
+    @GetMapping(params = {
+            "!" + RequestedPageArgumentResolver.PAGE_NUMBER_PARAM,
+            "!" + HAVING_TOPICS_REQUEST_PARAM,
+            "!" + SEARCH_TERMS_REQUEST_PARAM,
+            "!" + IDS_REQUEST_PARAM
+    })
+    @Operation(parameters = {
+            @Parameter(
+                    name = RequestedCursorPageArgumentResolver.PAGE_SIZE_PARAM,
+                    required = true,
+                    schema = @Schema(implementation = int.class)
+            ),
+            @Parameter(
+                    name = RequestedCursorPageArgumentResolver.CURSOR_PARAM,
+                    schema = @Schema(implementation = String.class)
+            )
+    })
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = CursorPageView.class)))
+    ResponseEntity<byte[]> findAllSortedByCreatedAtDescUsingCursor(
+            @Parameter(hidden = true) @Valid RequestedCursorPage requestedPage,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) List<String> acceptEncoding
+    ) {
+        SerializedResponse found = articlePayloadService.findAllSortedByCreatedAtDesc(requestedPage);
+
+        return SerializedResponseUtils.toResponseEntity(found, acceptEncoding);
+    }
+
+    @GetMapping(params = {IDS_REQUEST_PARAM, "!" + HAVING_TOPICS_REQUEST_PARAM, "!" + SEARCH_TERMS_REQUEST_PARAM})
+    List<ArticleResponse> findAllByIdsInOrder(
+            @RequestParam(IDS_REQUEST_PARAM)
+            @NotEmpty @Size(max = CompileTimeConstants.MAX_IDS_PER_BATCH_REQUEST) List<@NotNull UUID> ids
+    ) {
+        return articleService.findAllByIdsInOrder(ids);
+    }
+
+    /**
+     * Same as {@link #findAllByIdsInOrder(List)}, for the lists of ids too long for a query string
+     */
+    @PostMapping(path = "/lookup", consumes = MediaType.APPLICATION_JSON_VALUE)
+    List<ArticleResponse> findAllByIdsInOrder(@RequestBody @Valid ArticleIdsRequest request) {
+
+        return articleService.findAllByIdsInOrder(request.ids());
+    }
+
     @GetMapping(params = {SEARCH_TERMS_REQUEST_PARAM, "!" + HAVING_TOPICS_REQUEST_PARAM})
     PageView<ArticleResponse> findAllBySearchTermsSortedByRelevance(
             @Parameter(hidden = true) @RequestParam(SEARCH_TERMS_REQUEST_PARAM) @NotBlank String searchTerms,
@@ -101,12 +197,103 @@ public class ArticleController {
         return articleService.findAllByTopicsSortedByCreatedAtDesc(topics, requestedPage);
     }
 
+    @GetMapping(params = {
+            HAVING_TOPICS_REQUEST_PARAM,
+            "!" + RequestedPageArgumentResolver.PAGE_NUMBER_PARAM,
+            "!" + SEARCH_TERMS_REQUEST_PARAM
+    })
+    CursorPageView<ArticleResponse> findAllByTopicsSortedByCreatedAtDescUsingCursor(
+            @Parameter(hidden = true) @RequestParam(HAVING_TOPICS_REQUEST_PARAM) List<@Valid TopicRequest> topics,
+            @Parameter(hidden = true) @Valid RequestedCursorPage requestedPage
+    ) {
+        return articleService.findAllByTopicsSortedByCreatedAtDesc(topics, requestedPage);
+    }
+
+    @GetMapping(path = "/summaries", params = "!" + HAVING_TOPICS_REQUEST_PARAM)
+    @Operation(parameters = {
+            @Parameter(
+                    name = HAVING_TOPICS_REQUEST_PARAM,
+                    array = @ArraySchema(schema = @Schema(implementation = String.class))
+            ),
+            @Parameter(
+                    name = RequestedCursorPageArgumentResolver.PAGE_SIZE_PARAM,
+                    required = true,
+                    schema = @Schema(implementation = int.class)
+            ),
+            @Parameter(
+                    name = RequestedCursorPageArgumentResolver.CURSOR_PARAM,
+                    schema = @Schema(implementation = String.class)
+            )
+    })
+    CursorPageView<ArticleSummaryResponse> findSummariesSortedByCreatedAtDesc(
+            @Parameter(hidden = true) @Valid RequestedCursorPage requestedPage
+    ) {
+        return articleService.findSummariesSortedByCreatedAtDesc(requestedPage);
+    }
+
+    @GetMapping(path = "/summaries", params = HAVING_TOPICS_REQUEST_PARAM)
+    CursorPageView<ArticleSummaryResponse> findSummariesByTopicsSortedByCreatedAtDesc(
+            @Parameter(hidden = true) @RequestParam(HAVING_TOPICS_REQUEST_PARAM) List<@Valid TopicRequest> topics,
+            @Parameter(hidden = true) @Valid RequestedCursorPage requestedPage
+    ) {
+        return articleService.findSummariesByTopicsSortedByCreatedAtDesc(topics, requestedPage);
+    }
+
+    /**
+     * Streams all articles as newline-delimited JSON, gzipped if the client accepts gzip.
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @SecurityRequirement(name = SECURITY_REQ_NAME)
+    ResponseEntity<StreamingResponseBody> exportAllSortedByUpdatedAt(
+            @RequestParam(name = UPDATED_SINCE_REQUEST_PARAM, required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) List<String> acceptEncoding,
+            @Parameter(hidden = true) AuthenticatedUser authenticatedUser
+    ) {
+        articleExportService.authorizeExport(authenticatedUser);
+
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (!ContentEncodingUtils.acceptsGzip(acceptEncoding)) {
+            return responseBuilder.body(outputStream -> articleExportService
+                    .exportAllSortedByUpdatedAt(updatedSince, outputStream)
+            );
+        }
+
+        return responseBuilder
+                .header(HttpHeaders.CONTENT_ENCODING, ContentEncodingUtils.GZIP)
+                .body(outputStream -> {
+                    try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+                        articleExportService.exportAllSortedByUpdatedAt(updatedSince, gzipStream);
+                    }
+                });
+    }
+
+    /**
+     * Responds with {@code 202 Accepted} and the started operation instead of waiting
+     * for the article to be created if {@code Prefer: respond-async} is requested
+     */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     @SecurityRequirement(name = SECURITY_REQ_NAME)
-    ResponseEntity<Void> create(
+    @ApiResponse(responseCode = "201")
+    @ApiResponse(responseCode = "202", content = @Content(schema = @Schema(implementation = ArticleOperationResponse.class)))
+    ResponseEntity<?> create(
             @RequestBody @Valid CreateRequestDTO<ArticleRequest> createRequestDTO,
+            @RequestHeader(name = PreferUtils.PREFER, required = false) List<String> prefer,
             @Parameter(hidden = true) AuthenticatedUser authenticatedUser
     ) {
+        if (PreferUtils.prefersRespondAsync(prefer)) {
+
+            ArticleOperationResponse operation = articleService.startCreate(
+                    createRequestDTO.payload(),
+                    createRequestDTO.idempotencyTokenValue(),
+                    authenticatedUser
+            );
+            return toAcceptedResponse(operation);
+        }
+
         UUID id = articleService.create(
                 createRequestDTO.payload(),
                 createRequestDTO.idempotencyTokenValue(),
@@ -130,13 +317,31 @@ public class ArticleController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Responds with {@code 202 Accepted} and the started operation instead of waiting
+     * for the article to be updated if {@code Prefer: respond-async} is requested
+     */
     @PutMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @SecurityRequirement(name = SECURITY_REQ_NAME)
-    ResponseEntity<Void> updateById(
+    @ApiResponse(responseCode = "204")
+    @ApiResponse(responseCode = "202", content = @Content(schema = @Schema(implementation = ArticleOperationResponse.class)))
+    ResponseEntity<?> updateById(
             @PathVariable("id") UUID id,
             @RequestBody @Valid UpdateRequestDTO<ArticleRequest> updateRequestDTO,
+            @RequestHeader(name = PreferUtils.PREFER, required = false) List<String> prefer,
             @Parameter(hidden = true) AuthenticatedUser authenticatedUser
     ) {
+        if (PreferUtils.prefersRespondAsync(prefer)) {
+
+            ArticleOperationResponse operation = articleService.startUpdateById(
+                    id,
+                    updateRequestDTO.payload(),
+                    updateRequestDTO.version(),
+                    authenticatedUser
+            );
+            return toAcceptedResponse(operation);
+        }
+
         articleService.updateById(
                 id,
                 updateRequestDTO.payload(),
@@ -146,6 +351,26 @@ public class ArticleController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/operations/{operationId}")
+    @SecurityRequirement(name = SECURITY_REQ_NAME)
+    ResponseEntity<ArticleOperationResponse> findOperationById(
+            @PathVariable("operationId") String operationId,
+            @Parameter(hidden = true) AuthenticatedUser authenticatedUser
+    ) {
+        return ResponseEntity.of(articleService.findOperationById(operationId, authenticatedUser));
+    }
+
+    private static ResponseEntity<ArticleOperationResponse> toAcceptedResponse(ArticleOperationResponse operation) {
+
+        URI operationUri = UriComponentsBuilder.fromPath("/articles/operations/{operationId}")
+                .build(operation.id());
+
+        return ResponseEntity.accepted()
+                .location(operationUri)
+                .header(PreferUtils.PREFERENCE_APPLIED, PreferUtils.RESPOND_ASYNC)
+                .body(operation);
+    }
+
     @PatchMapping(path = "/{articleId}/add-topic", consumes = MediaType.APPLICATION_JSON_VALUE)
     @SecurityRequirement(name = SECURITY_REQ_NAME)
     ResponseEntity<Void> addTopic(
@@ -1,10 +1,12 @@
 package by.sakuuj.articles.article.controller;
 
+import by.sakuuj.articles.article.configs.RunMode;
 import by.sakuuj.articles.article.dto.CreateRequestDTO;
 import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.TopicResponse;
 import by.sakuuj.articles.article.dto.UpdateRequestDTO;
 import by.sakuuj.articles.article.service.TopicService;
+import by.sakuuj.articles.article.utils.ETagUtils;
 import by.sakuuj.articles.controller.resolvers.RequestedPageArgumentResolver;
 import by.sakuuj.articles.paging.PageView;
 import by.sakuuj.articles.paging.RequestedPage;
@@ -15,6 +17,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -24,17 +29,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(value = "/topics", produces = MediaType.APPLICATION_JSON_VALUE)
+@ConditionalOnProperty(name = RunMode.API_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
 public class TopicController {
 
     private static final String SECURITY_REQ_NAME = "Bearer Authentication";
@@ -42,11 +51,29 @@ public class TopicController {
 
     @GetMapping("/{id}")
     public ResponseEntity<TopicResponse> findById(
-            @PathVariable("id") UUID id
+            @PathVariable("id") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch
     ) {
+        if (ifNoneMatch != null) {
+
+            Optional<Short> currentVersion = topicService.findVersionById(id);
+            if (currentVersion.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            String currentETag = ETagUtils.toETag(id, currentVersion.get());
+            if (ETagUtils.anyMatches(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(currentETag)
+                        .build();
+            }
+        }
+
         return topicService.findById(id)
-                .map(ResponseEntity::ok)
-                .orElseGet(() -> ResponseEntity.notFound().build());
+                .map(found -> ResponseEntity.ok()
+                        .eTag(ETagUtils.toETag(found.id(), found.version()))
+                        .body(found)
+                ).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping
@@ -0,0 +1,20 @@
+package by.sakuuj.articles.article.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Passed between article workflow steps instead of the article itself, so that workflow histories stay small.
+ * <p>
+ * Other fields of {@link ArticleResponse}, which is what the steps passed before, are ignored,
+ * so that histories recorded with it can still be replayed.
+ */
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ArticleIdAndVersion(
+        UUID id,
+        short version
+) {
+}
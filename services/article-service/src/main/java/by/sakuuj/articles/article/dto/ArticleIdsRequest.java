@@ -0,0 +1,17 @@
+package by.sakuuj.articles.article.dto;
+
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record ArticleIdsRequest(
+        @NotEmpty @Size(max = CompileTimeConstants.MAX_IDS_PER_BATCH_REQUEST)
+        List<@NotNull UUID> ids
+) {
+}
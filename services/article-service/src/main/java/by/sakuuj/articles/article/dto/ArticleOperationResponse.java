@@ -0,0 +1,30 @@
+package by.sakuuj.articles.article.dto;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * State of an article create or update started asynchronously.
+ *
+ * @param articleId      id of the article the operation is applied to; once a create operation has completed
+ *                       it is the id of the created article, which differs from the id returned on start
+ *                       if the idempotency token has been used already
+ * @param failureType    {@code null} unless the operation has failed
+ * @param failureMessage {@code null} unless the operation has failed
+ */
+@Builder
+public record ArticleOperationResponse(
+        String id,
+        Status status,
+        UUID articleId,
+        String failureType,
+        String failureMessage
+) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -10,9 +10,12 @@ public record ArticleResponse(
         UUID id,
         String title,
         String content,
+        String excerpt,
+        int wordCount,
         List<TopicResponse> topics,
         String createdAt,
         String updatedAt,
-        PersonResponse author
+        PersonResponse author,
+        short version
 ) {
 }
@@ -0,0 +1,17 @@
+package by.sakuuj.articles.article.dto;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record ArticleSummaryResponse(
+        UUID id,
+        String title,
+        String excerpt,
+        int wordCount,
+        UUID authorId,
+        String createdAt,
+        String updatedAt
+) {
+}
@@ -0,0 +1,20 @@
+package by.sakuuj.articles.article.dto;
+
+import lombok.Builder;
+
+/**
+ * Response body serialized to JSON once, so that it can be written to many responses as is.
+ *
+ * @param gzippedJson {@code null} if the JSON is too small to be worth compressing
+ * @param eTag        {@code null} if the response is not versioned
+ */
+@Builder
+public record SerializedResponse(
+        byte[] json,
+        byte[] gzippedJson,
+        String eTag
+) {
+    public int sizeInBytes() {
+        return json.length + (gzippedJson == null ? 0 : gzippedJson.length);
+    }
+}
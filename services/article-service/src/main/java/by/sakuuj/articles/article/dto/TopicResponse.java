@@ -9,6 +9,7 @@ public record TopicResponse(
         UUID id,
         String name,
         String createdAt,
-        String updatedAt
+        String updatedAt,
+        short version
 ) {
 }
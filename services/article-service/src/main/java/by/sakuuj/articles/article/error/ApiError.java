@@ -60,4 +60,13 @@ public class ApiError {
                 .detailedMessage(detailedMessage)
                 .build();
     }
+
+    public static ApiError accessDeniedError(String detailedMessage) {
+
+        return  ApiError.builder()
+                .errorCode(5)
+                .message("Access denied error")
+                .detailedMessage(detailedMessage)
+                .build();
+    }
 }
@@ -2,7 +2,9 @@ package by.sakuuj.articles.article.mapper.jpa;
 
 import by.sakuuj.articles.article.dto.ArticleRequest;
 import by.sakuuj.articles.article.dto.ArticleResponse;
+import by.sakuuj.articles.article.dto.ArticleSummaryResponse;
 import by.sakuuj.articles.article.mapper.LocalDateTimeMapper;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleSummary;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
@@ -27,6 +29,8 @@ public interface ArticleMapper {
     @Mapping(target = "author", source = "authorId")
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "excerpt", ignore = true)
+    @Mapping(target = "wordCount", ignore = true)
     @Mapping(target = "articleTopics", ignore = true)
     @Mapping(target = "modificationAudit", ignore = true)
     ArticleEntity toEntity(ArticleRequest request, UUID authorId);
@@ -36,10 +40,14 @@ public interface ArticleMapper {
     @Mapping(target = "updatedAt", source = "entity.modificationAudit.updatedAt")
     ArticleResponse toResponse(ArticleEntity entity);
 
+    ArticleSummaryResponse toSummaryResponse(ArticleSummary summary);
+
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "author", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "excerpt", ignore = true)
+    @Mapping(target = "wordCount", ignore = true)
     @Mapping(target = "articleTopics", ignore = true)
     @Mapping(target = "modificationAudit", ignore = true)
     void updateEntity(@MappingTarget ArticleEntity entity, ArticleRequest request);
@@ -1,16 +1,41 @@
 package by.sakuuj.articles.article.orchestration;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrchestratedArticleService {
 
-    ArticleResponse create(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId);
+    /**
+     * Returns the result of the creation with the same idempotency token instead, if it is running or has completed.
+     *
+     * @param articleId id of the article, unused if the creation has already been started
+     */
+    ArticleIdAndVersion create(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId, UUID articleId);
 
-    ArticleResponse updateById(ArticleRequest articleRequest, UUID id, short version);
+    /**
+     * Starts the creation without waiting for it to complete.
+     * Returns the operation with the same idempotency token instead, if it is running or has completed.
+     */
+    ArticleOperationResponse startCreate(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId, UUID articleId);
+
+    ArticleIdAndVersion updateById(ArticleRequest articleRequest, UUID id, short version);
+
+    /**
+     * Starts the update without waiting for it to complete.
+     *
+     * @param requestedBy id of the client, the only one the operation is visible to
+     */
+    ArticleOperationResponse startUpdateById(ArticleRequest articleRequest, UUID id, short version, UUID requestedBy);
+
+    /**
+     * @return empty if there is no such operation or it has been requested by another client
+     */
+    Optional<ArticleOperationResponse> findOperationById(String operationId, UUID requestedBy);
 
     void deleteById(UUID id);
 
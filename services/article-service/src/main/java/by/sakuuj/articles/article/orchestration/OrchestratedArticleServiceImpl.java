@@ -1,18 +1,34 @@
 package by.sakuuj.articles.article.orchestration;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.orchestration.workflows.CreateArticleWorkflow;
 import by.sakuuj.articles.article.orchestration.workflows.DeleteArticleWorkflow;
 import by.sakuuj.articles.article.orchestration.workflows.UpdateArticleWorkflow;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
+import by.sakuuj.articles.entity.jpa.generators.UuidV7Generator;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.temporal.api.common.v1.Payload;
+import io.temporal.api.common.v1.WorkflowExecution;
+import io.temporal.api.enums.v1.WorkflowExecutionStatus;
+import io.temporal.api.enums.v1.WorkflowIdReusePolicy;
+import io.temporal.api.workflow.v1.WorkflowExecutionInfo;
+import io.temporal.api.workflowservice.v1.DescribeWorkflowExecutionRequest;
+import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowExecutionAlreadyStarted;
+import io.temporal.client.WorkflowOptions;
+import io.temporal.client.WorkflowStub;
 import io.temporal.failure.ApplicationFailure;
 import io.temporal.failure.TemporalException;
+import io.temporal.serviceclient.WorkflowServiceStubs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,12 +37,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OrchestratedArticleServiceImpl implements OrchestratedArticleService {
 
-    private final ObjectFactory<CreateArticleWorkflow> createArticleWorkflow;
+    private final WorkflowClient workflowClient;
 
-    private final ObjectFactory<DeleteArticleWorkflow> deleteArticleWorkflow;
+    private final WorkflowServiceStubs workflowServiceStubs;
 
-    private final ObjectFactory<UpdateArticleWorkflow> updateArticleWorkflow;
+    private static final String CREATE_OPERATION_ID_PREFIX = "article-create-";
+    private static final String UPDATE_OPERATION_ID_PREFIX = "article-update-";
 
+    private static final String ARTICLE_ID_MEMO_KEY = "articleId";
+    private static final String REQUESTED_BY_MEMO_KEY = "requestedBy";
 
     private static Optional<ApplicationFailure> extractApplicationFailure(TemporalException exception) {
 
@@ -47,10 +66,30 @@ public class OrchestratedArticleServiceImpl implements OrchestratedArticleServic
         return Optional.empty();
     }
 
+    private static String simpleTypeName(String typeName) {
+        return typeName.substring(typeName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * A creation is identified by its idempotency token, so a retried request does not start another workflow
+     */
+    private static String createOperationId(IdempotencyTokenId idempotencyTokenId) {
+        return CREATE_OPERATION_ID_PREFIX + idempotencyTokenId.getClientId() + "-" + idempotencyTokenId.getIdempotencyTokenValue();
+    }
+
     @Override
-    public ArticleResponse create(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId) {
+    public ArticleIdAndVersion create(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId, UUID articleId) {
+
+        String operationId = createOperationId(idempotencyTokenId);
+
+        CreateArticleWorkflow workflow = newWorkflowStub(
+                CreateArticleWorkflow.class,
+                operationId,
+                articleId,
+                idempotencyTokenId.getClientId()
+        );
         try {
-            return createArticleWorkflow.getObject().createArticle(articleRequest, idempotencyTokenId);
+            return createOrAwaitStarted(workflow, operationId, articleRequest, idempotencyTokenId, articleId);
 
         } catch (TemporalException ex) {
 
@@ -60,9 +99,9 @@ public class OrchestratedArticleServiceImpl implements OrchestratedArticleServic
 
 
     @Override
-    public ArticleResponse updateById(ArticleRequest articleRequest, UUID id, short version) {
+    public ArticleIdAndVersion updateById(ArticleRequest articleRequest, UUID id, short version) {
         try {
-            return updateArticleWorkflow.getObject().updateArticle(articleRequest, id, version);
+            return newWorkflowStub(UpdateArticleWorkflow.class).updateArticle(articleRequest, id, version);
 
         } catch (TemporalException ex) {
 
@@ -70,10 +109,200 @@ public class OrchestratedArticleServiceImpl implements OrchestratedArticleServic
         }
     }
 
+    @Override
+    public ArticleOperationResponse startCreate(ArticleRequest articleRequest,
+                                                IdempotencyTokenId idempotencyTokenId,
+                                                UUID articleId) {
+
+        String operationId = createOperationId(idempotencyTokenId);
+
+        CreateArticleWorkflow workflow = newWorkflowStub(
+                CreateArticleWorkflow.class,
+                operationId,
+                articleId,
+                idempotencyTokenId.getClientId()
+        );
+        try {
+            WorkflowClient.start(workflow::createArticle, articleRequest, idempotencyTokenId, articleId);
+
+        } catch (WorkflowExecutionAlreadyStarted ex) {
+
+            log.info("Creation '{}' has already been started, returning it", operationId);
+            return findOperationById(operationId, idempotencyTokenId.getClientId())
+                    .orElseThrow(() -> ex);
+        }
+
+        return runningOperation(operationId, articleId);
+    }
+
+    @Override
+    public ArticleOperationResponse startUpdateById(ArticleRequest articleRequest, UUID id, short version, UUID requestedBy) {
+
+        String operationId = UPDATE_OPERATION_ID_PREFIX + id + "-" + UuidV7Generator.generateUuid();
+
+        UpdateArticleWorkflow workflow = newWorkflowStub(
+                UpdateArticleWorkflow.class,
+                operationId,
+                id,
+                requestedBy
+        );
+        WorkflowClient.start(workflow::updateArticle, articleRequest, id, version);
+
+        return runningOperation(operationId, id);
+    }
+
+    @Override
+    public Optional<ArticleOperationResponse> findOperationById(String operationId, UUID requestedBy) {
+
+        if (!operationId.startsWith(CREATE_OPERATION_ID_PREFIX) && !operationId.startsWith(UPDATE_OPERATION_ID_PREFIX)) {
+            return Optional.empty();
+        }
+
+        WorkflowExecutionInfo executionInfo;
+        try {
+            executionInfo = workflowServiceStubs.blockingStub()
+                    .describeWorkflowExecution(DescribeWorkflowExecutionRequest.newBuilder()
+                            .setNamespace(workflowClient.getOptions().getNamespace())
+                            .setExecution(WorkflowExecution.newBuilder()
+                                    .setWorkflowId(operationId)
+                                    .build())
+                            .build())
+                    .getWorkflowExecutionInfo();
+
+        } catch (StatusRuntimeException ex) {
+
+            if (ex.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw ex;
+        }
+
+        Map<String, Payload> memo = executionInfo.getMemo().getFieldsMap();
+        if (!requestedBy.toString().equals(readMemo(memo, REQUESTED_BY_MEMO_KEY))) {
+            return Optional.empty();
+        }
+
+        UUID articleId = UUID.fromString(readMemo(memo, ARTICLE_ID_MEMO_KEY));
+
+        WorkflowExecutionStatus status = executionInfo.getStatus();
+        if (status == WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_RUNNING
+                || status == WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_CONTINUED_AS_NEW) {
+
+            return Optional.of(runningOperation(operationId, articleId));
+        }
+
+        WorkflowStub workflow = workflowClient.newUntypedWorkflowStub(
+                operationId,
+                Optional.of(executionInfo.getExecution().getRunId()),
+                Optional.empty()
+        );
+        try {
+            ArticleIdAndVersion article = workflow.getResult(ArticleIdAndVersion.class);
+
+            return Optional.of(ArticleOperationResponse.builder()
+                    .id(operationId)
+                    .status(ArticleOperationResponse.Status.COMPLETED)
+                    .articleId(article.id())
+                    .build());
+
+        } catch (TemporalException ex) {
+
+            Throwable failure = extractApplicationFailure(ex)
+                    .map(Throwable.class::cast)
+                    .or(() -> Optional.ofNullable(ex.getCause()))
+                    .orElse(ex);
+
+            return Optional.of(ArticleOperationResponse.builder()
+                    .id(operationId)
+                    .status(ArticleOperationResponse.Status.FAILED)
+                    .articleId(articleId)
+                    .failureType(failure instanceof ApplicationFailure applicationFailure
+                            ? simpleTypeName(applicationFailure.getType())
+                            : failure.getClass().getSimpleName()
+                    )
+                    .failureMessage(failure instanceof ApplicationFailure applicationFailure
+                            ? applicationFailure.getOriginalMessage()
+                            : failure.getMessage()
+                    )
+                    .build());
+        }
+    }
+
+    /**
+     * Waits for the creation started by a previous request with the same idempotency token,
+     * if there is one, instead of creating the article again
+     */
+    private ArticleIdAndVersion createOrAwaitStarted(CreateArticleWorkflow workflow,
+                                                     String operationId,
+                                                     ArticleRequest articleRequest,
+                                                     IdempotencyTokenId idempotencyTokenId,
+                                                     UUID articleId) {
+        try {
+            return workflow.createArticle(articleRequest, idempotencyTokenId, articleId);
+
+        } catch (WorkflowExecutionAlreadyStarted ex) {
+
+            log.info("Creation '{}' has already been started, awaiting its result", operationId);
+            return workflowClient.newUntypedWorkflowStub(operationId)
+                    .getResult(ArticleIdAndVersion.class);
+        }
+    }
+
+    /**
+     * Stubs are cheap to create and hold no connection, a new one is used for every workflow execution
+     */
+    private <T> T newWorkflowStub(Class<T> workflowInterface) {
+
+        return workflowClient.newWorkflowStub(
+                workflowInterface,
+                WorkflowOptions.newBuilder()
+                        .setTaskQueue(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME)
+                        .build()
+        );
+    }
+
+    private <T> T newWorkflowStub(Class<T> workflowInterface, String operationId, UUID articleId, UUID requestedBy) {
+
+        return workflowClient.newWorkflowStub(
+                workflowInterface,
+                WorkflowOptions.newBuilder()
+                        .setTaskQueue(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME)
+                        .setWorkflowId(operationId)
+                        // an operation is started again only if it has failed, otherwise its id is rejected
+                        .setWorkflowIdReusePolicy(WorkflowIdReusePolicy.WORKFLOW_ID_REUSE_POLICY_ALLOW_DUPLICATE_FAILED_ONLY)
+                        .setMemo(Map.of(
+                                ARTICLE_ID_MEMO_KEY, articleId.toString(),
+                                REQUESTED_BY_MEMO_KEY, requestedBy.toString()
+                        ))
+                        .build()
+        );
+    }
+
+    private String readMemo(Map<String, Payload> memo, String key) {
+
+        Payload payload = memo.get(key);
+        if (payload == null) {
+            return null;
+        }
+
+        return workflowClient.getOptions()
+                .getDataConverter()
+                .fromPayload(payload, String.class, String.class);
+    }
+
+    private static ArticleOperationResponse runningOperation(String operationId, UUID articleId) {
+
+        return ArticleOperationResponse.builder()
+                .id(operationId)
+                .status(ArticleOperationResponse.Status.RUNNING)
+                .articleId(articleId)
+                .build();
+    }
+
     @Override
     public void deleteById(UUID id) {
         try {
-            deleteArticleWorkflow.getObject().deleteDocumentById(id);
+            newWorkflowStub(DeleteArticleWorkflow.class).deleteDocumentById(id);
 
         } catch (TemporalException ex) {
 
@@ -1,18 +1,27 @@
 package by.sakuuj.articles.article.orchestration.activities;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import io.temporal.activity.ActivityInterface;
 import io.temporal.activity.ActivityMethod;
 
+import java.util.UUID;
+
 @ActivityInterface
 public interface CreateArticleActivities {
 
     String SEND_SAVE_DOCUMENT_EVENT_ACTIVITY_NAME = "SendSaveDocumentEvent";
 
-    ArticleResponse saveInDatabase(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId);
+    /**
+     * @param articleId id to create the article with, is not used if the idempotency token has been claimed already.
+     *                  Is generated if null: workflows started before the id was passed schedule this activity without it
+     */
+    ArticleIdAndVersion saveInDatabase(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId, UUID articleId);
 
+    /**
+     * Sends the article as it is in the database at the moment, which may be newer than the saved version.
+     */
     @ActivityMethod(name = SEND_SAVE_DOCUMENT_EVENT_ACTIVITY_NAME)
-    void sendSaveDocumentEvent(ArticleResponse articleResponse);
+    void sendSaveDocumentEvent(ArticleIdAndVersion article);
 }
@@ -1,61 +1,95 @@
 package by.sakuuj.articles.article.orchestration.activities;
 
 import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
 import by.sakuuj.articles.article.exception.IdempotencyTokenExistsException;
 import by.sakuuj.articles.article.mapper.elasticsearch.ArticleDocumentMapper;
 import by.sakuuj.articles.article.mapper.jpa.ArticleMapper;
 import by.sakuuj.articles.article.producer.ElasticsearchEventProducer;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import by.sakuuj.articles.entity.jpa.generators.UuidV7Generator;
+import by.sakuuj.articles.service.IdempotencyClaim;
 import by.sakuuj.articles.service.IdempotencyTokenService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CreateArticleActivitiesImpl implements CreateArticleActivities {
 
     private final ArticleMapper articleMapper;
     private final ArticleDocumentMapper articleDocumentMapper;
+    private final TransactionTemplate txTemplate;
 
     private final ElasticsearchEventProducer elasticsearchEventProducer;
 
     private final ArticleRepository articleRepository;
+    private final ArticleOutboxEventRepository articleOutboxEventRepository;
 
     private final IdempotencyTokenService idempotencyTokenService;
 
     @Override
     @Transactional
-    public ArticleResponse saveInDatabase(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId) {
+    public ArticleIdAndVersion saveInDatabase(ArticleRequest articleRequest,
+                                              IdempotencyTokenId idempotencyTokenId,
+                                              UUID requestedArticleId) {
 
-        idempotencyTokenService.findById(idempotencyTokenId)
-                .ifPresent(token -> {
-                    throw new IdempotencyTokenExistsException();
-                });
+        UUID articleId = Optional.ofNullable(requestedArticleId)
+                .orElseGet(UuidV7Generator::generateUuid);
+
+        IdempotencyClaim claim = idempotencyTokenService.claim(
+                idempotencyTokenId,
+                CreationId.of(ArticleEntity.class, articleId)
+        );
+        if (!claim.isWon()) {
+            UUID createdArticleId = claim.creationId().getCreatedEntityId();
+
+            return articleRepository.findVersionById(createdArticleId)
+                    .map(version -> new ArticleIdAndVersion(createdArticleId, version))
+                    .orElseThrow(IdempotencyTokenExistsException::new);
+        }
 
         UUID authorId = idempotencyTokenId.getClientId();
 
         ArticleEntity articleEntityToCreate = articleMapper.toEntity(articleRequest, authorId);
-        articleRepository.save(articleEntityToCreate);
+        articleEntityToCreate.setId(articleId);
+        articleRepository.persist(articleEntityToCreate);
+        articleOutboxEventRepository.persist(ArticleOutboxEventEntity.builder()
+                .articleId(articleId)
+                .eventType(ArticleOutboxEventEntity.EventType.UPSERT)
+                .build()
+        );
 
-        UUID createdArticleId = articleEntityToCreate.getId();
-        idempotencyTokenService.create(idempotencyTokenId, CreationId.of(ArticleEntity.class, createdArticleId));
-
-        return articleMapper.toResponse(articleEntityToCreate);
+        return new ArticleIdAndVersion(articleId, articleEntityToCreate.getVersion());
     }
 
+    /**
+     * Not read-only: read-only transactions are routed to replicas, which may not have received the article yet
+     */
     @Override
-    public void sendSaveDocumentEvent(ArticleResponse articleResponse) {
+    public void sendSaveDocumentEvent(ArticleIdAndVersion article) {
+
+        Optional<ArticleDocument> articleDocument = txTemplate.execute(txStatus -> articleRepository.findById(article.id())
+                .map(articleDocumentMapper::toDocument)
+        );
 
-        ArticleDocument articleDocument = articleDocumentMapper.toDocument(articleResponse);
-        elasticsearchEventProducer.produce(ArticleDocumentRequest.RequestType.UPSERT, articleDocument);
+        articleDocument.ifPresentOrElse(
+                document -> elasticsearchEventProducer.produce(ArticleDocumentRequest.RequestType.UPSERT, document),
+                () -> log.info("Article '{}' has been deleted before being indexed", article.id())
+        );
     }
 }
@@ -4,9 +4,11 @@ import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
 import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
 import by.sakuuj.articles.article.exception.EntityNotFoundException;
 import by.sakuuj.articles.article.producer.ElasticsearchEventProducer;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
 import by.sakuuj.articles.service.IdempotencyTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -21,6 +23,7 @@ public class DeleteArticleActivitiesImpl implements DeleteArticleActivities {
     private final ElasticsearchEventProducer elasticsearchEventProducer;
 
     private final ArticleRepository articleRepository;
+    private final ArticleOutboxEventRepository articleOutboxEventRepository;
 
     private final IdempotencyTokenService idempotencyTokenService;
 
@@ -32,6 +35,11 @@ public class DeleteArticleActivitiesImpl implements DeleteArticleActivities {
 
         articleRepository.deleteById(id);
         idempotencyTokenService.deleteByCreationId(CreationId.of(ArticleEntity.class, id));
+        articleOutboxEventRepository.persist(ArticleOutboxEventEntity.builder()
+                .articleId(id)
+                .eventType(ArticleOutboxEventEntity.EventType.DELETE)
+                .build()
+        );
     }
 
     @Override
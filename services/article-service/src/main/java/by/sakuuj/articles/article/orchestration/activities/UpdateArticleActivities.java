@@ -1,7 +1,7 @@
 package by.sakuuj.articles.article.orchestration.activities;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import io.temporal.activity.ActivityInterface;
 import io.temporal.activity.ActivityMethod;
 
@@ -12,8 +12,11 @@ public interface UpdateArticleActivities {
 
     String SEND_UPDATE_DOCUMENT_EVENT_ACTIVITY_NAME = "SendUpdateDocumentEvent";
 
-    ArticleResponse updateByIdInDatabase(ArticleRequest articleRequest, UUID id, short version);
+    ArticleIdAndVersion updateByIdInDatabase(ArticleRequest articleRequest, UUID id, short version);
 
+    /**
+     * Sends the article as it is in the database at the moment, which may be newer than the updated version.
+     */
     @ActivityMethod(name = SEND_UPDATE_DOCUMENT_EVENT_ACTIVITY_NAME)
-    void sendUpdateDocumentEvent(ArticleResponse articleResponse);
+    void sendUpdateDocumentEvent(ArticleIdAndVersion article);
 }
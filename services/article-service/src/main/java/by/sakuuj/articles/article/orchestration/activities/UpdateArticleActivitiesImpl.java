@@ -1,22 +1,27 @@
 package by.sakuuj.articles.article.orchestration.activities;
 
 import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
 import by.sakuuj.articles.article.exception.EntityNotFoundException;
 import by.sakuuj.articles.article.exception.EntityVersionDoesNotMatch;
 import by.sakuuj.articles.article.mapper.elasticsearch.ArticleDocumentMapper;
 import by.sakuuj.articles.article.mapper.jpa.ArticleMapper;
 import by.sakuuj.articles.article.producer.ElasticsearchEventProducer;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class UpdateArticleActivitiesImpl implements UpdateArticleActivities {
@@ -28,9 +33,10 @@ public class UpdateArticleActivitiesImpl implements UpdateArticleActivities {
     private final ElasticsearchEventProducer elasticsearchEventProducer;
 
     private final ArticleRepository articleRepository;
+    private final ArticleOutboxEventRepository articleOutboxEventRepository;
 
     @Override
-    public ArticleResponse updateByIdInDatabase(ArticleRequest articleRequest, UUID id, short version) {
+    public ArticleIdAndVersion updateByIdInDatabase(ArticleRequest articleRequest, UUID id, short version) {
 
         ArticleEntity updatedEntity = txTemplate.execute(txStatus -> {
 
@@ -43,17 +49,31 @@ public class UpdateArticleActivitiesImpl implements UpdateArticleActivities {
             }
 
             articleMapper.updateEntity(entityToUpdate, articleRequest);
+            articleOutboxEventRepository.persist(ArticleOutboxEventEntity.builder()
+                    .articleId(id)
+                    .eventType(ArticleOutboxEventEntity.EventType.UPSERT)
+                    .build()
+            );
 
             return entityToUpdate;
         });
 
-        return articleMapper.toResponse(updatedEntity);
+        return new ArticleIdAndVersion(id, updatedEntity.getVersion());
     }
 
+    /**
+     * Not read-only: read-only transactions are routed to replicas, which may not have received the update yet
+     */
     @Override
-    public void sendUpdateDocumentEvent(ArticleResponse articleResponse) {
+    public void sendUpdateDocumentEvent(ArticleIdAndVersion article) {
 
-        ArticleDocument articleDocument = articleDocumentMapper.toDocument(articleResponse);
-        elasticsearchEventProducer.produce(ArticleDocumentRequest.RequestType.UPSERT, articleDocument);
+        Optional<ArticleDocument> articleDocument = txTemplate.execute(txStatus -> articleRepository.findById(article.id())
+                .map(articleDocumentMapper::toDocument)
+        );
+
+        articleDocument.ifPresentOrElse(
+                document -> elasticsearchEventProducer.produce(ArticleDocumentRequest.RequestType.UPSERT, document),
+                () -> log.info("Article '{}' has been deleted before being indexed", article.id())
+        );
     }
 }
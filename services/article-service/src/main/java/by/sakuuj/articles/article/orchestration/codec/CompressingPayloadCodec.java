@@ -0,0 +1,80 @@
+package by.sakuuj.articles.article.orchestration.codec;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.temporal.api.common.v1.Payload;
+import io.temporal.payload.codec.PayloadCodec;
+import io.temporal.payload.codec.ZlibPayloadCodec;
+
+import java.util.List;
+
+/**
+ * Deflates payloads not smaller than the threshold, the rest are left as they are.
+ * A payload is also left as it is if deflating does not make it smaller.
+ * <p>
+ * Payloads which are not deflated are decoded as they are,
+ * so workflows started before the codec was introduced can still be replayed.
+ */
+public class CompressingPayloadCodec implements PayloadCodec {
+
+    private static final String METRIC_NAME = "temporal.payload.size";
+    private static final String STAGE_TAG = "stage";
+
+    private final PayloadCodec zlibCodec = new ZlibPayloadCodec();
+
+    private final int thresholdInBytes;
+
+    private final DistributionSummary sizeBeforeEncoding;
+    private final DistributionSummary sizeAfterEncoding;
+
+    public CompressingPayloadCodec(int thresholdInBytes, MeterRegistry meterRegistry) {
+
+        this.thresholdInBytes = thresholdInBytes;
+
+        this.sizeBeforeEncoding = sizeSummary(meterRegistry, "before_encoding");
+        this.sizeAfterEncoding = sizeSummary(meterRegistry, "after_encoding");
+    }
+
+    @Override
+    public List<Payload> encode(List<Payload> payloads) {
+
+        return payloads.stream()
+                .map(this::encode)
+                .toList();
+    }
+
+    @Override
+    public List<Payload> decode(List<Payload> payloads) {
+
+        return zlibCodec.decode(payloads);
+    }
+
+    private Payload encode(Payload payload) {
+
+        int size = payload.getSerializedSize();
+        sizeBeforeEncoding.record(size);
+
+        if (size < thresholdInBytes) {
+            sizeAfterEncoding.record(size);
+            return payload;
+        }
+
+        Payload compressed = zlibCodec.encode(List.of(payload)).getFirst();
+
+        if (compressed.getSerializedSize() >= size) {
+            sizeAfterEncoding.record(size);
+            return payload;
+        }
+
+        sizeAfterEncoding.record(compressed.getSerializedSize());
+        return compressed;
+    }
+
+    private static DistributionSummary sizeSummary(MeterRegistry meterRegistry, String stage) {
+
+        return DistributionSummary.builder(METRIC_NAME)
+                .baseUnit("bytes")
+                .tag(STAGE_TAG, stage)
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,9 @@
 package by.sakuuj.articles.article.orchestration.worker;
 
+import by.sakuuj.articles.article.configs.RunMode;
 import io.temporal.worker.WorkerFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.task.AsyncTaskExecutor;
@@ -9,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = RunMode.WORKER_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
 public class WorkerServerLauncher implements ApplicationListener<ContextRefreshedEvent> {
 
     private final WorkerFactory workerFactory;
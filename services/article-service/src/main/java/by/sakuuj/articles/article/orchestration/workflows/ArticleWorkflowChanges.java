@@ -0,0 +1,52 @@
+package by.sakuuj.articles.article.orchestration.workflows;
+
+import io.temporal.workflow.Workflow;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Change ids of {@link Workflow#getVersion}, under which workflows started
+ * before a change keep being replayed the way they have been executed.
+ */
+@UtilityClass
+class ArticleWorkflowChanges {
+
+    /**
+     * The database step runs as a local activity if enabled, the choice is made by {@link DatabaseActivitiesSelector}.
+     */
+    private static final String LOCAL_DATABASE_ACTIVITY = "local-database-activity";
+
+    private static final int LOCAL_DATABASE_ACTIVITY_VERSION = 1;
+
+    /**
+     * Search index events are saved to the outbox by the database step and published by
+     * {@link by.sakuuj.articles.article.producer.ArticleOutboxRelay}, instead of being sent by a separate activity.
+     */
+    private static final String SEARCH_INDEX_OUTBOX = "search-index-outbox";
+
+    private static final int SEARCH_INDEX_OUTBOX_VERSION = 1;
+
+    /**
+     * @return whether the workflow has been started before {@link #LOCAL_DATABASE_ACTIVITY},
+     * its database step always running as an activity
+     */
+    static boolean runsDatabaseStepAsActivity() {
+
+        int version = Workflow.getVersion(
+                LOCAL_DATABASE_ACTIVITY,
+                Workflow.DEFAULT_VERSION,
+                LOCAL_DATABASE_ACTIVITY_VERSION
+        );
+
+        return version == Workflow.DEFAULT_VERSION;
+    }
+
+    /**
+     * @return whether the workflow has been started before {@link #SEARCH_INDEX_OUTBOX}
+     */
+    static boolean sendsSearchIndexEvent() {
+
+        int version = Workflow.getVersion(SEARCH_INDEX_OUTBOX, Workflow.DEFAULT_VERSION, SEARCH_INDEX_OUTBOX_VERSION);
+
+        return version == Workflow.DEFAULT_VERSION;
+    }
+}
@@ -1,14 +1,19 @@
 package by.sakuuj.articles.article.orchestration.workflows;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import io.temporal.workflow.WorkflowInterface;
 import io.temporal.workflow.WorkflowMethod;
 
+import java.util.UUID;
+
 @WorkflowInterface
 public interface CreateArticleWorkflow {
 
+    /**
+     * @param articleId id to create the article with, null in workflows started before it has been passed
+     */
     @WorkflowMethod
-    ArticleResponse createArticle(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId);
+    ArticleIdAndVersion createArticle(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId, UUID articleId);
 }
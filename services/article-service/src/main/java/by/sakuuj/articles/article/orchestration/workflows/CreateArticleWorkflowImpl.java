@@ -1,16 +1,18 @@
 package by.sakuuj.articles.article.orchestration.workflows;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.orchestration.activities.CreateArticleActivities;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import io.temporal.activity.ActivityOptions;
+import io.temporal.activity.LocalActivityOptions;
 import io.temporal.common.RetryOptions;
 import io.temporal.workflow.Workflow;
 import org.slf4j.Logger;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.UUID;
 
 public class CreateArticleWorkflowImpl implements CreateArticleWorkflow {
 
@@ -27,6 +29,11 @@ public class CreateArticleWorkflowImpl implements CreateArticleWorkflow {
             .setScheduleToCloseTimeout(Duration.ofSeconds(5))
             .build();
 
+    private final LocalActivityOptions databaseLocalActivityOptions = LocalActivityOptions.newBuilder()
+            .setRetryOptions(retryOptionsZeroRetries)
+            .setScheduleToCloseTimeout(Duration.ofSeconds(5))
+            .build();
+
 
     private final CreateArticleActivities activities = Workflow.newActivityStub(CreateArticleActivities.class, defaultActivityOptions,
             Map.of(
@@ -43,17 +50,40 @@ public class CreateArticleWorkflowImpl implements CreateArticleWorkflow {
                             .build()
             ));
 
+    private final CreateArticleActivities localDatabaseActivities = Workflow.newLocalActivityStub(
+            CreateArticleActivities.class,
+            databaseLocalActivityOptions
+    );
+
+    private final boolean localDatabaseActivityEnabled;
+
+    public CreateArticleWorkflowImpl() {
+        this(false);
+    }
+
+    /**
+     * @param localDatabaseActivityEnabled whether the database step runs as a local activity: in the same workflow task
+     *                                     as the workflow start, without a round trip to the Temporal server
+     */
+    public CreateArticleWorkflowImpl(boolean localDatabaseActivityEnabled) {
+        this.localDatabaseActivityEnabled = localDatabaseActivityEnabled;
+    }
+
     @Override
-    public ArticleResponse createArticle(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId) {
+    public ArticleIdAndVersion createArticle(ArticleRequest articleRequest, IdempotencyTokenId idempotencyTokenId, UUID articleId) {
 
         LOGGER.info("[BEFORE SAVING TO DATABASE]");
-        ArticleResponse articleResponse = activities.saveInDatabase(articleRequest, idempotencyTokenId);
+        ArticleIdAndVersion article = DatabaseActivitiesSelector.select(localDatabaseActivityEnabled, localDatabaseActivities, activities)
+                .saveInDatabase(articleRequest, idempotencyTokenId, articleId);
         LOGGER.info("[SAVED TO DATABASE]");
 
-        LOGGER.info("[BEFORE SENDING SAVE EVENT]");
-        activities.sendSaveDocumentEvent(articleResponse);
-        LOGGER.info("[SAVE EVENT HAS BEEN SENT]");
+        if (ArticleWorkflowChanges.sendsSearchIndexEvent()) {
+            LOGGER.info("[BEFORE SENDING SAVE EVENT]");
+            activities.sendSaveDocumentEvent(article);
+            LOGGER.info("[SAVE EVENT HAS BEEN SENT]");
+        }
 
-        return articleResponse;
+        return article;
     }
+
 }
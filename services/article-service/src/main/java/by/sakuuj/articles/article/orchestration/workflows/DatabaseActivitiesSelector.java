@@ -0,0 +1,26 @@
+package by.sakuuj.articles.article.orchestration.workflows;
+
+import io.temporal.workflow.Workflow;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class DatabaseActivitiesSelector {
+
+    /**
+     * Must be called from workflow code. The choice is recorded in the history,
+     * so that switching the setting does not break the replay of running workflows.
+     * Workflows started before the choice was introduced keep using {@code activities}.
+     *
+     * @return {@code localActivities} if {@code localEnabled}, {@code activities} otherwise
+     */
+    static <T> T select(boolean localEnabled, T localActivities, T activities) {
+
+        if (ArticleWorkflowChanges.runsDatabaseStepAsActivity()) {
+            return activities;
+        }
+
+        boolean local = Workflow.sideEffect(Boolean.class, () -> localEnabled);
+
+        return local ? localActivities : activities;
+    }
+}
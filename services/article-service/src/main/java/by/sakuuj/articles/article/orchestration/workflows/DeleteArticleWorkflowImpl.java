@@ -2,6 +2,7 @@ package by.sakuuj.articles.article.orchestration.workflows;
 
 import by.sakuuj.articles.article.orchestration.activities.DeleteArticleActivities;
 import io.temporal.activity.ActivityOptions;
+import io.temporal.activity.LocalActivityOptions;
 import io.temporal.common.RetryOptions;
 import io.temporal.workflow.Workflow;
 import org.slf4j.Logger;
@@ -24,6 +25,11 @@ public class DeleteArticleWorkflowImpl implements DeleteArticleWorkflow {
             .setScheduleToCloseTimeout(Duration.ofSeconds(5))
             .build();
 
+    private final LocalActivityOptions databaseLocalActivityOptions = LocalActivityOptions.newBuilder()
+            .setRetryOptions(retryOptionsZeroRetries)
+            .setScheduleToCloseTimeout(Duration.ofSeconds(5))
+            .build();
+
     private final DeleteArticleActivities activities = Workflow.newActivityStub(DeleteArticleActivities.class, defaultActivityOptions,
             Map.of(
                     DeleteArticleActivities.SEND_DELETE_DOCUMENT_EVENT_ACTIVITY_NAME,
@@ -39,15 +45,37 @@ public class DeleteArticleWorkflowImpl implements DeleteArticleWorkflow {
                             .build()
             ));
 
+    private final DeleteArticleActivities localDatabaseActivities = Workflow.newLocalActivityStub(
+            DeleteArticleActivities.class,
+            databaseLocalActivityOptions
+    );
+
+    private final boolean localDatabaseActivityEnabled;
+
+    public DeleteArticleWorkflowImpl() {
+        this(false);
+    }
+
+    /**
+     * @param localDatabaseActivityEnabled whether the database step runs as a local activity
+     */
+    public DeleteArticleWorkflowImpl(boolean localDatabaseActivityEnabled) {
+        this.localDatabaseActivityEnabled = localDatabaseActivityEnabled;
+    }
+
     @Override
     public void deleteDocumentById(UUID id) {
 
         LOGGER.debug("[BEFORE DELETE IN DATABASE]");
-        activities.deleteFromDatabase(id);
+        DatabaseActivitiesSelector.select(localDatabaseActivityEnabled, localDatabaseActivities, activities)
+                .deleteFromDatabase(id);
         LOGGER.debug("[DELETED FROM DATABASE]");
 
-        LOGGER.debug("[BEFORE SENDING DELETE EVENT]");
-        activities.sendDeleteDocumentEvent(id);
-        LOGGER.debug("[DELETE EVENT HAS BEEN SENT]");
+        if (ArticleWorkflowChanges.sendsSearchIndexEvent()) {
+            LOGGER.debug("[BEFORE SENDING DELETE EVENT]");
+            activities.sendDeleteDocumentEvent(id);
+            LOGGER.debug("[DELETE EVENT HAS BEEN SENT]");
+        }
     }
+
 }
@@ -1,7 +1,7 @@
 package by.sakuuj.articles.article.orchestration.workflows;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import io.temporal.workflow.WorkflowInterface;
 import io.temporal.workflow.WorkflowMethod;
 
@@ -11,5 +11,5 @@ import java.util.UUID;
 public interface UpdateArticleWorkflow {
 
     @WorkflowMethod
-    ArticleResponse updateArticle(ArticleRequest articleRequest, UUID id, short version);
+    ArticleIdAndVersion updateArticle(ArticleRequest articleRequest, UUID id, short version);
 }
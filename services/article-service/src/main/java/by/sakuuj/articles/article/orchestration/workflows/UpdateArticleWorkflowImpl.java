@@ -1,9 +1,10 @@
 package by.sakuuj.articles.article.orchestration.workflows;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.orchestration.activities.UpdateArticleActivities;
 import io.temporal.activity.ActivityOptions;
+import io.temporal.activity.LocalActivityOptions;
 import io.temporal.common.RetryOptions;
 import io.temporal.workflow.Workflow;
 import org.slf4j.Logger;
@@ -27,6 +28,11 @@ public class UpdateArticleWorkflowImpl implements UpdateArticleWorkflow {
             .setScheduleToCloseTimeout(Duration.ofSeconds(5))
             .build();
 
+    private final LocalActivityOptions databaseLocalActivityOptions = LocalActivityOptions.newBuilder()
+            .setRetryOptions(retryOptionsZeroRetries)
+            .setScheduleToCloseTimeout(Duration.ofSeconds(5))
+            .build();
+
 
     private final UpdateArticleActivities activities = Workflow.newActivityStub(UpdateArticleActivities.class, defaultActivityOptions,
             Map.of(
@@ -43,17 +49,39 @@ public class UpdateArticleWorkflowImpl implements UpdateArticleWorkflow {
                             .build()
             ));
 
+    private final UpdateArticleActivities localDatabaseActivities = Workflow.newLocalActivityStub(
+            UpdateArticleActivities.class,
+            databaseLocalActivityOptions
+    );
+
+    private final boolean localDatabaseActivityEnabled;
+
+    public UpdateArticleWorkflowImpl() {
+        this(false);
+    }
+
+    /**
+     * @param localDatabaseActivityEnabled whether the database step runs as a local activity
+     */
+    public UpdateArticleWorkflowImpl(boolean localDatabaseActivityEnabled) {
+        this.localDatabaseActivityEnabled = localDatabaseActivityEnabled;
+    }
+
     @Override
-    public ArticleResponse updateArticle(ArticleRequest articleRequest, UUID id, short version) {
+    public ArticleIdAndVersion updateArticle(ArticleRequest articleRequest, UUID id, short version) {
 
         LOGGER.debug("[BEFORE UPDATE IN DATABASE]");
-        ArticleResponse articleResponse = activities.updateByIdInDatabase(articleRequest, id, version);
+        ArticleIdAndVersion article = DatabaseActivitiesSelector.select(localDatabaseActivityEnabled, localDatabaseActivities, activities)
+                .updateByIdInDatabase(articleRequest, id, version);
         LOGGER.debug("[UPDATED IN DATABASE]");
 
-        LOGGER.debug("[BEFORE SENDING UPDATE EVENT]");
-        activities.sendUpdateDocumentEvent(articleResponse);
-        LOGGER.debug("[UPDATE EVENT HAS BEEN SENT]");
+        if (ArticleWorkflowChanges.sendsSearchIndexEvent()) {
+            LOGGER.debug("[BEFORE SENDING UPDATE EVENT]");
+            activities.sendUpdateDocumentEvent(article);
+            LOGGER.debug("[UPDATE EVENT HAS BEEN SENT]");
+        }
 
-        return articleResponse;
+        return article;
     }
+
 }
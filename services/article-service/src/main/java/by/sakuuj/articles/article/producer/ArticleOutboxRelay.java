@@ -0,0 +1,152 @@
+package by.sakuuj.articles.article.producer;
+
+import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
+import by.sakuuj.articles.article.mapper.elasticsearch.ArticleDocumentMapper;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
+import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleOutboxStats;
+import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes search index events saved to the outbox along with article changes.
+ * <p>
+ * Claimed events stay locked until they have been acknowledged by Kafka and deleted,
+ * a batch that fails to be published is rolled back and claimed again by the next relay.
+ * Events are published at least once.
+ */
+@Component
+public class ArticleOutboxRelay {
+
+    private static final String METRIC_PREFIX = "articles.outbox";
+
+    private final ArticleOutboxEventRepository articleOutboxEventRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleDocumentMapper articleDocumentMapper;
+    private final ElasticsearchEventProducer elasticsearchEventProducer;
+    private final TransactionTemplate txTemplate;
+
+    private final int batchSize;
+
+    private final Counter publishedEvents;
+    private final Timer batchTimer;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong oldestEventAgeMillis = new AtomicLong();
+
+    public ArticleOutboxRelay(ArticleOutboxEventRepository articleOutboxEventRepository,
+                              ArticleRepository articleRepository,
+                              ArticleDocumentMapper articleDocumentMapper,
+                              ElasticsearchEventProducer elasticsearchEventProducer,
+                              TransactionTemplate txTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${by.sakuuj.articles.outbox.batch-size}") int batchSize) {
+
+        this.articleOutboxEventRepository = articleOutboxEventRepository;
+        this.articleRepository = articleRepository;
+        this.articleDocumentMapper = articleDocumentMapper;
+        this.elasticsearchEventProducer = elasticsearchEventProducer;
+        this.txTemplate = txTemplate;
+        this.batchSize = batchSize;
+
+        this.publishedEvents = Counter.builder(METRIC_PREFIX + ".published")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder(METRIC_PREFIX + ".batch")
+                .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".depth", depth, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".oldest.age", oldestEventAgeMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return number of published events, the batch size if there may be more events to publish
+     */
+    public int publishBatch() {
+
+        return batchTimer.record(() -> txTemplate.execute(txStatus -> {
+
+            List<ArticleOutboxEventEntity> events = articleOutboxEventRepository.claimOldest(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            Map<UUID, ArticleEntity> upsertedArticles = articleRepository.findAllByIdsInOrder(events.stream()
+                            .filter(event -> event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT)
+                            .map(ArticleOutboxEventEntity::getArticleId)
+                            .toList()
+                    ).stream()
+                    .collect(Collectors.toMap(ArticleEntity::getId, Function.identity(), (first, second) -> first));
+
+            CompletableFuture.allOf(events.stream()
+                    .map(event -> publish(event, upsertedArticles))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+
+            articleOutboxEventRepository.deleteAllByIds(events.stream()
+                    .map(ArticleOutboxEventEntity::getId)
+                    .toList()
+            );
+            publishedEvents.increment(events.size());
+
+            return events.size();
+        }));
+    }
+
+    public void refreshStats() {
+
+        ArticleOutboxStats stats = articleOutboxEventRepository.findStats();
+
+        depth.set(stats.depth());
+        oldestEventAgeMillis.set(stats.oldestCreatedAt() == null
+                ? 0
+                : Duration.between(stats.oldestCreatedAt(), LocalDateTime.now(Clock.systemUTC())).toMillis()
+        );
+    }
+
+    /**
+     * An upsert of an article deleted since is not published, the delete event follows it
+     */
+    private CompletableFuture<?> publish(ArticleOutboxEventEntity event, Map<UUID, ArticleEntity> upsertedArticles) {
+
+        return switch (event.getEventType()) {
+            case DELETE -> elasticsearchEventProducer.produce(
+                    ArticleDocumentRequest.RequestType.DELETE,
+                    ArticleDocument.builder()
+                            .id(event.getArticleId())
+                            .build()
+            );
+            case UPSERT -> {
+                ArticleEntity article = upsertedArticles.get(event.getArticleId());
+
+                yield article == null
+                        ? CompletableFuture.completedFuture(null)
+                        : elasticsearchEventProducer.produce(
+                                ArticleDocumentRequest.RequestType.UPSERT,
+                                articleDocumentMapper.toDocument(article)
+                        );
+            }
+        };
+    }
+}
@@ -6,9 +6,11 @@ import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @RequiredArgsConstructor
@@ -19,13 +21,17 @@ public class ElasticsearchEventProducer {
 
     private final KafkaTemplate<UUID, ArticleDocumentRequest> kafkaTemplate;
 
-    public void produce(ArticleDocumentRequest.RequestType requestType, ArticleDocument articleDocument) {
+    /**
+     * @return completed once the event has been acknowledged by Kafka
+     */
+    public CompletableFuture<SendResult<UUID, ArticleDocumentRequest>> produce(ArticleDocumentRequest.RequestType requestType,
+                                                                               ArticleDocument articleDocument) {
 
         ArticleDocumentRequest request = switch (requestType) {
             case DELETE -> new ArticleDocumentRequest(requestType, null);
             case UPSERT -> new ArticleDocumentRequest(requestType, articleDocument);
         };
 
-        kafkaTemplate.send(elasticsearchEventTopic, articleDocument.getId(), request);
+        return kafkaTemplate.send(elasticsearchEventTopic, articleDocument.getId(), request);
     }
 }
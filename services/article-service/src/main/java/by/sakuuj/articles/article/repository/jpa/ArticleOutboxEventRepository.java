@@ -0,0 +1,43 @@
+package by.sakuuj.articles.article.repository.jpa;
+
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleOutboxStats;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import by.sakuuj.articles.repository.jpa.PersistingRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArticleOutboxEventRepository extends Repository<ArticleOutboxEventEntity, Long>,
+        PersistingRepository<ArticleOutboxEventEntity> {
+
+    /**
+     * Locks the oldest events, skipping those locked by other relays.
+     * An event is claimed only if it is the oldest one of its article, so that events of an article
+     * are published in order even by concurrent relays.
+     */
+    @Query(value = """
+            SELECT e.* FROM article_outbox_events e
+            WHERE NOT EXISTS (
+                SELECT 1 FROM article_outbox_events earlier
+                WHERE earlier.article_id = e.article_id
+                    AND earlier.article_outbox_event_id < e.article_outbox_event_id
+            )
+            ORDER BY e.article_outbox_event_id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ArticleOutboxEventEntity> claimOldest(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("DELETE FROM ArticleOutboxEventEntity e WHERE e.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    @Query("""
+            SELECT new by.sakuuj.articles.article.repository.jpa.projection.ArticleOutboxStats(count(e), min(e.createdAt))
+            FROM ArticleOutboxEventEntity e
+            """)
+    ArticleOutboxStats findStats();
+}
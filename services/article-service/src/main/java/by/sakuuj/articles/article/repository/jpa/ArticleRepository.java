@@ -3,23 +3,44 @@ package by.sakuuj.articles.article.repository.jpa;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import by.sakuuj.articles.entity.jpa.utils.EntityGraphNames;
 import by.sakuuj.articles.article.repository.jpa.custom.ArticleCustomRepository;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import by.sakuuj.articles.repository.jpa.PersistingRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ArticleRepository extends Repository<ArticleEntity, UUID>, ArticleCustomRepository {
-
-    @EntityGraph(value = EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER)
-    Slice<ArticleEntity> findAll(Pageable pageable);
+public interface ArticleRepository extends Repository<ArticleEntity, UUID>,
+        ArticleCustomRepository,
+        PersistingRepository<ArticleEntity> {
 
     @EntityGraph(value = EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER)
     Optional<ArticleEntity> findById(UUID id);
 
+    @Query("SELECT a.version FROM ArticleEntity a WHERE a.id = :id")
+    Optional<Short> findVersionById(@Param("id") UUID id);
+
+    /**
+     * The version of the found article is incremented on flush,
+     * used when the article representation changes without the article row itself being updated.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.id = :id")
+    Optional<ArticleEntity> findByIdForcingVersionIncrement(@Param("id") UUID id);
+
+    /**
+     * Versions of the found articles are incremented on flush, see {@link #findByIdForcingVersionIncrement}
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT a FROM ArticleEntity a JOIN a.articleTopics at WHERE at.id.topicId = :topicId")
+    List<ArticleEntity> findAllByTopicIdForcingVersionIncrement(@Param("topicId") UUID topicId);
+
     void deleteById(UUID id);
 
     ArticleEntity save(ArticleEntity article);
-}
\ No newline at end of file
+}
@@ -1,17 +1,23 @@
 package by.sakuuj.articles.article.repository.jpa;
 
 import by.sakuuj.articles.entity.jpa.entities.TopicEntity;
+import by.sakuuj.articles.repository.jpa.PersistingRepository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TopicRepository extends Repository<TopicEntity, UUID> {
+public interface TopicRepository extends Repository<TopicEntity, UUID>, PersistingRepository<TopicEntity> {
 
     Optional<TopicEntity> findById(UUID id);
 
+    @Query("SELECT t.version FROM TopicEntity t WHERE t.id = :id")
+    Optional<Short> findVersionById(@Param("id") UUID id);
+
     Slice<TopicEntity> findAll(Pageable pageable);
 
     void removeById(UUID id);
@@ -1,15 +1,37 @@
 package by.sakuuj.articles.article.repository.jpa.custom;
 
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleExportRow;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleSummary;
+import by.sakuuj.articles.paging.CreatedAtIdCursor;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import by.sakuuj.articles.paging.PageView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ArticleCustomRepository {
 
+    /**
+     * @return articles in the order of their ids, ids of absent articles are skipped
+     */
     List<ArticleEntity> findAllByIdsInOrder(List<UUID> ids);
 
+    Slice<ArticleEntity> findAll(Pageable pageable);
+
     PageView<ArticleEntity> findAllByTopicsAndSortByCreatedAtDesc(List<String> topicNames, RequestedPage requestedPage);
+
+    List<ArticleEntity> findAllSortedByCreatedAtDesc(CreatedAtIdCursor after, int limit);
+
+    List<ArticleEntity> findAllByTopicsSortedByCreatedAtDesc(List<String> topicNames, CreatedAtIdCursor after, int limit);
+
+    List<ArticleSummary> findSummariesSortedByCreatedAtDesc(CreatedAtIdCursor after, int limit);
+
+    List<ArticleSummary> findSummariesByTopicsSortedByCreatedAtDesc(List<String> topicNames, CreatedAtIdCursor after, int limit);
+
+    Stream<ArticleExportRow> streamAllSortedByUpdatedAt(LocalDateTime updatedSince, int fetchSize);
 }
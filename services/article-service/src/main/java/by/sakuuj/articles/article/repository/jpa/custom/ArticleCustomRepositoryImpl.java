@@ -1,5 +1,7 @@
 package by.sakuuj.articles.article.repository.jpa.custom;
 
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleExportRow;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleSummary;
 import by.sakuuj.articles.entity.jpa.embeddable.ArticleTopicId_;
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit_;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
@@ -9,53 +11,142 @@ import by.sakuuj.articles.entity.jpa.entities.ArticleTopicEntity_;
 import by.sakuuj.articles.entity.jpa.entities.TopicEntity;
 import by.sakuuj.articles.entity.jpa.entities.TopicEntity_;
 import by.sakuuj.articles.entity.jpa.utils.EntityGraphNames;
+import by.sakuuj.articles.paging.CreatedAtIdCursor;
 import by.sakuuj.articles.paging.PageView;
 import by.sakuuj.articles.paging.RequestedPage;
+import by.sakuuj.articles.repository.jpa.utils.TwoPhaseFetchUtils;
 import by.sakuuj.articles.article.repository.jpa.custom.utils.CriteriaUtils;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
 import org.hibernate.Session;
-import org.hibernate.graph.GraphSemantic;
-import org.hibernate.graph.RootGraph;
-import org.hibernate.query.Query;
+import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaQuery;
 import org.hibernate.query.criteria.JpaEntityJoin;
 import org.hibernate.query.criteria.JpaRoot;
 import org.hibernate.query.criteria.JpaSubQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class ArticleCustomRepositoryImpl implements ArticleCustomRepository {
 
+    private static final String ID_SELECTION = "a.id";
+    private static final String SUMMARY_SELECTION = """
+            new by.sakuuj.articles.article.repository.jpa.projection.ArticleSummary(
+                a.id,
+                a.title,
+                a.excerpt,
+                a.wordCount,
+                a.author.id,
+                a.modificationAudit.createdAt,
+                a.modificationAudit.updatedAt
+            )""";
+
+    private static final String FIND_FIRST_SORTED_BY_CREATED_AT_DESC_QUERY = """
+            SELECT %s FROM ArticleEntity a
+            ORDER BY a.modificationAudit.createdAt DESC, a.id DESC
+            """;
+
+    private static final String FIND_AFTER_CURSOR_SORTED_BY_CREATED_AT_DESC_QUERY = """
+            SELECT %s FROM ArticleEntity a
+            WHERE (a.modificationAudit.createdAt, a.id) < (:createdAt, :id)
+            ORDER BY a.modificationAudit.createdAt DESC, a.id DESC
+            """;
+
+    private static final String FIND_FIRST_BY_TOPICS_SORTED_BY_CREATED_AT_DESC_QUERY = """
+            SELECT %s FROM ArticleEntity a
+            WHERE (
+                SELECT COUNT(*) FROM ArticleTopicEntity at
+                JOIN TopicEntity t ON at.id.topicId = t.id
+                WHERE at.id.articleId = a.id AND t.name IN :topicNames
+            ) = :topicCount
+            ORDER BY a.modificationAudit.createdAt DESC, a.id DESC
+            """;
+
+    private static final String FIND_BY_TOPICS_AFTER_CURSOR_SORTED_BY_CREATED_AT_DESC_QUERY = """
+            SELECT %s FROM ArticleEntity a
+            WHERE (a.modificationAudit.createdAt, a.id) < (:createdAt, :id)
+            AND (
+                SELECT COUNT(*) FROM ArticleTopicEntity at
+                JOIN TopicEntity t ON at.id.topicId = t.id
+                WHERE at.id.articleId = a.id AND t.name IN :topicNames
+            ) = :topicCount
+            ORDER BY a.modificationAudit.createdAt DESC, a.id DESC
+            """;
+
+    private static final String EXPORT_SELECTION = """
+            new by.sakuuj.articles.article.repository.jpa.projection.ArticleExportRow(
+                a.id,
+                a.title,
+                a.content,
+                a.excerpt,
+                a.wordCount,
+                a.author.id,
+                a.modificationAudit.createdAt,
+                a.modificationAudit.updatedAt,
+                a.version
+            )""";
+
+    private static final String STREAM_ALL_SORTED_BY_UPDATED_AT_QUERY = """
+            SELECT %s FROM ArticleEntity a
+            ORDER BY a.modificationAudit.updatedAt, a.id
+            """;
+
+    private static final String STREAM_UPDATED_SINCE_SORTED_BY_UPDATED_AT_QUERY = """
+            SELECT %s FROM ArticleEntity a
+            WHERE a.modificationAudit.updatedAt >= :updatedSince
+            ORDER BY a.modificationAudit.updatedAt, a.id
+            """;
+
     private final EntityManager entityManager;
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<ArticleEntity> findAllByIdsInOrder(List<UUID> ids) {
 
         Session session = entityManager.unwrap(Session.class);
-        RootGraph<ArticleEntity> entityGraph = (RootGraph<ArticleEntity>) session
-                .getEntityGraph(EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER);
-
-        return session
-                .byMultipleIds(ArticleEntity.class)
-                .withFetchGraph(entityGraph)
-                .enableOrderedReturn(true)
-                .multiLoad(ids);
+
+        return TwoPhaseFetchUtils.loadAllByIdsInOrder(
+                session,
+                ArticleEntity.class,
+                EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER,
+                ids
+        );
+    }
+
+    /**
+     * Selects the page of ids first, then loads it with the entity graph by {@link #findAllByIdsInOrder(List)},
+     * the id is appended to the requested sort.
+     */
+    @Override
+    public Slice<ArticleEntity> findAll(Pageable pageable) {
+
+        Session session = entityManager.unwrap(Session.class);
+
+        return TwoPhaseFetchUtils.fetchSlice(
+                session,
+                ArticleEntity.class,
+                ArticleEntity_.id,
+                EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER,
+                pageable
+        );
     }
 
     /**
      * <pre>
      *     { List&lt;String> topicNames; } -> context
      *
-     *     Expecting output (w/o entity graph):
+     *     Expecting output (ids query):
      *
-     *     SELECT a FROM articles a
+     *     SELECT a.article_id FROM articles a
      *     WHERE a.article_id IN ((
      *                 SELECT at.article_id
      *                 FROM article_topics at
@@ -65,35 +156,35 @@ public class ArticleCustomRepositoryImpl implements ArticleCustomRepository {
      *                 GROUP BY at.article_id
      *                 HAVING COUNT(*) = { topicNames.size() }
      *                 ))
-     *      ORDER BY a.created_at DESC
+     *      ORDER BY a.created_at DESC, a.article_id DESC
      *      OFFSET ?
      *      FETCH FIRST ? ROWS ONLY;
+     *
+     *  Found ids are then loaded with the entity graph by {@link #findAllByIdsInOrder(List)}.
      *  </pre>
      * @param topicNames topics that should be present in found articles
      * @param requestedPage page request
      * @return found articles containing specified topics
      */
     @Override
-    @SuppressWarnings("unchecked")
     public PageView<ArticleEntity> findAllByTopicsAndSortByCreatedAtDesc(List<String> topicNames, RequestedPage requestedPage) {
 
         Session session = entityManager.unwrap(Session.class);
 
         HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
 
-        JpaCriteriaQuery<ArticleEntity> query = builder.createQuery(ArticleEntity.class);
-        initializeQueryToFindAllByTopicsSortedByDateDesc(topicNames, query, builder);
+        JpaCriteriaQuery<UUID> idsQuery = builder.createQuery(UUID.class);
+        initializeQueryToFindIdsByTopicsSortedByDateDesc(topicNames, idsQuery, builder);
 
-        Query<ArticleEntity> createdQuery = session.createQuery(query);
-        RootGraph<ArticleEntity> entityGraph = (RootGraph<ArticleEntity>) session
-                .getEntityGraph(EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER);
-        createdQuery.setEntityGraph(entityGraph, GraphSemantic.FETCH);
+        PageView<UUID> foundIds = CriteriaUtils.getPagedQueryResult(requestedPage, session.createQuery(idsQuery));
 
-        return CriteriaUtils.getPagedQueryResult(requestedPage, createdQuery);
+        return PageView.ofContent(findAllByIdsInOrder(foundIds.content()))
+                .withNumber(foundIds.number())
+                .withSize(foundIds.size());
     }
 
-    private static void initializeQueryToFindAllByTopicsSortedByDateDesc(List<String> topicNames,
-                                                                         JpaCriteriaQuery<ArticleEntity> query,
+    private static void initializeQueryToFindIdsByTopicsSortedByDateDesc(List<String> topicNames,
+                                                                         JpaCriteriaQuery<UUID> query,
                                                                          HibernateCriteriaBuilder builder) {
         JpaRoot<ArticleEntity> root = query.from(ArticleEntity.class);
 
@@ -102,13 +193,14 @@ public class ArticleCustomRepositoryImpl implements ArticleCustomRepository {
         initializeSubqueryToFindArticleIdsOfArticlesWithTopics(topicNames, builder, subquery);
         query.where(root.get(ArticleEntity_.id).in(subquery));
 
-        query.select(root);
+        query.select(root.get(ArticleEntity_.id));
 
         query.orderBy(
                 builder.desc(
                         root.get(ArticleEntity_.modificationAudit)
                                 .get(ModificationAudit_.createdAt)
-                )
+                ),
+                builder.desc(root.get(ArticleEntity_.id))
         );
     }
 
@@ -139,4 +231,214 @@ public class ArticleCustomRepositoryImpl implements ArticleCustomRepository {
                 .get(ArticleTopicId_.articleId)
         );
     }
+
+    /**
+     * <pre>
+     *     { CreatedAtIdCursor after; int limit; } -> context
+     *
+     *     Expecting output (ids query, the first page has no WHERE clause):
+     *
+     *     SELECT a.article_id FROM articles a
+     *     WHERE (a.created_at, a.article_id) < ({ after.createdAt }, { after.id })
+     *     ORDER BY a.created_at DESC, a.article_id DESC
+     *     FETCH FIRST { limit } ROWS ONLY;
+     *
+     *  Found ids are then loaded with the entity graph by {@link TwoPhaseFetchUtils#fetchAll}.
+     *  </pre>
+     * @param after cursor pointing at the last article of the previous page, {@code null} for the first page
+     * @param limit max number of articles to find
+     * @return found articles sorted by created at desc, then by id desc
+     */
+    @Override
+    public List<ArticleEntity> findAllSortedByCreatedAtDesc(CreatedAtIdCursor after, int limit) {
+
+        Session session = entityManager.unwrap(Session.class);
+
+        SelectionQuery<UUID> idsQuery = createSortedByCreatedAtDescQuery(session, ID_SELECTION, UUID.class, after, limit);
+
+        return TwoPhaseFetchUtils.fetchAll(
+                session,
+                ArticleEntity.class,
+                EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER,
+                idsQuery
+        );
+    }
+
+    /**
+     * Same as {@link #findAllSortedByCreatedAtDesc(CreatedAtIdCursor, int)},
+     * but selects only the columns of {@link ArticleSummary} in a single query,
+     * neither content, nor author, nor topics are loaded.
+     */
+    @Override
+    public List<ArticleSummary> findSummariesSortedByCreatedAtDesc(CreatedAtIdCursor after, int limit) {
+
+        Session session = entityManager.unwrap(Session.class);
+
+        return createSortedByCreatedAtDescQuery(session, SUMMARY_SELECTION, ArticleSummary.class, after, limit)
+                .list();
+    }
+
+    /**
+     * <pre>
+     *     { List&lt;String> topicNames; CreatedAtIdCursor after; int limit; } -> context
+     *
+     *     Expecting output (ids query, the first page has no cursor condition):
+     *
+     *     SELECT a.article_id FROM articles a
+     *     WHERE (a.created_at, a.article_id) < ({ after.createdAt }, { after.id })
+     *     AND (
+     *          SELECT COUNT(*) FROM article_topics at
+     *          JOIN topics t
+     *              ON at.topic_id = t.topic_id
+     *          WHERE at.article_id = a.article_id AND t.name IN ( { topicNames } )
+     *          ) = { topicNames.size() }
+     *     ORDER BY a.created_at DESC, a.article_id DESC
+     *     FETCH FIRST { limit } ROWS ONLY;
+     *
+     *  Articles are walked in index order and each one is probed by the article_topics primary key,
+     *  so the scan stops as soon as { limit } matching articles are found.
+     *  Found ids are then loaded with the entity graph by {@link TwoPhaseFetchUtils#fetchAll}.
+     *  </pre>
+     * @param topicNames distinct topics that should be present in found articles
+     * @param after cursor pointing at the last article of the previous page, {@code null} for the first page
+     * @param limit max number of articles to find
+     * @return found articles containing specified topics sorted by created at desc, then by id desc
+     */
+    @Override
+    public List<ArticleEntity> findAllByTopicsSortedByCreatedAtDesc(List<String> topicNames,
+                                                                    CreatedAtIdCursor after,
+                                                                    int limit) {
+        Session session = entityManager.unwrap(Session.class);
+
+        SelectionQuery<UUID> idsQuery = createByTopicsSortedByCreatedAtDescQuery(
+                session,
+                ID_SELECTION,
+                UUID.class,
+                topicNames,
+                after,
+                limit
+        );
+
+        return TwoPhaseFetchUtils.fetchAll(
+                session,
+                ArticleEntity.class,
+                EntityGraphNames.ARTICLE_EAGER_WITH_ARTICLE_TOPICS_EAGER,
+                idsQuery
+        );
+    }
+
+    /**
+     * Same as {@link #findAllByTopicsSortedByCreatedAtDesc(List, CreatedAtIdCursor, int)},
+     * but selects only the columns of {@link ArticleSummary} in a single query,
+     * neither content, nor author, nor topics are loaded.
+     */
+    @Override
+    public List<ArticleSummary> findSummariesByTopicsSortedByCreatedAtDesc(List<String> topicNames,
+                                                                          CreatedAtIdCursor after,
+                                                                          int limit) {
+        Session session = entityManager.unwrap(Session.class);
+
+        return createByTopicsSortedByCreatedAtDescQuery(
+                session,
+                SUMMARY_SELECTION,
+                ArticleSummary.class,
+                topicNames,
+                after,
+                limit
+        ).list();
+    }
+
+    private static <R> SelectionQuery<R> createSortedByCreatedAtDescQuery(Session session,
+                                                                         String selection,
+                                                                         Class<R> resultType,
+                                                                         CreatedAtIdCursor after,
+                                                                         int limit) {
+        SelectionQuery<R> query;
+        if (after == null) {
+            query = session.createSelectionQuery(
+                    FIND_FIRST_SORTED_BY_CREATED_AT_DESC_QUERY.formatted(selection),
+                    resultType
+            );
+        } else {
+            query = session.createSelectionQuery(
+                            FIND_AFTER_CURSOR_SORTED_BY_CREATED_AT_DESC_QUERY.formatted(selection),
+                            resultType
+                    )
+                    .setParameter("createdAt", after.createdAt())
+                    .setParameter("id", after.id());
+        }
+
+        return query.setMaxResults(limit);
+    }
+
+    private static <R> SelectionQuery<R> createByTopicsSortedByCreatedAtDescQuery(Session session,
+                                                                                 String selection,
+                                                                                 Class<R> resultType,
+                                                                                 List<String> topicNames,
+                                                                                 CreatedAtIdCursor after,
+                                                                                 int limit) {
+        SelectionQuery<R> query;
+        if (after == null) {
+            query = session.createSelectionQuery(
+                    FIND_FIRST_BY_TOPICS_SORTED_BY_CREATED_AT_DESC_QUERY.formatted(selection),
+                    resultType
+            );
+        } else {
+            query = session.createSelectionQuery(
+                            FIND_BY_TOPICS_AFTER_CURSOR_SORTED_BY_CREATED_AT_DESC_QUERY.formatted(selection),
+                            resultType
+                    )
+                    .setParameter("createdAt", after.createdAt())
+                    .setParameter("id", after.id());
+        }
+
+        return query
+                .setParameter("topicNames", topicNames)
+                .setParameter("topicCount", (long) topicNames.size())
+                .setMaxResults(limit);
+    }
+
+    /**
+     * <pre>
+     *     { LocalDateTime updatedSince; int fetchSize; } -> context
+     *
+     *     Expecting output (the WHERE clause is omitted if updatedSince is null):
+     *
+     *     SELECT a.article_id, a.title, a.content, ... FROM articles a
+     *     WHERE a.updated_at >= { updatedSince }
+     *     ORDER BY a.updated_at, a.article_id;
+     *
+     *  Rows are read through forward-only {@link org.hibernate.ScrollableResults}
+     *  { fetchSize } at a time (the transaction must not be in auto-commit mode for the driver to do so),
+     *  projections are not attached to the persistence context, so memory use does not depend on the number of rows.
+     *  </pre>
+     * @param updatedSince inclusive lower bound of updated at, {@code null} to stream all articles
+     * @param fetchSize number of rows fetched from the database per round trip
+     * @return stream that must be closed to release the cursor
+     */
+    @Override
+    public Stream<ArticleExportRow> streamAllSortedByUpdatedAt(LocalDateTime updatedSince, int fetchSize) {
+
+        Session session = entityManager.unwrap(Session.class);
+
+        SelectionQuery<ArticleExportRow> query;
+        if (updatedSince == null) {
+            query = session.createSelectionQuery(
+                    STREAM_ALL_SORTED_BY_UPDATED_AT_QUERY.formatted(EXPORT_SELECTION),
+                    ArticleExportRow.class
+            );
+        } else {
+            query = session.createSelectionQuery(
+                            STREAM_UPDATED_SINCE_SORTED_BY_UPDATED_AT_QUERY.formatted(EXPORT_SELECTION),
+                            ArticleExportRow.class
+                    )
+                    .setParameter("updatedSince", updatedSince);
+        }
+
+        return query
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .stream();
+    }
 }
@@ -0,0 +1,23 @@
+package by.sakuuj.articles.article.repository.jpa.projection;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of an article written by the export, topics are not exported.
+ */
+@Builder
+public record ArticleExportRow(
+        UUID id,
+        String title,
+        String content,
+        String excerpt,
+        int wordCount,
+        UUID authorId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        short version
+) {
+}
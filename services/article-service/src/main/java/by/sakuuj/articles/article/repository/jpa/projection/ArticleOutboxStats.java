@@ -0,0 +1,13 @@
+package by.sakuuj.articles.article.repository.jpa.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param depth           number of events not published yet
+ * @param oldestCreatedAt {@code null} if there are no such events
+ */
+public record ArticleOutboxStats(
+        long depth,
+        LocalDateTime oldestCreatedAt
+) {
+}
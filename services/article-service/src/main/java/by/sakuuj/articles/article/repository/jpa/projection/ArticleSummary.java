@@ -0,0 +1,21 @@
+package by.sakuuj.articles.article.repository.jpa.projection;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of an article that are enough to render it in a feed, selected without the content.
+ */
+@Builder
+public record ArticleSummary(
+        UUID id,
+        String title,
+        String excerpt,
+        int wordCount,
+        UUID authorId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,37 @@
+package by.sakuuj.articles.article.scheduling;
+
+import by.sakuuj.articles.article.configs.RunMode;
+import by.sakuuj.articles.article.producer.ArticleOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = RunMode.WORKER_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class ArticleOutboxRelayJob {
+
+    private final ArticleOutboxRelay articleOutboxRelay;
+
+    @Value("${by.sakuuj.articles.outbox.batch-size}")
+    private int batchSize;
+
+    // a full batch means there may be more events, they are published without waiting for the next poll
+    @Scheduled(fixedDelayString = "${by.sakuuj.articles.outbox.poll-interval-millis}", timeUnit = TimeUnit.MILLISECONDS)
+    public void publishPending() {
+
+        int published;
+        do {
+            published = articleOutboxRelay.publishBatch();
+        } while (published == batchSize);
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void refreshStats() {
+        articleOutboxRelay.refreshStats();
+    }
+}
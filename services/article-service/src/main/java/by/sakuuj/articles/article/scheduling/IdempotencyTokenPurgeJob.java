@@ -0,0 +1,35 @@
+package by.sakuuj.articles.article.scheduling;
+
+import by.sakuuj.articles.service.IdempotencyTokenPurgeReport;
+import by.sakuuj.articles.service.IdempotencyTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyTokenPurgeJob {
+
+    private final IdempotencyTokenService idempotencyTokenService;
+
+    @Scheduled(cron = "${by.sakuuj.articles.idempotency-tokens.purge-cron}", zone = "UTC")
+    public void purgeExpired() {
+
+        Optional<IdempotencyTokenPurgeReport> report = idempotencyTokenService.purgeExpired();
+
+        if (report.isEmpty()) {
+            log.info("Idempotency tokens are being purged by another instance");
+            return;
+        }
+
+        log.info("Purged expired idempotency tokens: dropped partitions {}, about {} rows, {} bytes reclaimed",
+                report.get().droppedPartitions(),
+                report.get().purgedRows(),
+                report.get().reclaimedBytes()
+        );
+    }
+}
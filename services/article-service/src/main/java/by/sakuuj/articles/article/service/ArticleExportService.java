@@ -0,0 +1,22 @@
+package by.sakuuj.articles.article.service;
+
+import by.sakuuj.articles.security.AuthenticatedUser;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ArticleExportService {
+
+    /**
+     * To be called before the response is committed, as the export itself is written into the response body.
+     */
+    void authorizeExport(AuthenticatedUser authenticatedUser);
+
+    /**
+     * Writes articles as newline-delimited JSON while reading them, sorted by updated at, then by id.
+     *
+     * @param updatedSince inclusive lower bound of updated at, {@code null} to export all articles
+     * @param outputStream stream to write to, it is not closed
+     */
+    void exportAllSortedByUpdatedAt(LocalDateTime updatedSince, OutputStream outputStream);
+}
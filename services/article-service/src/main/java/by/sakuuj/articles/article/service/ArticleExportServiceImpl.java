@@ -0,0 +1,61 @@
+package by.sakuuj.articles.article.service;
+
+import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleExportRow;
+import by.sakuuj.articles.article.service.authorization.ArticleServiceAuthorizer;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleExportServiceImpl implements ArticleExportService {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ArticleRepository articleRepository;
+    private final ArticleServiceAuthorizer articleServiceAuthorizer;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void authorizeExport(AuthenticatedUser authenticatedUser) {
+        articleServiceAuthorizer.authorizeExport(authenticatedUser);
+    }
+
+    /**
+     * The transaction stays open while the rows are being written, so that the database cursor is not closed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllSortedByUpdatedAt(LocalDateTime updatedSince, OutputStream outputStream) {
+
+        ObjectWriter rowWriter = objectMapper.writerFor(ArticleExportRow.class);
+
+        try (Stream<ArticleExportRow> rows = articleRepository.streamAllSortedByUpdatedAt(
+                updatedSince,
+                CompileTimeConstants.EXPORT_FETCH_SIZE
+        )) {
+            Iterator<ArticleExportRow> rowIterator = rows.iterator();
+            while (rowIterator.hasNext()) {
+
+                outputStream.write(rowWriter.writeValueAsBytes(rowIterator.next()));
+                outputStream.write(LINE_SEPARATOR);
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
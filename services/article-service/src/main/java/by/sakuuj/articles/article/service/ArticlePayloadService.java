@@ -0,0 +1,17 @@
+package by.sakuuj.articles.article.service;
+
+import by.sakuuj.articles.article.dto.SerializedResponse;
+import by.sakuuj.articles.paging.RequestedCursorPage;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Same as the corresponding reads of {@link ArticleService}, but returns the already serialized responses.
+ */
+public interface ArticlePayloadService {
+
+    Optional<SerializedResponse> findById(UUID id);
+
+    SerializedResponse findAllSortedByCreatedAtDesc(RequestedCursorPage requestedPage);
+}
@@ -0,0 +1,82 @@
+package by.sakuuj.articles.article.service;
+
+import by.sakuuj.articles.article.dto.SerializedResponse;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.article.utils.ETagUtils;
+import by.sakuuj.articles.paging.RequestedCursorPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized articles are evicted together with the articles themselves,
+ * serialized first pages of the feed are evicted on every article event.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticlePayloadServiceImpl implements ArticlePayloadService {
+
+    private static final int GZIP_MIN_SIZE_IN_BYTES = 1024;
+
+    private final ArticleService articleService;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Absent articles are not cached, same as in {@link ArticleService#findById(UUID)}
+     */
+    @Override
+    @Cacheable(cacheNames = CompileTimeConstants.ARTICLE_PAYLOADS_CACHE_NAME, unless = "#result == null")
+    public Optional<SerializedResponse> findById(UUID id) {
+
+        return articleService.findById(id)
+                .map(found -> serialize(found, ETagUtils.toETag(found.id(), found.version())));
+    }
+
+    @Override
+    @Cacheable(
+            cacheNames = CompileTimeConstants.ARTICLE_FEED_PAYLOADS_CACHE_NAME,
+            key = "#requestedPage.size()",
+            condition = "#requestedPage.cursor() == null",
+            sync = true
+    )
+    public SerializedResponse findAllSortedByCreatedAtDesc(RequestedCursorPage requestedPage) {
+
+        return serialize(articleService.findAllSortedByCreatedAtDesc(requestedPage), null);
+    }
+
+    private SerializedResponse serialize(Object response, String eTag) {
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] gzippedJson = json.length < GZIP_MIN_SIZE_IN_BYTES ? null : gzip(json);
+
+            return SerializedResponse.builder()
+                    .json(json)
+                    .gzippedJson(gzippedJson)
+                    .eTag(eTag)
+                    .build();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(bytes);
+        }
+
+        return compressed.toByteArray();
+    }
+}
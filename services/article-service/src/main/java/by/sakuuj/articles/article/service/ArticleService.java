@@ -1,9 +1,13 @@
 package by.sakuuj.articles.article.service;
 
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
 import by.sakuuj.articles.article.dto.ArticleRequest;
 import by.sakuuj.articles.article.dto.ArticleResponse;
+import by.sakuuj.articles.article.dto.ArticleSummaryResponse;
 import by.sakuuj.articles.article.dto.TopicRequest;
+import by.sakuuj.articles.paging.CursorPageView;
 import by.sakuuj.articles.paging.PageView;
+import by.sakuuj.articles.paging.RequestedCursorPage;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.security.AuthenticatedUser;
 
@@ -15,17 +19,49 @@ public interface ArticleService {
 
     Optional<ArticleResponse> findById(UUID id);
 
+    Optional<Short> findVersionById(UUID id);
+
+    /**
+     * @return found articles in the order of the requested ids, articles not found are skipped
+     */
+    List<ArticleResponse> findAllByIdsInOrder(List<UUID> ids);
+
     PageView<ArticleResponse> findAllBySearchTermsSortedByRelevance(String searchTerms, RequestedPage requestedPage);
 
     PageView<ArticleResponse> findAllSortedByCreatedAtDesc(RequestedPage requestedPage);
 
+    CursorPageView<ArticleResponse> findAllSortedByCreatedAtDesc(RequestedCursorPage requestedPage);
+
     PageView<ArticleResponse> findAllByTopicsSortedByCreatedAtDesc(List<TopicRequest> topics, RequestedPage requestedPage);
 
+    CursorPageView<ArticleResponse> findAllByTopicsSortedByCreatedAtDesc(List<TopicRequest> topics, RequestedCursorPage requestedPage);
+
+    CursorPageView<ArticleSummaryResponse> findSummariesSortedByCreatedAtDesc(RequestedCursorPage requestedPage);
+
+    CursorPageView<ArticleSummaryResponse> findSummariesByTopicsSortedByCreatedAtDesc(List<TopicRequest> topics, RequestedCursorPage requestedPage);
+
     UUID create(ArticleRequest request, UUID idempotencyTokenValue, AuthenticatedUser authenticatedUser);
 
+    /**
+     * Same as {@link #create(ArticleRequest, UUID, AuthenticatedUser)},
+     * but returns once the creation has been started
+     */
+    ArticleOperationResponse startCreate(ArticleRequest request, UUID idempotencyTokenValue, AuthenticatedUser authenticatedUser);
+
     void deleteById(UUID id, AuthenticatedUser authenticatedUser);
     void updateById(UUID id, ArticleRequest newContent, short version, AuthenticatedUser authenticatedUser);
 
+    /**
+     * Same as {@link #updateById(UUID, ArticleRequest, short, AuthenticatedUser)},
+     * but returns once the update has been started
+     */
+    ArticleOperationResponse startUpdateById(UUID id, ArticleRequest newContent, short version, AuthenticatedUser authenticatedUser);
+
+    /**
+     * @return empty if there is no such operation or it has been started by another user
+     */
+    Optional<ArticleOperationResponse> findOperationById(String operationId, AuthenticatedUser authenticatedUser);
+
     void addTopic(UUID topicId, UUID articleId, AuthenticatedUser authenticatedUser);
     void removeTopic(UUID topicId, UUID articleId, AuthenticatedUser authenticatedUser);
 }
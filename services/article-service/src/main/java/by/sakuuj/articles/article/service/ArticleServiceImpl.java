@@ -1,26 +1,41 @@
 package by.sakuuj.articles.article.service;
 
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
 import by.sakuuj.articles.article.dto.ArticleRequest;
 import by.sakuuj.articles.article.dto.ArticleResponse;
+import by.sakuuj.articles.article.dto.ArticleSummaryResponse;
 import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.validator.DtoValidator;
 import by.sakuuj.articles.article.mapper.jpa.ArticleMapper;
 import by.sakuuj.articles.article.repository.elasticsearch.ArticleDocumentRepository;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleTopicRepository;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleSummary;
 import by.sakuuj.articles.article.service.authorization.ArticleServiceAuthorizer;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
 import by.sakuuj.articles.article.orchestration.OrchestratedArticleService;
+import by.sakuuj.articles.concurrent.SingleFlight;
 import by.sakuuj.articles.entity.jpa.embeddable.ArticleTopicId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit_;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity_;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import by.sakuuj.articles.entity.jpa.generators.UuidV7Generator;
+import by.sakuuj.articles.paging.CreatedAtIdCursor;
+import by.sakuuj.articles.paging.CursorPageView;
 import by.sakuuj.articles.paging.PageView;
+import by.sakuuj.articles.paging.RequestedCursorPage;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.security.AuthenticatedUser;
 import by.sakuuj.articles.utils.PagingUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
@@ -29,14 +44,18 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
 
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
     private final ArticleServiceAuthorizer articleServiceAuthorizer;
 
     private final DtoValidator dtoValidator;
@@ -46,11 +65,15 @@ public class ArticleServiceImpl implements ArticleService {
     private final ArticleRepository articleRepository;
     private final ArticleDocumentRepository articleDocumentRepository;
     private final ArticleTopicRepository articleTopicRepository;
+    private final ArticleOutboxEventRepository articleOutboxEventRepository;
 
     private final OrchestratedArticleService orchestratedArticleService;
 
     private final TransactionTemplate txTemplate;
 
+    private final SingleFlight<UUID, Optional<ArticleResponse>> lookupFlights = new SingleFlight<>();
+    private final SingleFlight<SearchFlightKey, PageView<ArticleResponse>> searchFlights = new SingleFlight<>();
+
     @Override
     public UUID create(ArticleRequest request, UUID idempotencyTokenValue, AuthenticatedUser authenticatedUser) {
 
@@ -64,13 +87,34 @@ public class ArticleServiceImpl implements ArticleService {
                 .build();
 
         log.info("Before creation");
-        ArticleResponse createdArticle = orchestratedArticleService.create(request, idempotencyTokenId);
+        ArticleIdAndVersion createdArticle = orchestratedArticleService.create(
+                request,
+                idempotencyTokenId,
+                UuidV7Generator.generateUuid()
+        );
         log.info("After creation");
 
 
         return createdArticle.id();
     }
 
+    @Override
+    public ArticleOperationResponse startCreate(ArticleRequest request,
+                                                UUID idempotencyTokenValue,
+                                                AuthenticatedUser authenticatedUser) {
+
+        articleServiceAuthorizer.authorizeCreate(authenticatedUser);
+
+        dtoValidator.validate(request);
+
+        IdempotencyTokenId idempotencyTokenId = IdempotencyTokenId.builder()
+                .clientId(authenticatedUser.id())
+                .idempotencyTokenValue(idempotencyTokenValue)
+                .build();
+
+        return orchestratedArticleService.startCreate(request, idempotencyTokenId, UuidV7Generator.generateUuid());
+    }
+
     @Override
     public void deleteById(UUID id, AuthenticatedUser authenticatedUser) {
 
@@ -90,15 +134,78 @@ public class ArticleServiceImpl implements ArticleService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public ArticleOperationResponse startUpdateById(UUID id,
+                                                    ArticleRequest request,
+                                                    short version,
+                                                    AuthenticatedUser authenticatedUser) {
+
+        articleServiceAuthorizer.authorizeUpdateById(id, authenticatedUser);
+
+        dtoValidator.validate(request);
+
+        return orchestratedArticleService.startUpdateById(request, id, version, authenticatedUser.id());
+    }
+
+    @Override
+    public Optional<ArticleOperationResponse> findOperationById(String operationId, AuthenticatedUser authenticatedUser) {
+
+        return orchestratedArticleService.findOperationById(operationId, authenticatedUser.id());
+    }
+
+    /**
+     * Read from the primary rather than a replica: the event evicting a changed article may be consumed
+     * before a lagging replica has the change, and the stale article would be cached again.
+     * Absent articles are not cached, concurrent misses of the same id are coalesced before a transaction is opened.
+     */
+    @Override
+    @Cacheable(cacheNames = CompileTimeConstants.ARTICLES_CACHE_NAME, unless = "#result == null")
     public Optional<ArticleResponse> findById(UUID id) {
 
-        return articleRepository.findById(id).map(articleMapper::toResponse);
+        return lookupFlights.execute(id, () -> txTemplate.execute(
+                txStatus -> articleRepository.findById(id).map(articleMapper::toResponse)
+        ));
+    }
+
+    /**
+     * Read from the primary, same as {@link #findById(UUID)}, so that a changed article is not answered with 304
+     */
+    @Override
+    @Transactional
+    public Optional<Short> findVersionById(UUID id) {
+
+        return articleRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArticleResponse> findAllByIdsInOrder(List<UUID> ids) {
+
+        List<UUID> distinctIds = ids.stream()
+                .distinct()
+                .toList();
+
+        return articleRepository.findAllByIdsInOrder(distinctIds).stream()
+                .map(articleMapper::toResponse)
+                .toList();
     }
 
     @Override
     public PageView<ArticleResponse> findAllBySearchTermsSortedByRelevance(String searchTerms, RequestedPage requestedPage) {
 
+        SearchFlightKey searchFlightKey = new SearchFlightKey(
+                normalizeSearchTerms(searchTerms),
+                requestedPage.number(),
+                requestedPage.size()
+        );
+
+        return searchFlights.execute(
+                searchFlightKey,
+                () -> doFindAllBySearchTermsSortedByRelevance(searchTerms, requestedPage)
+        );
+    }
+
+    private PageView<ArticleResponse> doFindAllBySearchTermsSortedByRelevance(String searchTerms,
+                                                                              RequestedPage requestedPage) {
         PageView<UUID> foundIds = articleDocumentRepository.findIdsOfDocsSortedByRelevance(
                 searchTerms,
                 PagingUtils.toPageable(requestedPage)
@@ -108,7 +215,7 @@ public class ArticleServiceImpl implements ArticleService {
             return PageView.<ArticleResponse>empty().withNumberAndSize(requestedPage);
         }
 
-        List<ArticleEntity> foundArticles = txTemplate.execute(
+        List<ArticleEntity> foundArticles = readOnly(txTemplate).execute(
                 txStatus -> articleRepository.findAllByIdsInOrder(foundIds.content())
         );
 
@@ -121,7 +228,7 @@ public class ArticleServiceImpl implements ArticleService {
 
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PageView<ArticleResponse> findAllSortedByCreatedAtDesc(RequestedPage requestedPage) {
 
         Sort sortByCreatedAtDesc = Sort.by(
@@ -137,7 +244,22 @@ public class ArticleServiceImpl implements ArticleService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public CursorPageView<ArticleResponse> findAllSortedByCreatedAtDesc(RequestedCursorPage requestedPage) {
+
+        CreatedAtIdCursor after = Optional.ofNullable(requestedPage.cursor())
+                .map(CreatedAtIdCursor::decode)
+                .orElse(null);
+
+        int pageSize = requestedPage.size();
+        List<ArticleEntity> foundArticles = articleRepository.findAllSortedByCreatedAtDesc(after, pageSize + 1);
+
+        return PagingUtils.toCursorPageView(foundArticles, pageSize, ArticleServiceImpl::toCursor)
+                .map(articleMapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public PageView<ArticleResponse> findAllByTopicsSortedByCreatedAtDesc(List<TopicRequest> topics, RequestedPage requestedPage) {
 
         List<String> topicsNames = topics.stream()
@@ -148,8 +270,81 @@ public class ArticleServiceImpl implements ArticleService {
                 .map(articleMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageView<ArticleResponse> findAllByTopicsSortedByCreatedAtDesc(List<TopicRequest> topics,
+                                                                               RequestedCursorPage requestedPage) {
+        List<String> topicsNames = topics.stream()
+                .map(TopicRequest::name)
+                .distinct()
+                .toList();
+
+        CreatedAtIdCursor after = Optional.ofNullable(requestedPage.cursor())
+                .map(CreatedAtIdCursor::decode)
+                .orElse(null);
+
+        int pageSize = requestedPage.size();
+        List<ArticleEntity> foundArticles = articleRepository.findAllByTopicsSortedByCreatedAtDesc(
+                topicsNames,
+                after,
+                pageSize + 1
+        );
+
+        return PagingUtils.toCursorPageView(foundArticles, pageSize, ArticleServiceImpl::toCursor)
+                .map(articleMapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageView<ArticleSummaryResponse> findSummariesSortedByCreatedAtDesc(RequestedCursorPage requestedPage) {
+
+        CreatedAtIdCursor after = Optional.ofNullable(requestedPage.cursor())
+                .map(CreatedAtIdCursor::decode)
+                .orElse(null);
+
+        int pageSize = requestedPage.size();
+        List<ArticleSummary> foundSummaries = articleRepository.findSummariesSortedByCreatedAtDesc(after, pageSize + 1);
+
+        return PagingUtils.toCursorPageView(foundSummaries, pageSize, ArticleServiceImpl::toCursor)
+                .map(articleMapper::toSummaryResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageView<ArticleSummaryResponse> findSummariesByTopicsSortedByCreatedAtDesc(List<TopicRequest> topics,
+                                                                                           RequestedCursorPage requestedPage) {
+        List<String> topicsNames = topics.stream()
+                .map(TopicRequest::name)
+                .distinct()
+                .toList();
+
+        CreatedAtIdCursor after = Optional.ofNullable(requestedPage.cursor())
+                .map(CreatedAtIdCursor::decode)
+                .orElse(null);
+
+        int pageSize = requestedPage.size();
+        List<ArticleSummary> foundSummaries = articleRepository.findSummariesByTopicsSortedByCreatedAtDesc(
+                topicsNames,
+                after,
+                pageSize + 1
+        );
+
+        return PagingUtils.toCursorPageView(foundSummaries, pageSize, ArticleServiceImpl::toCursor)
+                .map(articleMapper::toSummaryResponse);
+    }
+
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(
+                    cacheNames = {
+                            CompileTimeConstants.ARTICLES_CACHE_NAME,
+                            CompileTimeConstants.ARTICLE_PAYLOADS_CACHE_NAME
+                    },
+                    key = "#articleId"
+            ),
+            @CacheEvict(cacheNames = CompileTimeConstants.ARTICLE_FEED_PAYLOADS_CACHE_NAME, allEntries = true)
+    })
     public void addTopic(UUID topicId, UUID articleId, AuthenticatedUser authenticatedUser) {
 
         articleServiceAuthorizer.authorizeAddTopic(articleId, authenticatedUser);
@@ -159,11 +354,24 @@ public class ArticleServiceImpl implements ArticleService {
                 .topicId(topicId)
                 .build();
 
+        articleRepository.findByIdForcingVersionIncrement(articleId);
         articleTopicRepository.save(articleTopicId);
+
+        persistUpsertEvent(articleId);
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(
+                    cacheNames = {
+                            CompileTimeConstants.ARTICLES_CACHE_NAME,
+                            CompileTimeConstants.ARTICLE_PAYLOADS_CACHE_NAME
+                    },
+                    key = "#articleId"
+            ),
+            @CacheEvict(cacheNames = CompileTimeConstants.ARTICLE_FEED_PAYLOADS_CACHE_NAME, allEntries = true)
+    })
     public void removeTopic(UUID topicId, UUID articleId, AuthenticatedUser authenticatedUser) {
 
         articleServiceAuthorizer.authorizeAddTopic(articleId, authenticatedUser);
@@ -173,6 +381,57 @@ public class ArticleServiceImpl implements ArticleService {
                 .topicId(topicId)
                 .build();
 
+        articleRepository.findByIdForcingVersionIncrement(articleId);
         articleTopicRepository.removeById(articleTopicId);
+
+        persistUpsertEvent(articleId);
+    }
+
+    /**
+     * The event evicts the article from the caches of every instance, not only of this one
+     */
+    private void persistUpsertEvent(UUID articleId) {
+
+        articleOutboxEventRepository.persist(ArticleOutboxEventEntity.builder()
+                .articleId(articleId)
+                .eventType(ArticleOutboxEventEntity.EventType.UPSERT)
+                .build()
+        );
+    }
+
+    /**
+     * Connections of read-only transactions are taken from the replicas, if configured
+     */
+    private static TransactionTemplate readOnly(TransactionTemplate txTemplate) {
+
+        TransactionTemplate readOnlyTxTemplate = new TransactionTemplate(txTemplate.getTransactionManager(), txTemplate);
+        readOnlyTxTemplate.setReadOnly(true);
+
+        return readOnlyTxTemplate;
+    }
+
+    private static String toCursor(ArticleEntity article) {
+
+        return new CreatedAtIdCursor(article.getModificationAudit().getCreatedAt(), article.getId())
+                .encode();
+    }
+
+    private static String toCursor(ArticleSummary summary) {
+
+        return new CreatedAtIdCursor(summary.createdAt(), summary.id())
+                .encode();
+    }
+
+    /**
+     * Identical concurrent searches are executed once, search terms differing only in case
+     * and whitespace are considered identical.
+     */
+    private record SearchFlightKey(String normalizedSearchTerms, int pageNumber, int pageSize) {
+    }
+
+    private static String normalizeSearchTerms(String searchTerms) {
+        return WHITESPACES.matcher(searchTerms.strip())
+                .replaceAll(" ")
+                .toLowerCase(Locale.ROOT);
     }
 }
@@ -13,6 +13,8 @@ public interface TopicService {
 
     Optional<TopicResponse> findById(UUID id);
 
+    Optional<Short> findVersionById(UUID id);
+
     PageView<TopicResponse> findAllSortByCreatedAtDesc(RequestedPage requestedPage);
 
     UUID create(TopicRequest request, UUID idempotencyTokenValue, AuthenticatedUser authenticatedUser);
@@ -4,19 +4,23 @@ import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.TopicResponse;
 import by.sakuuj.articles.article.dto.validator.DtoValidator;
 import by.sakuuj.articles.article.exception.EntityNotFoundException;
-import by.sakuuj.articles.article.exception.IdempotencyTokenExistsException;
 import by.sakuuj.articles.article.exception.EntityVersionDoesNotMatch;
 import by.sakuuj.articles.article.mapper.jpa.TopicMapper;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
+import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.article.repository.jpa.TopicRepository;
 import by.sakuuj.articles.article.service.authorization.TopicServiceAuthorizer;
 import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit_;
+import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity_;
-import by.sakuuj.articles.entity.jpa.entities.IdempotencyTokenEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
 import by.sakuuj.articles.entity.jpa.entities.TopicEntity;
+import by.sakuuj.articles.entity.jpa.generators.UuidV7Generator;
 import by.sakuuj.articles.paging.PageView;
 import by.sakuuj.articles.paging.RequestedPage;
+import by.sakuuj.articles.service.IdempotencyClaim;
 import by.sakuuj.articles.service.IdempotencyTokenService;
 import by.sakuuj.articles.security.AuthenticatedUser;
 import by.sakuuj.articles.utils.PagingUtils;
@@ -40,6 +44,9 @@ public class TopicServiceImpl implements TopicService {
     private final TopicRepository topicRepository;
     private final TopicMapper topicMapper;
 
+    private final ArticleRepository articleRepository;
+    private final ArticleOutboxEventRepository articleOutboxEventRepository;
+
     private final IdempotencyTokenService idempotencyTokenService;
 
 
@@ -49,6 +56,12 @@ public class TopicServiceImpl implements TopicService {
         return topicRepository.findById(id).map(topicMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Short> findVersionById(UUID id) {
+        return topicRepository.findVersionById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageView<TopicResponse> findAllSortByCreatedAtDesc(RequestedPage requestedPage) {
@@ -75,26 +88,29 @@ public class TopicServiceImpl implements TopicService {
                 .clientId(authenticatedUser.id())
                 .build();
 
-        Optional<IdempotencyTokenEntity> foundToken = idempotencyTokenService.findById(idempotencyTokenId);
-        if (foundToken.isPresent()) {
-            throw new IdempotencyTokenExistsException();
+        UUID topicId = UuidV7Generator.generateUuid();
+
+        IdempotencyClaim claim = idempotencyTokenService.claim(
+                idempotencyTokenId,
+                CreationId.of(TopicEntity.class, topicId)
+        );
+        if (!claim.isWon()) {
+            return claim.creationId().getCreatedEntityId();
         }
 
         TopicEntity topicEntityToSave = topicMapper.toEntity(request);
-        topicRepository.save(topicEntityToSave);
+        topicEntityToSave.setId(topicId);
+        topicRepository.persist(topicEntityToSave);
 
-        UUID savedEntityId = topicEntityToSave.getId();
-
-        CreationId creationId = CreationId.of(TopicEntity.class, savedEntityId);
-        idempotencyTokenService.create(idempotencyTokenId, creationId);
-
-        return savedEntityId;
+        return topicId;
     }
 
     @Override
     public void deleteById(UUID id, AuthenticatedUser authenticatedUser) {
 
         topicServiceAuthorizer.authorizeDelete(id, authenticatedUser);
+
+        touchArticlesWithTopic(id);
         topicRepository.removeById(id);
 
         CreationId creationId = CreationId.of(TopicEntity.class, id);
@@ -115,5 +131,22 @@ public class TopicServiceImpl implements TopicService {
         }
 
         topicMapper.updateEntity(topicToUpdate, newContent);
+
+        touchArticlesWithTopic(id);
+    }
+
+    /**
+     * Articles embed the names of their topics: their versions are incremented, so that their ETags change,
+     * and the events evict them from the caches of every instance and update their search index documents
+     */
+    private void touchArticlesWithTopic(UUID topicId) {
+
+        articleRepository.findAllByTopicIdForcingVersionIncrement(topicId).stream()
+                .map(ArticleEntity::getId)
+                .forEach(articleId -> articleOutboxEventRepository.persist(ArticleOutboxEventEntity.builder()
+                        .articleId(articleId)
+                        .eventType(ArticleOutboxEventEntity.EventType.UPSERT)
+                        .build()
+                ));
     }
 }
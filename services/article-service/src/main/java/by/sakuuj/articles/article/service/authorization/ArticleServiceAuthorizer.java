@@ -14,4 +14,6 @@ public interface ArticleServiceAuthorizer {
     void authorizeAddTopic(UUID articleId, AuthenticatedUser authenticatedUser);
     void authorizeRemoveTopic(UUID articleId, AuthenticatedUser authenticatedUser);
 
+    void authorizeExport(AuthenticatedUser authenticatedUser);
+
 }
@@ -31,4 +31,9 @@ public class ArticleServiceAuthorizerImpl implements ArticleServiceAuthorizer {
     public void authorizeRemoveTopic(UUID articleId, AuthenticatedUser authenticatedUser) {
 
     }
+
+    @Override
+    public void authorizeExport(AuthenticatedUser authenticatedUser) {
+
+    }
 }
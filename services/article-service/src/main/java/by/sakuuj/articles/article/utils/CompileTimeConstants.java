@@ -8,5 +8,13 @@ public class CompileTimeConstants {
 
     public static final int MAX_TOPICS_PER_PAGE_REQUEST = 50;
 
+    public static final int MAX_IDS_PER_BATCH_REQUEST = 100;
+
+    public static final int EXPORT_FETCH_SIZE = 500;
+
     public static final String TEMPORAL_ARTICLES_QUEUE_NAME = "articles";
+
+    public static final String ARTICLES_CACHE_NAME = "articles";
+    public static final String ARTICLE_PAYLOADS_CACHE_NAME = "articlePayloads";
+    public static final String ARTICLE_FEED_PAYLOADS_CACHE_NAME = "articleFeedPayloads";
 }
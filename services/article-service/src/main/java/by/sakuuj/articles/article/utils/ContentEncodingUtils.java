@@ -0,0 +1,47 @@
+package by.sakuuj.articles.article.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+@UtilityClass
+public class ContentEncodingUtils {
+
+    public static final String GZIP = "gzip";
+
+    private static final String QUALITY_PARAM_PREFIX = "q=";
+
+    /**
+     * @param acceptEncoding values of the {@code Accept-Encoding} header, possibly comma separated
+     * @return whether gzip is listed and not refused by {@code q=0}
+     */
+    public static boolean acceptsGzip(List<String> acceptEncoding) {
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        return acceptEncoding.stream()
+                .flatMap(value -> List.of(value.split(",")).stream())
+                .map(coding -> coding.split(";"))
+                .filter(codingAndParams -> codingAndParams[0].strip().equalsIgnoreCase(GZIP))
+                .anyMatch(codingAndParams -> !hasZeroQuality(codingAndParams));
+    }
+
+    private static boolean hasZeroQuality(String[] codingAndParams) {
+
+        for (int i = 1; i < codingAndParams.length; i++) {
+
+            String param = codingAndParams[i].strip();
+            if (param.startsWith(QUALITY_PARAM_PREFIX)) {
+                try {
+                    return Double.parseDouble(param.substring(QUALITY_PARAM_PREFIX.length())) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
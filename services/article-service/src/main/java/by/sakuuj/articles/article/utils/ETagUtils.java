@@ -0,0 +1,41 @@
+package by.sakuuj.articles.article.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Weak entity tags of versioned resources, derived from the resource id and its {@code @Version}.
+ * <p>
+ * The tags are weak since the gzipped and the identity representations share them,
+ * while a strong tag has to differ per content coding.
+ */
+@UtilityClass
+public class ETagUtils {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    public static String toETag(UUID id, short version) {
+        return WEAK_PREFIX + "\"" + id + "." + version + "\"";
+    }
+
+    /**
+     * Uses the weak comparison, as required for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch values of the {@code If-None-Match} header, possibly comma separated
+     */
+    public static boolean anyMatches(List<String> ifNoneMatch, String eTag) {
+
+        return ifNoneMatch.stream()
+                .flatMap(value -> List.of(value.split(",")).stream())
+                .map(String::strip)
+                .map(ETagUtils::withoutWeakPrefix)
+                .anyMatch(tag -> tag.equals(WILDCARD) || tag.equals(withoutWeakPrefix(eTag)));
+    }
+
+    private static String withoutWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+}
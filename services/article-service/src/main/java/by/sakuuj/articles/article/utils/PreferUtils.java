@@ -0,0 +1,30 @@
+package by.sakuuj.articles.article.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+@UtilityClass
+public class PreferUtils {
+
+    public static final String PREFER = "Prefer";
+    public static final String PREFERENCE_APPLIED = "Preference-Applied";
+
+    public static final String RESPOND_ASYNC = "respond-async";
+
+    /**
+     * @param prefer values of the {@code Prefer} header, possibly comma separated
+     * @return whether {@code respond-async} is listed
+     */
+    public static boolean prefersRespondAsync(List<String> prefer) {
+
+        if (prefer == null) {
+            return false;
+        }
+
+        return prefer.stream()
+                .flatMap(value -> List.of(value.split(",")).stream())
+                .map(preference -> preference.split(";")[0].strip())
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+}
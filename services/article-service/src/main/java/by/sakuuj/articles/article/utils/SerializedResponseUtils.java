@@ -0,0 +1,37 @@
+package by.sakuuj.articles.article.utils;
+
+import by.sakuuj.articles.article.dto.SerializedResponse;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@UtilityClass
+public class SerializedResponseUtils {
+
+    /**
+     * The gzipped JSON is written if it is present and the client accepts gzip.
+     *
+     * @param acceptEncoding values of the {@code Accept-Encoding} header, possibly comma separated
+     */
+    public static ResponseEntity<byte[]> toResponseEntity(SerializedResponse serializedResponse,
+                                                          List<String> acceptEncoding) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (serializedResponse.eTag() != null) {
+            responseBuilder.eTag(serializedResponse.eTag());
+        }
+
+        if (serializedResponse.gzippedJson() != null && ContentEncodingUtils.acceptsGzip(acceptEncoding)) {
+            return responseBuilder
+                    .header(HttpHeaders.CONTENT_ENCODING, ContentEncodingUtils.GZIP)
+                    .body(serializedResponse.gzippedJson());
+        }
+
+        return responseBuilder.body(serializedResponse.json());
+    }
+}
@@ -6,6 +6,7 @@ import by.sakuuj.articles.article.dto.PersonResponse;
 import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.TopicResponse;
 import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleExportRow;
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import by.sakuuj.articles.entity.jpa.entities.ArticleTopicEntity;
@@ -52,6 +53,12 @@ public class ArticleTestDataBuilder {
             compiled.
             """;
 
+    private String excerpt = "Java HotSpot VM is a mixed- mode VM, which means that it starts off interpreting the byte- code, "
+            + "but it can (on a method-by-method basis) compile code into native machine instructions for faster execution. "
+            + "By passing the switch -XX:+PrintCompilation, you can see entries in the log file that show…";
+
+    private int wordCount = 55;
+
     private short version = 4324;
 
     private List<TopicTestDataBuilder> topicBuilders = List.of(
@@ -111,10 +118,13 @@ public class ArticleTestDataBuilder {
                 .id(id)
                 .title(title)
                 .content(content)
+                .excerpt(excerpt)
+                .wordCount(wordCount)
                 .topics(topicResponses)
                 .author(authorResponseDto)
                 .createdAt(createdAtString)
                 .updatedAt(updatedAtString)
+                .version(version)
                 .build();
     }
 
@@ -129,6 +139,8 @@ public class ArticleTestDataBuilder {
                 .title(title)
                 .author(author)
                 .content(content)
+                .excerpt(excerpt)
+                .wordCount(wordCount)
                 .version(version)
                 .articleTopics(articleTopics)
                 .modificationAudit(modificationAudit)
@@ -142,6 +154,21 @@ public class ArticleTestDataBuilder {
     }
 
     public ArticleDocument buildDocument() {
-        return new ArticleDocument(id, title, content, datePublishedOn);
+        return new ArticleDocument(id, title, content, excerpt, wordCount, datePublishedOn);
+    }
+
+    public ArticleExportRow buildExportRow() {
+
+        return ArticleExportRow.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .excerpt(excerpt)
+                .wordCount(wordCount)
+                .authorId(authorBuilder.getId())
+                .createdAt(modificationAudit.getCreatedAt())
+                .updatedAt(modificationAudit.getUpdatedAt())
+                .version(version)
+                .build();
     }
 }
@@ -1,5 +1,6 @@
 package by.sakuuj.articles.article;
 
+import by.sakuuj.articles.paging.RequestedCursorPage;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.paging.PageView;
 import lombok.AllArgsConstructor;
@@ -30,6 +31,12 @@ public class PagingTestDataBuilder {
                 .withNumber(pageNumber);
     }
 
+    public RequestedCursorPage aRequestedCursorPage(String cursor) {
+        return RequestedCursorPage.aFirstPage()
+                .withSize(pageSize)
+                .withCursor(cursor);
+    }
+
     public Pageable aPageable() {
         return PageRequest.of(pageNumber, pageSize);
     }
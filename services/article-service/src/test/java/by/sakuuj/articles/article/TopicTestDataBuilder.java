@@ -57,6 +57,7 @@ public class TopicTestDataBuilder {
                 .name(name)
                 .createdAt(createdAtString)
                 .updatedAt(updatedAtString)
+                .version(version)
                 .build();
     }
 
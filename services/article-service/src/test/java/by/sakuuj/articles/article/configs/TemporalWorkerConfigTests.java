@@ -0,0 +1,82 @@
+package by.sakuuj.articles.article.configs;
+
+import by.sakuuj.articles.article.orchestration.activities.CreateArticleActivities;
+import by.sakuuj.articles.article.orchestration.activities.DeleteArticleActivities;
+import by.sakuuj.articles.article.orchestration.activities.UpdateArticleActivities;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import io.temporal.client.WorkflowClient;
+import io.temporal.serviceclient.WorkflowServiceStubs;
+import io.temporal.serviceclient.WorkflowServiceStubsOptions;
+import io.temporal.worker.WorkerFactory;
+import io.temporal.worker.WorkerOptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+class TemporalWorkerConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TemporalWorkerConfig.class)
+            .withBean(WorkflowClient.class, () -> WorkflowClient.newInstance(
+                    WorkflowServiceStubs.newServiceStubs(WorkflowServiceStubsOptions.newBuilder()
+                            .setTarget("localhost:7233")
+                            .build())
+            ))
+            .withBean(CreateArticleActivities.class, () -> mock(
+                    CreateArticleActivities.class,
+                    withSettings().withoutAnnotations()
+            ))
+            .withBean(UpdateArticleActivities.class, () -> mock(
+                    UpdateArticleActivities.class,
+                    withSettings().withoutAnnotations()
+            ))
+            .withBean(DeleteArticleActivities.class, () -> mock(
+                    DeleteArticleActivities.class,
+                    withSettings().withoutAnnotations()
+            ))
+            .withPropertyValues(
+                    "by.sakuuj.temporal.local-database-activities=true",
+                    "by.sakuuj.temporal.worker.max-concurrent-activities=11",
+                    "by.sakuuj.temporal.worker.max-concurrent-local-activities=12",
+                    "by.sakuuj.temporal.worker.max-concurrent-workflow-tasks=13",
+                    "by.sakuuj.temporal.worker.activity-pollers=3",
+                    "by.sakuuj.temporal.worker.workflow-task-pollers=4",
+                    "by.sakuuj.temporal.worker.sticky-cache-size=100"
+            );
+
+    @Test
+    void shouldCreateWorker_ConfiguredByProperties() {
+
+        contextRunner
+                .withPropertyValues(RunMode.WORKER_ENABLED_PROPERTY + "=true")
+                .run(context -> {
+
+                    WorkerOptions workerOptions = context.getBean(WorkerOptions.class);
+                    assertThat(workerOptions.getMaxConcurrentActivityExecutionSize()).isEqualTo(11);
+                    assertThat(workerOptions.getMaxConcurrentLocalActivityExecutionSize()).isEqualTo(12);
+                    assertThat(workerOptions.getMaxConcurrentWorkflowTaskExecutionSize()).isEqualTo(13);
+                    assertThat(workerOptions.getMaxConcurrentActivityTaskPollers()).isEqualTo(3);
+                    assertThat(workerOptions.getMaxConcurrentWorkflowTaskPollers()).isEqualTo(4);
+
+                    WorkerFactory workerFactory = context.getBean(WorkerFactory.class);
+                    assertThat(workerFactory.tryGetWorker(CompileTimeConstants.TEMPORAL_ARTICLES_QUEUE_NAME))
+                            .isNotNull();
+                });
+    }
+
+    @Test
+    void shouldNotCreateWorker_InApiOnlyMode() {
+
+        contextRunner
+                .withPropertyValues(RunMode.WORKER_ENABLED_PROPERTY + "=false")
+                .run(context -> {
+
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(WorkerFactory.class);
+                    assertThat(context).doesNotHaveBean(WorkerOptions.class);
+                });
+    }
+}
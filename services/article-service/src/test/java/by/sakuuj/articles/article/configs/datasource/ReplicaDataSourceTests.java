@@ -0,0 +1,99 @@
+package by.sakuuj.articles.article.configs.datasource;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaDataSourceTests {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+    private static final Duration LAG_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+    @Mock
+    private DataSource primary;
+
+    @Nested
+    class determineCurrentLookupKey {
+
+        @Test
+        void shouldRoundRobinUpToDateReplicas() throws SQLException {
+
+            // given
+            DataSource firstReplica = replicaLaggingBy(0);
+            DataSource laggingReplica = replicaLaggingBy(60);
+            DataSource thirdReplica = replicaLaggingBy(1.5);
+
+            var replicaDataSource = new ReplicaDataSource(
+                    primary,
+                    List.of(firstReplica, laggingReplica, thirdReplica),
+                    MAX_LAG,
+                    LAG_CHECK_INTERVAL
+            );
+
+            // when
+            replicaDataSource.checkReplicationLag();
+
+            // then
+            assertThat(List.of(
+                    replicaDataSource.determineCurrentLookupKey(),
+                    replicaDataSource.determineCurrentLookupKey(),
+                    replicaDataSource.determineCurrentLookupKey()
+            )).containsExactly(0, 2, 0);
+        }
+
+        @Test
+        void shouldFallBackToPrimary_WhenReplicasAreLaggingOrNotReachable() throws SQLException {
+
+            // given
+            DataSource laggingReplica = replicaLaggingBy(60);
+
+            DataSource notReachableReplica = mock(DataSource.class);
+            when(notReachableReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+            var replicaDataSource = new ReplicaDataSource(
+                    primary,
+                    List.of(laggingReplica, notReachableReplica),
+                    MAX_LAG,
+                    LAG_CHECK_INTERVAL
+            );
+
+            // when
+            replicaDataSource.checkReplicationLag();
+
+            // then
+            assertThat(replicaDataSource.determineCurrentLookupKey()).isNull();
+        }
+    }
+
+    private static DataSource replicaLaggingBy(double lagSeconds) throws SQLException {
+
+        DataSource replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+
+        return replica;
+    }
+}
@@ -0,0 +1,79 @@
+package by.sakuuj.articles.article.consumer;
+
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleCacheEvictingConsumerTests {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache articlesCache;
+
+    @Mock
+    private Cache articlePayloadsCache;
+
+    @Mock
+    private Cache articleFeedPayloadsCache;
+
+    private ArticleCacheEvictingConsumer articleCacheEvictingConsumer;
+
+    @BeforeEach
+    void createConsumer() {
+        when(cacheManager.getCache(CompileTimeConstants.ARTICLES_CACHE_NAME)).thenReturn(articlesCache);
+        when(cacheManager.getCache(CompileTimeConstants.ARTICLE_PAYLOADS_CACHE_NAME)).thenReturn(articlePayloadsCache);
+        when(cacheManager.getCache(CompileTimeConstants.ARTICLE_FEED_PAYLOADS_CACHE_NAME))
+                .thenReturn(articleFeedPayloadsCache);
+
+        articleCacheEvictingConsumer = new ArticleCacheEvictingConsumer(cacheManager);
+    }
+
+    @Nested
+    class evict_ConsumerRecord {
+
+        @Test
+        void shouldEvictArticleAndPayloadsByRecordKey() {
+
+            // given
+            UUID id = UUID.fromString("ce073d1b-fd75-4da4-9f1b-4e62edc822fc");
+            var consumerRecord = new ConsumerRecord<>("articles", 0, 0L, id, new byte[0]);
+
+            // when
+            articleCacheEvictingConsumer.evict(consumerRecord);
+
+            // then
+            verify(articlesCache).evict(id);
+            verify(articlePayloadsCache).evict(id);
+            verify(articleFeedPayloadsCache).clear();
+        }
+
+        @Test
+        void shouldSkipRecord_WhenKeyIsAbsent() {
+
+            // given
+            var consumerRecord = new ConsumerRecord<UUID, byte[]>("articles", 0, 0L, null, new byte[0]);
+
+            // when
+            articleCacheEvictingConsumer.evict(consumerRecord);
+
+            // then
+            verifyNoInteractions(articlesCache, articlePayloadsCache, articleFeedPayloadsCache);
+        }
+    }
+}
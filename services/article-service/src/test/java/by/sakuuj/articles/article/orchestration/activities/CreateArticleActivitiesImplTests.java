@@ -3,35 +3,47 @@ package by.sakuuj.articles.article.orchestration.activities;
 import by.sakuuj.articles.article.ArticleTestDataBuilder;
 import by.sakuuj.articles.article.PersonTestDataBuilder;
 import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
 import by.sakuuj.articles.article.exception.IdempotencyTokenExistsException;
 import by.sakuuj.articles.article.mapper.elasticsearch.ArticleDocumentMapper;
 import by.sakuuj.articles.article.mapper.jpa.ArticleMapper;
 import by.sakuuj.articles.article.orchestration.activities.CreateArticleActivitiesImpl;
 import by.sakuuj.articles.article.producer.ElasticsearchEventProducer;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
-import by.sakuuj.articles.entity.jpa.entities.IdempotencyTokenEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import by.sakuuj.articles.service.IdempotencyClaim;
 import by.sakuuj.articles.service.IdempotencyTokenService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -46,6 +58,22 @@ class CreateArticleActivitiesImplTests {
     @Mock
     private ArticleDocumentMapper articleDocumentMapper;
 
+    @Mock
+    private TransactionTemplate txTemplate;
+
+    @BeforeEach
+    public void configureTxTemplate() {
+
+        TransactionStatus txStatus = Mockito.mock(TransactionStatus.class);
+
+        lenient().doAnswer(invocation ->
+                {
+                    TransactionCallback<?> argument = invocation.getArgument(0, TransactionCallback.class);
+                    return argument.doInTransaction(txStatus);
+                })
+                .when(txTemplate).execute(any());
+    }
+
     @Mock
     private ElasticsearchEventProducer elasticsearchEventProducer;
 
@@ -55,6 +83,9 @@ class CreateArticleActivitiesImplTests {
     @Mock
     private IdempotencyTokenService idempotencyTokenService;
 
+    @Mock
+    private ArticleOutboxEventRepository articleOutboxEventRepository;
+
     @InjectMocks
     private CreateArticleActivitiesImpl createArticleActivities;
 
@@ -62,16 +93,19 @@ class CreateArticleActivitiesImplTests {
     @Nested
     class saveInDatabase {
 
+        @Captor
+        private ArgumentCaptor<CreationId> creationIdCaptor;
+
         @Test
-        void shouldCheckIfIdempotencyTokenExists_ThenMapToEntity_ThenSaveInRepo_ThenSaveIdempotencyToken() {
+        void shouldClaimIdempotencyToken_ThenMapToEntity_ThenPersistWithClaimedId() {
 
             // given
             var articleTestDataBuilder = ArticleTestDataBuilder.anArticle();
             var personTestDataBuilder = PersonTestDataBuilder.aPerson();
 
             ArticleRequest articleToCreateRequest = articleTestDataBuilder.buildRequest();
-            ArticleEntity articleToCreate = articleTestDataBuilder.build();
-            ArticleResponse expectedResponse = articleTestDataBuilder.buildResponse();
+            ArticleEntity articleToCreate = articleTestDataBuilder.withId(null).build();
+            UUID articleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
 
             UUID authorId = personTestDataBuilder.getId();
             UUID idempotencyTokenValue = UUID.fromString("d95b3c07-91c0-4443-aaa0-beffb98f452a");
@@ -79,52 +113,140 @@ class CreateArticleActivitiesImplTests {
                     .clientId(authorId)
                     .idempotencyTokenValue(idempotencyTokenValue)
                     .build();
-            var creationId = CreationId.of(ArticleEntity.class, articleToCreate.getId());
 
-            when(idempotencyTokenService.findById(any()))
-                    .thenReturn(Optional.empty());
+            when(idempotencyTokenService.claim(any(), any()))
+                    .thenAnswer(invocation -> IdempotencyClaim.won(invocation.getArgument(1)));
             when(articleMapper.toEntity(any(), any()))
                     .thenReturn(articleToCreate);
-            when(articleMapper.toResponse(any()))
-                    .thenReturn(expectedResponse);
-            when(articleRepository.save(any()))
+            when(articleRepository.persist(any()))
                     .thenReturn(articleToCreate);
-            doNothing().when(idempotencyTokenService).create(any(), any());
 
             // when
-            createArticleActivities.saveInDatabase(
+            ArticleIdAndVersion actual = createArticleActivities.saveInDatabase(
                     articleToCreateRequest,
-                    idempotencyTokenId
+                    idempotencyTokenId,
+                    articleId
             );
 
             // then
+            assertThat(actual).isEqualTo(new ArticleIdAndVersion(articleId, articleToCreate.getVersion()));
+
             InOrder inOrder = inOrder(
                     idempotencyTokenService,
                     articleMapper,
-                    articleRepository
+                    articleRepository,
+                    articleOutboxEventRepository
             );
 
-            inOrder.verify(idempotencyTokenService).findById(idempotencyTokenId);
+            inOrder.verify(idempotencyTokenService).claim(eq(idempotencyTokenId), creationIdCaptor.capture());
 
             inOrder.verify(articleMapper).toEntity(articleToCreateRequest, authorId);
 
-            inOrder.verify(articleRepository).save(articleToCreate);
+            inOrder.verify(articleRepository).persist(articleToCreate);
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(articleId)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT
+            ));
 
-            inOrder.verify(idempotencyTokenService).create(idempotencyTokenId, creationId);
+            inOrder.verifyNoMoreInteractions();
 
-            inOrder.verify(articleMapper).toResponse(articleToCreate);
+            assertThat(articleToCreate.getId()).isEqualTo(articleId);
+            assertThat(creationIdCaptor.getValue()).isEqualTo(CreationId.of(ArticleEntity.class, articleId));
+        }
 
-            inOrder.verifyNoMoreInteractions();
+        @Test
+        void shouldGenerateId_IfArticleIdIsNull() {
+
+            // given
+            var articleTestDataBuilder = ArticleTestDataBuilder.anArticle();
+            var personTestDataBuilder = PersonTestDataBuilder.aPerson();
+
+            ArticleRequest articleToCreateRequest = articleTestDataBuilder.buildRequest();
+            ArticleEntity articleToCreate = articleTestDataBuilder.withId(null).build();
+
+            var idempotencyTokenId = IdempotencyTokenId.builder()
+                    .clientId(personTestDataBuilder.getId())
+                    .idempotencyTokenValue(UUID.fromString("d95b3c07-91c0-4443-aaa0-beffb98f452a"))
+                    .build();
+
+            when(idempotencyTokenService.claim(any(), any()))
+                    .thenAnswer(invocation -> IdempotencyClaim.won(invocation.getArgument(1)));
+            when(articleMapper.toEntity(any(), any()))
+                    .thenReturn(articleToCreate);
+            when(articleRepository.persist(any()))
+                    .thenReturn(articleToCreate);
+
+            // when
+            ArticleIdAndVersion actual = createArticleActivities.saveInDatabase(
+                    articleToCreateRequest,
+                    idempotencyTokenId,
+                    null
+            );
+
+            // then
+            assertThat(actual.id()).isNotNull();
+            assertThat(articleToCreate.getId()).isEqualTo(actual.id());
+
+            verify(idempotencyTokenService).claim(eq(idempotencyTokenId), creationIdCaptor.capture());
+            assertThat(creationIdCaptor.getValue()).isEqualTo(CreationId.of(ArticleEntity.class, actual.id()));
+
+            verify(articleOutboxEventRepository).persist(argThat(event -> event.getArticleId().equals(actual.id())));
+        }
+
+        @Test
+        void shouldReturnPreviouslyCreatedArticleVersion_IfIdempotencyTokenIsClaimedAlready() {
+
+            // given
+            var articleTestDataBuilder = ArticleTestDataBuilder.anArticle();
+            var personTestDataBuilder = PersonTestDataBuilder.aPerson();
+
+            ArticleRequest articleToCreateRequest = articleTestDataBuilder.buildRequest();
+            ArticleEntity existingArticle = articleTestDataBuilder.build();
+            UUID articleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
+
+            UUID authorId = personTestDataBuilder.getId();
+            UUID idempotencyTokenValue = UUID.fromString("d95b3c07-91c0-4443-aaa0-beffb98f452a");
+            var idempotencyTokenId = IdempotencyTokenId.builder()
+                    .clientId(authorId)
+                    .idempotencyTokenValue(idempotencyTokenValue)
+                    .build();
+            var previousCreationId = CreationId.of(ArticleEntity.class, existingArticle.getId());
+
+            when(idempotencyTokenService.claim(any(), any()))
+                    .thenReturn(IdempotencyClaim.lost(previousCreationId));
+            when(articleRepository.findVersionById(any()))
+                    .thenReturn(Optional.of(existingArticle.getVersion()));
+
+            // when
+            ArticleIdAndVersion actual = createArticleActivities.saveInDatabase(
+                    articleToCreateRequest,
+                    idempotencyTokenId,
+                    articleId
+            );
+
+            // then
+            assertThat(actual).isEqualTo(new ArticleIdAndVersion(existingArticle.getId(), existingArticle.getVersion()));
+
+            verify(idempotencyTokenService).claim(eq(idempotencyTokenId), any());
+            verifyNoMoreInteractions(idempotencyTokenService);
+
+            verify(articleRepository).findVersionById(existingArticle.getId());
+            verifyNoMoreInteractions(articleRepository);
+
+            verifyNoInteractions(articleMapper);
+            verifyNoInteractions(articleOutboxEventRepository);
         }
 
         @Test
-        void shouldCheckIfIdempotencyTokenExists_andThrowIfExceptionIfDoesExist() {
+        void shouldThrowIdempotencyTokenExistsException_IfPreviouslyCreatedArticleIsDeleted() {
 
             // given
             var articleTestDataBuilder = ArticleTestDataBuilder.anArticle();
             var personTestDataBuilder = PersonTestDataBuilder.aPerson();
 
-            ArticleRequest articleToCreate = articleTestDataBuilder.buildRequest();
+            ArticleRequest articleToCreateRequest = articleTestDataBuilder.buildRequest();
+            UUID deletedArticleId = articleTestDataBuilder.getId();
+            UUID articleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
 
             UUID authorId = personTestDataBuilder.getId();
             UUID idempotencyTokenValue = UUID.fromString("d95b3c07-91c0-4443-aaa0-beffb98f452a");
@@ -133,20 +255,21 @@ class CreateArticleActivitiesImplTests {
                     .idempotencyTokenValue(idempotencyTokenValue)
                     .build();
 
-            IdempotencyTokenEntity existingToken = IdempotencyTokenEntity.builder().build();
-            when(idempotencyTokenService.findById(any())).thenReturn(Optional.of(existingToken));
+            when(idempotencyTokenService.claim(any(), any()))
+                    .thenReturn(IdempotencyClaim.lost(CreationId.of(ArticleEntity.class, deletedArticleId)));
+            when(articleRepository.findVersionById(any()))
+                    .thenReturn(Optional.empty());
 
             // when, then
             assertThatThrownBy(() -> createArticleActivities.saveInDatabase(
-                    articleToCreate,
-                    idempotencyTokenId
+                    articleToCreateRequest,
+                    idempotencyTokenId,
+                    articleId
             )).isInstanceOf(IdempotencyTokenExistsException.class);
 
+            verify(articleRepository).findVersionById(deletedArticleId);
+            verifyNoMoreInteractions(articleRepository);
 
-            verify(idempotencyTokenService).findById(idempotencyTokenId);
-            verifyNoMoreInteractions(idempotencyTokenService);
-
-            verifyNoInteractions(articleRepository);
             verifyNoInteractions(articleMapper);
         }
     }
@@ -155,27 +278,45 @@ class CreateArticleActivitiesImplTests {
     class sendSaveDocumentEvent {
 
         @Test
-        void shouldSendSaveDocumentEvent() {
+        void shouldSendSaveDocumentEvent_WithArticleLoadedFromDatabase() {
 
             // given
             ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
 
-            ArticleResponse articleResponse = articleBuilder.buildResponse();
+            ArticleEntity articleEntity = articleBuilder.build();
             ArticleDocument articleDocument = articleBuilder.buildDocument();
+            var article = new ArticleIdAndVersion(articleEntity.getId(), articleEntity.getVersion());
 
-            when(articleDocumentMapper.toDocument(any(ArticleResponse.class))).thenReturn(articleDocument);
-            doNothing().when(elasticsearchEventProducer).produce(any(), any());
+            when(articleRepository.findById(any())).thenReturn(Optional.of(articleEntity));
+            when(articleDocumentMapper.toDocument(any(ArticleEntity.class))).thenReturn(articleDocument);
 
             // when
-            createArticleActivities.sendSaveDocumentEvent(articleResponse);
+            createArticleActivities.sendSaveDocumentEvent(article);
 
             // then
-            verify(articleDocumentMapper).toDocument(articleResponse);
+            verify(articleRepository).findById(article.id());
+
+            verify(articleDocumentMapper).toDocument(articleEntity);
             verifyNoMoreInteractions(articleDocumentMapper);
 
             verify(elasticsearchEventProducer).produce(ArticleDocumentRequest.RequestType.UPSERT, articleDocument);
             verifyNoMoreInteractions(elasticsearchEventProducer);
         }
 
+        @Test
+        void shouldNotSendSaveDocumentEvent_IfArticleIsDeleted() {
+
+            // given
+            UUID articleId = ArticleTestDataBuilder.anArticle().getId();
+
+            when(articleRepository.findById(any())).thenReturn(Optional.empty());
+
+            // when
+            createArticleActivities.sendSaveDocumentEvent(new ArticleIdAndVersion(articleId, (short) 0));
+
+            // then
+            verifyNoInteractions(elasticsearchEventProducer);
+        }
+
     }
 }
@@ -4,9 +4,11 @@ import by.sakuuj.articles.article.ArticleTestDataBuilder;
 import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
 import by.sakuuj.articles.article.exception.EntityNotFoundException;
 import by.sakuuj.articles.article.producer.ElasticsearchEventProducer;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
 import by.sakuuj.articles.service.IdempotencyTokenService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +23,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
@@ -40,6 +44,9 @@ public class DeleteArticleActivitiesImplTests {
     @Mock
     private IdempotencyTokenService idempotencyTokenService;
 
+    @Mock
+    private ArticleOutboxEventRepository articleOutboxEventRepository;
+
     @InjectMocks
     private DeleteArticleActivitiesImpl deleteArticleActivities;
 
@@ -68,7 +75,8 @@ public class DeleteArticleActivitiesImplTests {
             // then
             InOrder inOrder = inOrder(
                     articleRepository,
-                    idempotencyTokenService
+                    idempotencyTokenService,
+                    articleOutboxEventRepository
             );
 
             inOrder.verify(articleRepository).findById(idToDeleteBy);
@@ -76,6 +84,10 @@ public class DeleteArticleActivitiesImplTests {
 
             CreationId expectedCreationId = CreationId.of(ArticleEntity.class, idToDeleteBy);
             inOrder.verify(idempotencyTokenService).deleteByCreationId(expectedCreationId);
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(idToDeleteBy)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.DELETE
+            ));
 
             inOrder.verifyNoMoreInteractions();
         }
@@ -97,6 +109,7 @@ public class DeleteArticleActivitiesImplTests {
             verifyNoMoreInteractions(articleRepository);
 
             verifyNoInteractions(idempotencyTokenService);
+            verifyNoInteractions(articleOutboxEventRepository);
         }
     }
 
@@ -109,13 +122,14 @@ public class DeleteArticleActivitiesImplTests {
             // given
             UUID id = ArticleTestDataBuilder.anArticle().getId();
 
-            doNothing().when(elasticsearchEventProducer).produce(any(), any());
-
             // when
             deleteArticleActivities.sendDeleteDocumentEvent(id);
 
             // then
-            verify(elasticsearchEventProducer).produce(ArticleDocumentRequest.RequestType.DELETE, null);
+            verify(elasticsearchEventProducer).produce(
+                    eq(ArticleDocumentRequest.RequestType.DELETE),
+                    argThat(doc -> doc.getId().equals(id))
+            );
         }
     }
 }
@@ -2,8 +2,8 @@ package by.sakuuj.articles.article.orchestration.activities;
 
 import by.sakuuj.articles.article.ArticleTestDataBuilder;
 import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
 import by.sakuuj.articles.article.dto.ArticleRequest;
-import by.sakuuj.articles.article.dto.ArticleResponse;
 import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
 import by.sakuuj.articles.article.exception.EntityNotFoundException;
 import by.sakuuj.articles.article.exception.EntityVersionDoesNotMatch;
@@ -11,8 +11,10 @@ import by.sakuuj.articles.article.mapper.elasticsearch.ArticleDocumentMapper;
 import by.sakuuj.articles.article.mapper.jpa.ArticleMapper;
 import by.sakuuj.articles.article.orchestration.activities.UpdateArticleActivitiesImpl;
 import by.sakuuj.articles.article.producer.ElasticsearchEventProducer;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -29,8 +31,10 @@ import org.springframework.transaction.support.TransactionTemplate;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
@@ -70,6 +74,9 @@ public class UpdateArticleActivitiesImplTests {
     @Mock
     private ArticleRepository articleRepository;
 
+    @Mock
+    private ArticleOutboxEventRepository articleOutboxEventRepository;
+
     @InjectMocks
     private UpdateArticleActivitiesImpl updateArticleActivities;
 
@@ -83,7 +90,6 @@ public class UpdateArticleActivitiesImplTests {
             ArticleTestDataBuilder testDataBuilder = ArticleTestDataBuilder.anArticle();
 
             ArticleRequest articleRequest = testDataBuilder.buildRequest();
-            ArticleResponse expectedResponse = testDataBuilder.buildResponse();
 
             ArticleEntity oldArticleEntity = testDataBuilder
                     .withContent("old content")
@@ -96,21 +102,26 @@ public class UpdateArticleActivitiesImplTests {
 
             when(articleRepository.findById(any())).thenReturn(Optional.of(oldArticleEntity));
             doNothing().when(articleMapper).updateEntity(any(), any());
-            when(articleMapper.toResponse(any())).thenReturn(expectedResponse);
 
             // when
-            updateArticleActivities.updateByIdInDatabase(articleRequest, articleId, version);
+            ArticleIdAndVersion actual = updateArticleActivities.updateByIdInDatabase(articleRequest, articleId, version);
 
             // then
+            assertThat(actual).isEqualTo(new ArticleIdAndVersion(articleId, oldArticleEntity.getVersion()));
+
             InOrder inOrder = inOrder(
                     articleRepository,
-                    articleMapper
+                    articleMapper,
+                    articleOutboxEventRepository
             );
 
             inOrder.verify(articleRepository).findById(articleId);
 
             inOrder.verify(articleMapper).updateEntity(oldArticleEntity, articleRequest);
-            inOrder.verify(articleMapper).toResponse(oldArticleEntity);
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(articleId)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT
+            ));
 
             inOrder.verifyNoMoreInteractions();
         }
@@ -173,22 +184,25 @@ public class UpdateArticleActivitiesImplTests {
     class sendUpdateDocumentEvent {
 
         @Test
-        void shouldSendUpdateDocumentEvent() {
+        void shouldSendUpdateDocumentEvent_WithArticleLoadedFromDatabase() {
 
             // given
             ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
 
-            ArticleResponse articleResponse = articleBuilder.buildResponse();
+            ArticleEntity articleEntity = articleBuilder.build();
             ArticleDocument articleDocument = articleBuilder.buildDocument();
+            var article = new ArticleIdAndVersion(articleEntity.getId(), articleEntity.getVersion());
 
-            when(articleDocumentMapper.toDocument(any(ArticleResponse.class))).thenReturn(articleDocument);
-            doNothing().when(elasticsearchEventProducer).produce(any(), any());
+            when(articleRepository.findById(any())).thenReturn(Optional.of(articleEntity));
+            when(articleDocumentMapper.toDocument(any(ArticleEntity.class))).thenReturn(articleDocument);
 
             // when
-            updateArticleActivities.sendUpdateDocumentEvent(articleResponse);
+            updateArticleActivities.sendUpdateDocumentEvent(article);
 
             // then
-            verify(articleDocumentMapper).toDocument(articleResponse);
+            verify(articleRepository).findById(article.id());
+
+            verify(articleDocumentMapper).toDocument(articleEntity);
             verifyNoMoreInteractions(articleDocumentMapper);
 
             verify(elasticsearchEventProducer).produce(ArticleDocumentRequest.RequestType.UPSERT, articleDocument);
@@ -0,0 +1,112 @@
+package by.sakuuj.articles.article.orchestration.codec;
+
+import com.google.protobuf.ByteString;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.temporal.api.common.v1.Payload;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressingPayloadCodecTests {
+
+    private static final int THRESHOLD_IN_BYTES = 1024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CompressingPayloadCodec payloadCodec = new CompressingPayloadCodec(THRESHOLD_IN_BYTES, meterRegistry);
+
+    @Nested
+    class encode_List {
+
+        @Test
+        void shouldCompress_PayloadsNotSmallerThanThreshold() {
+
+            // given
+            Payload large = jsonPayload("a".repeat(50_000));
+
+            // when
+            Payload actual = payloadCodec.encode(List.of(large)).getFirst();
+
+            // then
+            assertThat(actual.getSerializedSize()).isLessThan(large.getSerializedSize() / 10);
+            assertThat(actual.getMetadataOrThrow("encoding").toStringUtf8()).isEqualTo("binary/zlib");
+
+            assertThat(sizeSummary("before_encoding").totalAmount()).isEqualTo(large.getSerializedSize());
+            assertThat(sizeSummary("after_encoding").totalAmount()).isEqualTo(actual.getSerializedSize());
+        }
+
+        @Test
+        void shouldNotCompress_PayloadsSmallerThanThreshold() {
+
+            // given
+            Payload small = jsonPayload("a".repeat(100));
+
+            // when
+            List<Payload> actual = payloadCodec.encode(List.of(small));
+
+            // then
+            assertThat(actual).containsExactly(small);
+
+            assertThat(sizeSummary("after_encoding").totalAmount()).isEqualTo(small.getSerializedSize());
+        }
+
+        @Test
+        void shouldNotCompress_PayloadsThatDoNotShrink() {
+
+            // given
+            byte[] randomBytes = new byte[10_000];
+            new Random(42).nextBytes(randomBytes);
+
+            Payload incompressible = Payload.newBuilder()
+                    .putMetadata("encoding", ByteString.copyFromUtf8("binary/plain"))
+                    .setData(ByteString.copyFrom(randomBytes))
+                    .build();
+
+            // when
+            List<Payload> actual = payloadCodec.encode(List.of(incompressible));
+
+            // then
+            assertThat(actual).containsExactly(incompressible);
+        }
+    }
+
+    @Nested
+    class decode_List {
+
+        @Test
+        void shouldRestoreEncodedPayloads_AndPassOthersAsTheyAre() {
+
+            // given
+            Payload large = jsonPayload("b".repeat(50_000));
+            Payload small = jsonPayload("c");
+
+            List<Payload> encoded = payloadCodec.encode(List.of(large, small));
+
+            // when
+            List<Payload> actual = payloadCodec.decode(encoded);
+
+            // then
+            assertThat(actual).containsExactly(large, small);
+        }
+    }
+
+    private DistributionSummary sizeSummary(String stage) {
+
+        return meterRegistry.get("temporal.payload.size")
+                .tag("stage", stage)
+                .summary();
+    }
+
+    private static Payload jsonPayload(String value) {
+
+        return Payload.newBuilder()
+                .putMetadata("encoding", ByteString.copyFromUtf8("json/plain"))
+                .setData(ByteString.copyFromUtf8("\"" + value + "\""))
+                .build();
+    }
+}
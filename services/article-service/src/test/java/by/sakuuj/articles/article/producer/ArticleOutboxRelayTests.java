@@ -0,0 +1,229 @@
+package by.sakuuj.articles.article.producer;
+
+import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
+import by.sakuuj.articles.article.mapper.elasticsearch.ArticleDocumentMapper;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
+import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleOutboxStats;
+import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleOutboxRelayTests {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private ArticleOutboxEventRepository articleOutboxEventRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleDocumentMapper articleDocumentMapper;
+
+    @Mock
+    private ElasticsearchEventProducer elasticsearchEventProducer;
+
+    @Mock
+    private TransactionTemplate txTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ArticleOutboxRelay articleOutboxRelay;
+
+    @BeforeEach
+    void createRelay() {
+
+        TransactionStatus txStatus = Mockito.mock(TransactionStatus.class);
+
+        lenient().doAnswer(invocation ->
+                {
+                    TransactionCallback<?> argument = invocation.getArgument(0, TransactionCallback.class);
+                    return argument.doInTransaction(txStatus);
+                })
+                .when(txTemplate).execute(any());
+
+        articleOutboxRelay = new ArticleOutboxRelay(
+                articleOutboxEventRepository,
+                articleRepository,
+                articleDocumentMapper,
+                elasticsearchEventProducer,
+                txTemplate,
+                meterRegistry,
+                BATCH_SIZE
+        );
+    }
+
+    @Nested
+    class publishBatch {
+
+        @Test
+        void shouldPublishClaimedEvents_AndThenDeleteThem() {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+            ArticleEntity upsertedArticle = articleBuilder.build();
+            ArticleDocument upsertedDocument = articleBuilder.buildDocument();
+
+            UUID deletedArticleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
+
+            List<ArticleOutboxEventEntity> events = List.of(
+                    event(1L, upsertedArticle.getId(), ArticleOutboxEventEntity.EventType.UPSERT),
+                    event(2L, deletedArticleId, ArticleOutboxEventEntity.EventType.DELETE)
+            );
+
+            when(articleOutboxEventRepository.claimOldest(anyInt())).thenReturn(events);
+            when(articleRepository.findAllByIdsInOrder(any())).thenReturn(List.of(upsertedArticle));
+            when(articleDocumentMapper.toDocument(any(ArticleEntity.class))).thenReturn(upsertedDocument);
+            when(elasticsearchEventProducer.produce(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+            // when
+            int actual = articleOutboxRelay.publishBatch();
+
+            // then
+            assertThat(actual).isEqualTo(2);
+
+            verify(articleOutboxEventRepository).claimOldest(BATCH_SIZE);
+            verify(articleRepository).findAllByIdsInOrder(List.of(upsertedArticle.getId()));
+
+            verify(elasticsearchEventProducer).produce(ArticleDocumentRequest.RequestType.UPSERT, upsertedDocument);
+            verify(elasticsearchEventProducer).produce(
+                    ArticleDocumentRequest.RequestType.DELETE,
+                    ArticleDocument.builder().id(deletedArticleId).build()
+            );
+            verifyNoMoreInteractions(elasticsearchEventProducer);
+
+            verify(articleOutboxEventRepository).deleteAllByIds(List.of(1L, 2L));
+
+            assertThat(meterRegistry.get("articles.outbox.published").counter().count()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldNotPublishUpsert_OfArticleDeletedSince() {
+
+            // given
+            UUID articleId = ArticleTestDataBuilder.anArticle().getId();
+
+            when(articleOutboxEventRepository.claimOldest(anyInt()))
+                    .thenReturn(List.of(event(1L, articleId, ArticleOutboxEventEntity.EventType.UPSERT)));
+            when(articleRepository.findAllByIdsInOrder(any())).thenReturn(List.of());
+
+            // when
+            int actual = articleOutboxRelay.publishBatch();
+
+            // then
+            assertThat(actual).isEqualTo(1);
+
+            verifyNoMoreInteractions(elasticsearchEventProducer);
+            verify(articleOutboxEventRepository).deleteAllByIds(List.of(1L));
+        }
+
+        @Test
+        void shouldNotDeleteEvents_IfPublishingFails() {
+
+            // given
+            UUID articleId = ArticleTestDataBuilder.anArticle().getId();
+
+            when(articleOutboxEventRepository.claimOldest(anyInt()))
+                    .thenReturn(List.of(event(1L, articleId, ArticleOutboxEventEntity.EventType.DELETE)));
+            when(articleRepository.findAllByIdsInOrder(any())).thenReturn(List.of());
+            when(elasticsearchEventProducer.produce(any(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("ERROR")));
+
+            // when, then
+            assertThatThrownBy(() -> articleOutboxRelay.publishBatch())
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+
+            verify(articleOutboxEventRepository, never()).deleteAllByIds(any());
+        }
+
+        @Test
+        void shouldReturnZero_WhenNothingToPublish() {
+
+            // given
+            when(articleOutboxEventRepository.claimOldest(anyInt())).thenReturn(List.of());
+
+            // when
+            int actual = articleOutboxRelay.publishBatch();
+
+            // then
+            assertThat(actual).isZero();
+
+            verify(articleOutboxEventRepository).claimOldest(BATCH_SIZE);
+            verifyNoMoreInteractions(articleOutboxEventRepository, articleRepository, elasticsearchEventProducer);
+        }
+    }
+
+    @Nested
+    class refreshStats {
+
+        @Test
+        void shouldReportDepth_AndAgeOfOldestEvent() {
+
+            // given
+            LocalDateTime oldestCreatedAt = LocalDateTime.now(Clock.systemUTC()).minusSeconds(3);
+
+            when(articleOutboxEventRepository.findStats()).thenReturn(new ArticleOutboxStats(42, oldestCreatedAt));
+
+            // when
+            articleOutboxRelay.refreshStats();
+
+            // then
+            assertThat(meterRegistry.get("articles.outbox.depth").gauge().value()).isEqualTo(42);
+            assertThat(meterRegistry.get("articles.outbox.oldest.age").gauge().value()).isGreaterThanOrEqualTo(3_000);
+        }
+
+        @Test
+        void shouldReportZeroAge_WhenOutboxIsEmpty() {
+
+            // given
+            when(articleOutboxEventRepository.findStats()).thenReturn(new ArticleOutboxStats(0, null));
+
+            // when
+            articleOutboxRelay.refreshStats();
+
+            // then
+            assertThat(meterRegistry.get("articles.outbox.depth").gauge().value()).isZero();
+            assertThat(meterRegistry.get("articles.outbox.oldest.age").gauge().value()).isZero();
+        }
+    }
+
+    private static ArticleOutboxEventEntity event(long id, UUID articleId, ArticleOutboxEventEntity.EventType eventType) {
+
+        return ArticleOutboxEventEntity.builder()
+                .id(id)
+                .articleId(articleId)
+                .eventType(eventType)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package by.sakuuj.articles.article.service;
+
+import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.AuthenticatedUserTestBuilder;
+import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleExportRow;
+import by.sakuuj.articles.article.service.authorization.ArticleServiceAuthorizer;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceImplTests {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleServiceAuthorizer articleServiceAuthorizer;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+
+    private ArticleExportServiceImpl articleExportServiceImpl;
+
+    @BeforeEach
+    void createService() {
+        articleExportServiceImpl = new ArticleExportServiceImpl(articleRepository, articleServiceAuthorizer, objectMapper);
+    }
+
+    @Nested
+    class authorizeExport_AuthenticatedUser {
+
+        @Test
+        void shouldAuthorizeExport() {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUserTestBuilder.newInstance().build();
+
+            // when
+            articleExportServiceImpl.authorizeExport(authenticatedUser);
+
+            // then
+            verify(articleServiceAuthorizer).authorizeExport(authenticatedUser);
+            verifyNoMoreInteractions(articleServiceAuthorizer);
+            verifyNoInteractions(articleRepository);
+        }
+    }
+
+    @Nested
+    class exportAllSortedByUpdatedAt_LocalDateTime_OutputStream {
+
+        @Test
+        void shouldWriteEveryRowOnItsOwnLine_AndCloseTheStream() throws Exception {
+
+            // given
+            LocalDateTime updatedSince = LocalDateTime.of(2013, 1, 1, 0, 0);
+
+            ArticleExportRow firstRow = ArticleTestDataBuilder.anArticle().buildExportRow();
+            ArticleExportRow secondRow = ArticleTestDataBuilder.anArticle()
+                    .withId(UUID.fromString("0b8e1a8c-59f7-4a43-a0c8-8d8bfc3f3a43"))
+                    .withTitle("Escape Analysis")
+                    .buildExportRow();
+
+            AtomicBoolean isStreamClosed = new AtomicBoolean();
+            Stream<ArticleExportRow> rows = Stream.of(firstRow, secondRow)
+                    .onClose(() -> isStreamClosed.set(true));
+
+            when(articleRepository.streamAllSortedByUpdatedAt(updatedSince, CompileTimeConstants.EXPORT_FETCH_SIZE))
+                    .thenReturn(rows);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // when
+            articleExportServiceImpl.exportAllSortedByUpdatedAt(updatedSince, outputStream);
+
+            // then
+            List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+            assertThat(lines).containsExactly(
+                    objectMapper.writeValueAsString(firstRow),
+                    objectMapper.writeValueAsString(secondRow)
+            );
+            assertThat(outputStream.toString(StandardCharsets.UTF_8)).endsWith("\n");
+            assertThat(objectMapper.readValue(lines.getFirst(), ArticleExportRow.class)).isEqualTo(firstRow);
+
+            assertThat(isStreamClosed).isTrue();
+
+            verify(articleRepository).streamAllSortedByUpdatedAt(updatedSince, CompileTimeConstants.EXPORT_FETCH_SIZE);
+            verifyNoMoreInteractions(articleRepository);
+            verifyNoInteractions(articleServiceAuthorizer);
+        }
+
+        @Test
+        void shouldWriteNothing_WhenThereAreNoRows() {
+
+            // given
+            when(articleRepository.streamAllSortedByUpdatedAt(null, CompileTimeConstants.EXPORT_FETCH_SIZE))
+                    .thenReturn(Stream.empty());
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // when
+            articleExportServiceImpl.exportAllSortedByUpdatedAt(null, outputStream);
+
+            // then
+            assertThat(outputStream.size()).isZero();
+        }
+    }
+}
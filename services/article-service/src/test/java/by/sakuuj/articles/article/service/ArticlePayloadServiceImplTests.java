@@ -0,0 +1,194 @@
+package by.sakuuj.articles.article.service;
+
+import by.sakuuj.articles.article.ArticleTestDataBuilder;
+import by.sakuuj.articles.article.PagingTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleResponse;
+import by.sakuuj.articles.article.dto.SerializedResponse;
+import by.sakuuj.articles.article.utils.CompileTimeConstants;
+import by.sakuuj.articles.article.utils.ETagUtils;
+import by.sakuuj.articles.paging.CursorPageView;
+import by.sakuuj.articles.paging.RequestedCursorPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticlePayloadServiceImplTests {
+
+    @Mock
+    private ArticleService articleService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ArticlePayloadServiceImpl articlePayloadServiceImpl;
+
+    @BeforeEach
+    void createService() {
+        articlePayloadServiceImpl = new ArticlePayloadServiceImpl(articleService, objectMapper);
+    }
+
+    @Nested
+    class findById_UUID {
+
+        @Test
+        void shouldSerializeFoundArticle_WithETagAndGzippedJson() throws IOException {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle()
+                    .withContent("long content ".repeat(100));
+
+            UUID id = articleBuilder.getId();
+            ArticleResponse foundArticle = articleBuilder.buildResponse();
+
+            when(articleService.findById(id)).thenReturn(Optional.of(foundArticle));
+
+            // when
+            Optional<SerializedResponse> actual = articlePayloadServiceImpl.findById(id);
+
+            // then
+            assertThat(actual).isPresent();
+
+            SerializedResponse serializedResponse = actual.get();
+            assertThat(serializedResponse.json()).isEqualTo(objectMapper.writeValueAsBytes(foundArticle));
+            assertThat(gunzip(serializedResponse.gzippedJson())).isEqualTo(serializedResponse.json());
+            assertThat(serializedResponse.eTag()).isEqualTo(ETagUtils.toETag(id, articleBuilder.getVersion()));
+
+            verify(articleService).findById(id);
+            verifyNoMoreInteractions(articleService);
+        }
+
+        @Test
+        void shouldNotFind_WhenArticleIsNotFound() {
+
+            // given
+            UUID id = ArticleTestDataBuilder.anArticle().getId();
+
+            when(articleService.findById(id)).thenReturn(Optional.empty());
+
+            // when
+            Optional<SerializedResponse> actual = articlePayloadServiceImpl.findById(id);
+
+            // then
+            assertThat(actual).isEmpty();
+        }
+    }
+
+    @Nested
+    class findById_UUID_Cached {
+
+        private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withUserConfiguration(CachingConfig.class)
+                .withBean(ArticlePayloadService.class, () -> new ArticlePayloadServiceImpl(articleService, objectMapper));
+
+        @Test
+        void shouldCacheFoundArticle() {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+            UUID id = articleBuilder.getId();
+
+            when(articleService.findById(id)).thenReturn(Optional.of(articleBuilder.buildResponse()));
+
+            contextRunner.run(context -> {
+
+                ArticlePayloadService cachedService = context.getBean(ArticlePayloadService.class);
+
+                // when
+                cachedService.findById(id);
+                Optional<SerializedResponse> actual = cachedService.findById(id);
+
+                // then
+                assertThat(actual).isPresent();
+                verify(articleService).findById(id);
+            });
+        }
+
+        @Test
+        void shouldNotCacheAbsentArticle() {
+
+            // given
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+            UUID id = articleBuilder.getId();
+
+            when(articleService.findById(id))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(articleBuilder.buildResponse()));
+
+            contextRunner.run(context -> {
+
+                ArticlePayloadService cachedService = context.getBean(ArticlePayloadService.class);
+
+                // when
+                Optional<SerializedResponse> absent = cachedService.findById(id);
+                Optional<SerializedResponse> actual = cachedService.findById(id);
+
+                // then
+                assertThat(absent).isEmpty();
+                assertThat(actual).isPresent();
+                verify(articleService, times(2)).findById(id);
+            });
+        }
+
+        @EnableCaching
+        @Configuration(proxyBeanMethods = false)
+        static class CachingConfig {
+
+            @Bean
+            CacheManager cacheManager() {
+                return new ConcurrentMapCacheManager(CompileTimeConstants.ARTICLE_PAYLOADS_CACHE_NAME);
+            }
+        }
+    }
+
+    @Nested
+    class findAllSortedByCreatedAtDesc_RequestedCursorPage {
+
+        @Test
+        void shouldSerializeFoundPage_WithoutGzip_WhenJsonIsSmall() throws IOException {
+
+            // given
+            RequestedCursorPage requestedPage = PagingTestDataBuilder.aPaging().aRequestedCursorPage(null);
+            CursorPageView<ArticleResponse> foundPage = CursorPageView.<ArticleResponse>empty()
+                    .withSize(requestedPage.size());
+
+            when(articleService.findAllSortedByCreatedAtDesc(requestedPage)).thenReturn(foundPage);
+
+            // when
+            SerializedResponse actual = articlePayloadServiceImpl.findAllSortedByCreatedAtDesc(requestedPage);
+
+            // then
+            assertThat(actual.json()).isEqualTo(objectMapper.writeValueAsBytes(foundPage));
+            assertThat(actual.gzippedJson()).isNull();
+            assertThat(actual.eTag()).isNull();
+        }
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+
+        try (var gzipStream = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return gzipStream.readAllBytes();
+        }
+    }
+}
@@ -3,21 +3,30 @@ package by.sakuuj.articles.article.service;
 import by.sakuuj.articles.article.ArticleTestDataBuilder;
 import by.sakuuj.articles.article.PagingTestDataBuilder;
 import by.sakuuj.articles.article.TopicTestDataBuilder;
+import by.sakuuj.articles.article.dto.ArticleIdAndVersion;
+import by.sakuuj.articles.article.dto.ArticleOperationResponse;
 import by.sakuuj.articles.article.dto.ArticleRequest;
 import by.sakuuj.articles.article.dto.ArticleResponse;
+import by.sakuuj.articles.article.dto.ArticleSummaryResponse;
 import by.sakuuj.articles.article.dto.TopicRequest;
 import by.sakuuj.articles.article.dto.validator.DtoValidator;
 import by.sakuuj.articles.article.mapper.elasticsearch.ArticleDocumentMapper;
 import by.sakuuj.articles.article.mapper.jpa.ArticleMapper;
 import by.sakuuj.articles.article.repository.elasticsearch.ArticleDocumentRepository;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
 import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
+import by.sakuuj.articles.article.repository.jpa.projection.ArticleSummary;
 import by.sakuuj.articles.article.repository.jpa.ArticleTopicRepository;
 import by.sakuuj.articles.article.service.authorization.ArticleServiceAuthorizer;
 import by.sakuuj.articles.article.orchestration.OrchestratedArticleService;
 import by.sakuuj.articles.entity.jpa.embeddable.ArticleTopicId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
+import by.sakuuj.articles.paging.CreatedAtIdCursor;
+import by.sakuuj.articles.paging.CursorPageView;
 import by.sakuuj.articles.paging.PageView;
+import by.sakuuj.articles.paging.RequestedCursorPage;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.service.IdempotencyTokenService;
 import by.sakuuj.articles.security.AuthenticatedUser;
@@ -35,17 +44,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
@@ -61,10 +82,16 @@ class ArticleServiceImplTests {
     @Mock
     private TransactionTemplate txTemplate;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     public void configureTxTemplate() {
 
         TransactionStatus txStatus = Mockito.mock(TransactionStatus.class);
+
+        lenient().when(txTemplate.getTransactionManager()).thenReturn(transactionManager);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(txStatus);
         lenient().doAnswer(invocation ->
                 {
                     TransactionCallback<?> argument = invocation.getArgument(0, TransactionCallback.class);
@@ -85,6 +112,9 @@ class ArticleServiceImplTests {
     @Mock
     private ArticleTopicRepository articleTopicRepository;
 
+    @Mock
+    private ArticleOutboxEventRepository articleOutboxEventRepository;
+
     @Mock
     private ArticleMapper articleMapper;
 
@@ -133,6 +163,9 @@ class ArticleServiceImplTests {
             verify(articleRepository).findById(idToFindBy);
             verifyNoMoreInteractions(articleRepository);
 
+            verify(txTemplate).execute(any());
+            verifyNoInteractions(transactionManager);
+
             verify(articleMapper).toResponse(expectedEntityFromRepo);
             verifyNoMoreInteractions(articleMapper);
 
@@ -175,8 +208,124 @@ class ArticleServiceImplTests {
                     articleDocumentRepository
             );
         }
+
+        @Test
+        void shouldLookUpOnce_WhenSameIdIsRequestedConcurrently() throws Exception {
+
+            // given
+            ArticleTestDataBuilder testDataBuilder = ArticleTestDataBuilder.anArticle();
+
+            UUID idToFindBy = testDataBuilder.getId();
+
+            CountDownLatch lookupStarted = new CountDownLatch(1);
+            CountDownLatch releaseLookup = new CountDownLatch(1);
+
+            when(articleRepository.findById(idToFindBy))
+                    .thenAnswer(invocation -> {
+                        lookupStarted.countDown();
+                        releaseLookup.await();
+                        return Optional.empty();
+                    });
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // when
+            try {
+                Future<Optional<ArticleResponse>> first = executor.submit(() -> articleServiceImpl.findById(idToFindBy));
+                lookupStarted.await();
+
+                Future<Optional<ArticleResponse>> second = executor.submit(() -> articleServiceImpl.findById(idToFindBy));
+                TimeUnit.MILLISECONDS.sleep(100);
+                releaseLookup.countDown();
+
+                // then
+                assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+
+            verify(articleRepository).findById(idToFindBy);
+            verifyNoMoreInteractions(articleRepository);
+        }
     }
 
+    @Nested
+    class findVersionById_UUID {
+
+        @Test
+        void shouldFindVersionInRepo() {
+
+            // given
+            ArticleTestDataBuilder testDataBuilder = ArticleTestDataBuilder.anArticle();
+
+            UUID idToFindBy = testDataBuilder.getId();
+            short expectedVersion = testDataBuilder.getVersion();
+
+            when(articleRepository.findVersionById(idToFindBy))
+                    .thenReturn(Optional.of(expectedVersion));
+
+            // when
+            Optional<Short> actual = articleServiceImpl.findVersionById(idToFindBy);
+
+            // then
+            assertThat(actual).contains(expectedVersion);
+
+            verify(articleRepository).findVersionById(idToFindBy);
+            verifyNoMoreInteractions(articleRepository);
+
+            verifyNoInteractions(
+                    articleMapper,
+                    articleServiceAuthorizer,
+                    dtoValidator,
+                    idempotencyTokenService,
+                    articleDocumentMapper,
+                    articleDocumentRepository
+            );
+        }
+    }
+
+    @Nested
+    class findAllByIdsInOrder_List$UUID$ {
+
+        @Test
+        void shouldLoadDistinctIds_ThenMapFound() {
+
+            // given
+            UUID firstId = UUID.fromString("4fb60217-fa21-4442-abab-3b9818b12437");
+            UUID notFoundId = UUID.fromString("be44813c-5f2a-4d6f-a300-ae6e50862825");
+
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle()
+                    .withId(firstId);
+
+            ArticleEntity foundArticle = articleBuilder.build();
+            ArticleResponse expectedResponse = articleBuilder.buildResponse();
+
+            when(articleRepository.findAllByIdsInOrder(anyList()))
+                    .thenReturn(List.of(foundArticle));
+            when(articleMapper.toResponse(foundArticle))
+                    .thenReturn(expectedResponse);
+
+            // when
+            List<ArticleResponse> actual = articleServiceImpl.findAllByIdsInOrder(List.of(firstId, notFoundId, firstId));
+
+            // then
+            assertThat(actual).containsExactly(expectedResponse);
+
+            verify(articleRepository).findAllByIdsInOrder(List.of(firstId, notFoundId));
+            verifyNoMoreInteractions(articleRepository);
+
+            verify(articleMapper).toResponse(foundArticle);
+            verifyNoMoreInteractions(articleMapper);
+
+            verifyNoInteractions(
+                    articleServiceAuthorizer,
+                    dtoValidator,
+                    idempotencyTokenService,
+                    articleDocumentMapper,
+                    articleDocumentRepository
+            );
+        }
+    }
 
     @Nested
     class findAllSortedByCreatedAtDesc_RequestedPage {
@@ -266,6 +415,95 @@ class ArticleServiceImplTests {
     }
 
 
+    @Nested
+    class findAllSortedByCreatedAtDesc_RequestedCursorPage {
+
+        @Test
+        void shouldRequestOneExtraArticle_AndReturnNextCursorOfTheLastOneInPage() {
+
+            // given
+            ArticleTestDataBuilder firstTestDataBuilder = ArticleTestDataBuilder.anArticle();
+            ArticleTestDataBuilder secondTestDataBuilder = ArticleTestDataBuilder.anArticle()
+                    .withId(UUID.fromString("1177cd58-6ab3-4d20-87f5-932c91ce1fbe"));
+
+            ArticleEntity firstArticle = firstTestDataBuilder.build();
+            ArticleEntity secondArticle = secondTestDataBuilder.build();
+
+            ArticleResponse firstResponse = firstTestDataBuilder.buildResponse();
+
+            RequestedCursorPage requestedPage = PagingTestDataBuilder.aPaging()
+                    .withPageSize(1)
+                    .aRequestedCursorPage(null);
+
+            when(articleRepository.findAllSortedByCreatedAtDesc(isNull(), anyInt()))
+                    .thenReturn(List.of(firstArticle, secondArticle));
+            when(articleMapper.toResponse(firstArticle))
+                    .thenReturn(firstResponse);
+
+            // when
+            CursorPageView<ArticleResponse> actual = articleServiceImpl.findAllSortedByCreatedAtDesc(requestedPage);
+
+            // then
+            assertThat(actual.content()).containsExactly(firstResponse);
+            assertThat(actual.size()).isEqualTo(requestedPage.size());
+
+            CreatedAtIdCursor expectedNextCursor = new CreatedAtIdCursor(
+                    firstArticle.getModificationAudit().getCreatedAt(),
+                    firstArticle.getId()
+            );
+            assertThat(CreatedAtIdCursor.decode(actual.nextCursor())).isEqualTo(expectedNextCursor);
+
+            verify(articleRepository).findAllSortedByCreatedAtDesc(null, requestedPage.size() + 1);
+            verifyNoMoreInteractions(articleRepository);
+
+            verify(articleMapper).toResponse(firstArticle);
+            verifyNoMoreInteractions(articleMapper);
+
+            verifyNoInteractions(
+                    articleServiceAuthorizer,
+                    dtoValidator,
+                    idempotencyTokenService,
+                    articleDocumentMapper,
+                    articleDocumentRepository
+            );
+        }
+
+        @Test
+        void shouldSeekAfterDecodedCursor_AndNotReturnNextCursor_WhenPageIsTheLastOne() {
+
+            // given
+            ArticleTestDataBuilder testDataBuilder = ArticleTestDataBuilder.anArticle();
+
+            ArticleEntity article = testDataBuilder.build();
+            ArticleResponse response = testDataBuilder.buildResponse();
+
+            CreatedAtIdCursor after = new CreatedAtIdCursor(
+                    testDataBuilder.getModificationAudit().getUpdatedAt(),
+                    UUID.fromString("4fb60217-fa21-4442-abab-3b9818b12437")
+            );
+
+            RequestedCursorPage requestedPage = PagingTestDataBuilder.aPaging()
+                    .aRequestedCursorPage(after.encode());
+
+            when(articleRepository.findAllSortedByCreatedAtDesc(any(CreatedAtIdCursor.class), anyInt()))
+                    .thenReturn(List.of(article));
+            when(articleMapper.toResponse(article))
+                    .thenReturn(response);
+
+            // when
+            CursorPageView<ArticleResponse> actual = articleServiceImpl.findAllSortedByCreatedAtDesc(requestedPage);
+
+            // then
+            assertThat(actual.content()).containsExactly(response);
+            assertThat(actual.size()).isEqualTo(requestedPage.size());
+            assertThat(actual.nextCursor()).isNull();
+
+            verify(articleRepository).findAllSortedByCreatedAtDesc(after, requestedPage.size() + 1);
+            verifyNoMoreInteractions(articleRepository);
+        }
+    }
+
+
     @Nested
     class findAllByTopicsSortedByCreatedAtDesc_List$TopicRequest$_RequestedPage {
 
@@ -366,6 +604,123 @@ class ArticleServiceImplTests {
     }
 
 
+    @Nested
+    class findAllByTopicsSortedByCreatedAtDesc_List$TopicRequest$_RequestedCursorPage {
+
+        @Test
+        void shouldSeekInRepoByDistinctTopicNames_ThenMap() {
+
+            // given
+            ArticleTestDataBuilder testDataBuilder = ArticleTestDataBuilder.anArticle();
+
+            ArticleEntity article = testDataBuilder.build();
+            ArticleResponse response = testDataBuilder.buildResponse();
+
+            List<TopicRequest> topics = testDataBuilder.getTopicRequests();
+            List<TopicRequest> duplicatedTopics = new ArrayList<>(topics);
+            duplicatedTopics.addAll(topics);
+            List<String> topicNames = testDataBuilder.getTopicNames();
+
+            CreatedAtIdCursor after = new CreatedAtIdCursor(
+                    testDataBuilder.getModificationAudit().getUpdatedAt(),
+                    UUID.fromString("4fb60217-fa21-4442-abab-3b9818b12437")
+            );
+
+            RequestedCursorPage requestedPage = PagingTestDataBuilder.aPaging()
+                    .aRequestedCursorPage(after.encode());
+
+            when(articleRepository.findAllByTopicsSortedByCreatedAtDesc(anyList(), any(CreatedAtIdCursor.class), anyInt()))
+                    .thenReturn(List.of(article));
+            when(articleMapper.toResponse(article))
+                    .thenReturn(response);
+
+            // when
+            CursorPageView<ArticleResponse> actual = articleServiceImpl.findAllByTopicsSortedByCreatedAtDesc(
+                    duplicatedTopics,
+                    requestedPage
+            );
+
+            // then
+            assertThat(actual.content()).containsExactly(response);
+            assertThat(actual.size()).isEqualTo(requestedPage.size());
+            assertThat(actual.nextCursor()).isNull();
+
+            verify(articleRepository).findAllByTopicsSortedByCreatedAtDesc(topicNames, after, requestedPage.size() + 1);
+            verifyNoMoreInteractions(articleRepository);
+
+            verify(articleMapper).toResponse(article);
+            verifyNoMoreInteractions(articleMapper);
+
+            verifyNoInteractions(
+                    articleServiceAuthorizer,
+                    dtoValidator,
+                    idempotencyTokenService,
+                    articleDocumentMapper,
+                    articleDocumentRepository
+            );
+        }
+    }
+
+    @Nested
+    class findSummariesSortedByCreatedAtDesc_RequestedCursorPage {
+
+        @Test
+        void shouldFindSummariesInRepo_ThenMap() {
+
+            // given
+            ArticleTestDataBuilder testDataBuilder = ArticleTestDataBuilder.anArticle();
+            ArticleSummary firstSummary = ArticleSummary.builder()
+                    .id(testDataBuilder.getId())
+                    .title(testDataBuilder.getTitle())
+                    .createdAt(testDataBuilder.getModificationAudit().getCreatedAt())
+                    .build();
+            ArticleSummary secondSummary = ArticleSummary.builder()
+                    .id(UUID.fromString("1177cd58-6ab3-4d20-87f5-932c91ce1fbe"))
+                    .title(testDataBuilder.getTitle())
+                    .createdAt(testDataBuilder.getModificationAudit().getCreatedAt())
+                    .build();
+
+            ArticleSummaryResponse firstResponse = ArticleSummaryResponse.builder()
+                    .id(firstSummary.id())
+                    .title(firstSummary.title())
+                    .build();
+
+            RequestedCursorPage requestedPage = PagingTestDataBuilder.aPaging()
+                    .withPageSize(1)
+                    .aRequestedCursorPage(null);
+
+            when(articleRepository.findSummariesSortedByCreatedAtDesc(isNull(), anyInt()))
+                    .thenReturn(List.of(firstSummary, secondSummary));
+            when(articleMapper.toSummaryResponse(firstSummary))
+                    .thenReturn(firstResponse);
+
+            // when
+            CursorPageView<ArticleSummaryResponse> actual = articleServiceImpl
+                    .findSummariesSortedByCreatedAtDesc(requestedPage);
+
+            // then
+            assertThat(actual.content()).containsExactly(firstResponse);
+            assertThat(actual.size()).isEqualTo(requestedPage.size());
+
+            CreatedAtIdCursor expectedNextCursor = new CreatedAtIdCursor(firstSummary.createdAt(), firstSummary.id());
+            assertThat(CreatedAtIdCursor.decode(actual.nextCursor())).isEqualTo(expectedNextCursor);
+
+            verify(articleRepository).findSummariesSortedByCreatedAtDesc(null, requestedPage.size() + 1);
+            verifyNoMoreInteractions(articleRepository);
+
+            verify(articleMapper).toSummaryResponse(firstSummary);
+            verifyNoMoreInteractions(articleMapper);
+
+            verifyNoInteractions(
+                    articleServiceAuthorizer,
+                    dtoValidator,
+                    idempotencyTokenService,
+                    articleDocumentMapper,
+                    articleDocumentRepository
+            );
+        }
+    }
+
     @Nested
     class findAllBySearchTermsSortedByRelevance_String_RequestedPage {
 
@@ -424,8 +779,9 @@ class ArticleServiceImplTests {
             verify(articleDocumentRepository).findIdsOfDocsSortedByRelevance(searchTerms, pageable);
             verifyNoMoreInteractions(articleRepository);
 
-            verify(txTemplate).execute(any());
-            verifyNoMoreInteractions(txTemplate);
+            verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+            verify(transactionManager).commit(any());
+            verifyNoMoreInteractions(transactionManager);
 
             verify(articleRepository).findAllByIdsInOrder(List.of(firstId, secondId));
             verifyNoMoreInteractions(articleRepository);
@@ -480,6 +836,46 @@ class ArticleServiceImplTests {
                     articleDocumentMapper
             );
         }
+
+        @Test
+        void shouldSearchOnce_WhenSameSearchIsRequestedConcurrently() throws Exception {
+
+            // given
+            PagingTestDataBuilder pagingBuilder = PagingTestDataBuilder.aPaging();
+            RequestedPage requestedPage = pagingBuilder.aRequestedPage();
+
+            CountDownLatch searchStarted = new CountDownLatch(1);
+            CountDownLatch releaseSearch = new CountDownLatch(1);
+
+            when(articleDocumentRepository.findIdsOfDocsSortedByRelevance(any(), any()))
+                    .thenAnswer(invocation -> {
+                        searchStarted.countDown();
+                        releaseSearch.await();
+                        return PageView.<UUID>empty().withNumberAndSize(requestedPage);
+                    });
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // when
+            try {
+                Future<PageView<ArticleResponse>> first = executor.submit(() -> articleServiceImpl
+                        .findAllBySearchTermsSortedByRelevance("some search terms", requestedPage));
+                searchStarted.await();
+
+                Future<PageView<ArticleResponse>> second = executor.submit(() -> articleServiceImpl
+                        .findAllBySearchTermsSortedByRelevance("  Some   SEARCH terms ", requestedPage));
+                TimeUnit.MILLISECONDS.sleep(100);
+                releaseSearch.countDown();
+
+                // then
+                assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+
+            verify(articleDocumentRepository).findIdsOfDocsSortedByRelevance(any(), any());
+            verifyNoMoreInteractions(articleDocumentRepository);
+        }
     }
 
     @Nested
@@ -513,18 +909,28 @@ class ArticleServiceImplTests {
             // then
             InOrder inOrder = inOrder(
                     articleServiceAuthorizer,
-                    articleTopicRepository
+                    articleRepository,
+                    articleTopicRepository,
+                    articleOutboxEventRepository
             );
 
             inOrder.verify(articleServiceAuthorizer).authorizeAddTopic(articleId, authenticatedUser);
             verifyNoMoreInteractions(articleServiceAuthorizer);
 
+            inOrder.verify(articleRepository).findByIdForcingVersionIncrement(articleId);
+            verifyNoMoreInteractions(articleRepository);
+
             inOrder.verify(articleTopicRepository).save(articleTopicId);
             verifyNoMoreInteractions(articleTopicRepository);
 
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(articleId)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT
+            ));
+            verifyNoMoreInteractions(articleOutboxEventRepository);
+
             verifyNoInteractions(
                     articleMapper,
-                    articleRepository,
                     dtoValidator,
                     idempotencyTokenService,
                     articleDocumentMapper,
@@ -563,18 +969,28 @@ class ArticleServiceImplTests {
             // then
             InOrder inOrder = inOrder(
                     articleServiceAuthorizer,
-                    articleTopicRepository
+                    articleRepository,
+                    articleTopicRepository,
+                    articleOutboxEventRepository
             );
 
             inOrder.verify(articleServiceAuthorizer).authorizeAddTopic(articleId, authenticatedUser);
             verifyNoMoreInteractions(articleServiceAuthorizer);
 
+            inOrder.verify(articleRepository).findByIdForcingVersionIncrement(articleId);
+            verifyNoMoreInteractions(articleRepository);
+
             inOrder.verify(articleTopicRepository).removeById(articleTopicId);
             verifyNoMoreInteractions(articleTopicRepository);
 
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(articleId)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT
+            ));
+            verifyNoMoreInteractions(articleOutboxEventRepository);
+
             verifyNoInteractions(
                     articleMapper,
-                    articleRepository,
                     dtoValidator,
                     idempotencyTokenService,
                     articleDocumentMapper,
@@ -594,7 +1010,7 @@ class ArticleServiceImplTests {
 
             ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
             ArticleRequest request = articleBuilder.buildRequest();
-            ArticleResponse response = articleBuilder.buildResponse();
+            var response = new ArticleIdAndVersion(articleBuilder.getId(), articleBuilder.getVersion());
 
             UUID idempotencyTokenValue = UUID.fromString("873fcef0-a83a-4637-91df-21ea5f4c8a62");
 
@@ -603,7 +1019,7 @@ class ArticleServiceImplTests {
                     .clientId(authenticatedUser.id())
                     .build();
 
-            when(orchestratedArticleService.create(any(), any()))
+            when(orchestratedArticleService.create(any(), any(), any()))
                     .thenReturn(response);
 
             // when
@@ -619,7 +1035,51 @@ class ArticleServiceImplTests {
             );
             inOrder.verify(articleServiceAuthorizer).authorizeCreate(authenticatedUser);
             inOrder.verify(dtoValidator).validate(request);
-            inOrder.verify(orchestratedArticleService).create(request, expectedIdempotencyTokenId);
+            inOrder.verify(orchestratedArticleService).create(eq(request), eq(expectedIdempotencyTokenId), any());
+            inOrder.verifyNoMoreInteractions();
+        }
+    }
+
+    @Nested
+    class startCreate_ArticleRequest_UUID_AuthenticatedUser {
+
+        @Test
+        void shouldStartCreation_WithNewArticleId() {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUser.builder().build();
+
+            ArticleRequest request = ArticleTestDataBuilder.anArticle().buildRequest();
+
+            UUID idempotencyTokenValue = UUID.fromString("873fcef0-a83a-4637-91df-21ea5f4c8a62");
+
+            IdempotencyTokenId expectedIdempotencyTokenId = IdempotencyTokenId.builder()
+                    .idempotencyTokenValue(idempotencyTokenValue)
+                    .clientId(authenticatedUser.id())
+                    .build();
+
+            when(orchestratedArticleService.startCreate(any(), any(), any()))
+                    .thenAnswer(invocation -> ArticleOperationResponse.builder()
+                            .id("article-create-" + invocation.getArgument(2))
+                            .status(ArticleOperationResponse.Status.RUNNING)
+                            .articleId(invocation.getArgument(2))
+                            .build());
+
+            // when
+            ArticleOperationResponse actual = articleServiceImpl.startCreate(request, idempotencyTokenValue, authenticatedUser);
+
+            // then
+            assertThat(actual.status()).isEqualTo(ArticleOperationResponse.Status.RUNNING);
+            assertThat(actual.articleId()).isNotNull();
+
+            InOrder inOrder = inOrder(
+                    articleServiceAuthorizer,
+                    dtoValidator,
+                    orchestratedArticleService
+            );
+            inOrder.verify(articleServiceAuthorizer).authorizeCreate(authenticatedUser);
+            inOrder.verify(dtoValidator).validate(request);
+            inOrder.verify(orchestratedArticleService).startCreate(request, expectedIdempotencyTokenId, actual.articleId());
             inOrder.verifyNoMoreInteractions();
         }
     }
@@ -665,7 +1125,7 @@ class ArticleServiceImplTests {
 
             short version = articleBuilder.getVersion();
             ArticleRequest request = articleBuilder.buildRequest();
-            ArticleResponse response = articleBuilder.buildResponse();
+            var response = new ArticleIdAndVersion(idToUpdateBy, version);
 
             when(orchestratedArticleService.updateById(request, idToUpdateBy, version))
                     .thenReturn(response);
@@ -685,4 +1145,80 @@ class ArticleServiceImplTests {
             inOrder.verifyNoMoreInteractions();
         }
     }
+
+    @Nested
+    class startUpdateById_UUID_ArticleRequest_short_AuthenticatedUser {
+
+        @Test
+        void shouldStartUpdate() {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUser.builder()
+                    .id(UUID.fromString("5d6a3b2e-0f4c-4f1e-9a8b-7c6d5e4f3a2b"))
+                    .build();
+
+            UUID idToUpdateBy = UUID.fromString("1f46ba93-f4b1-4762-a3dc-e48356945d34");
+
+            ArticleTestDataBuilder articleBuilder = ArticleTestDataBuilder.anArticle();
+
+            short version = articleBuilder.getVersion();
+            ArticleRequest request = articleBuilder.buildRequest();
+            ArticleOperationResponse expected = ArticleOperationResponse.builder()
+                    .id("article-update-1f46ba93-f4b1-4762-a3dc-e48356945d34-0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d")
+                    .status(ArticleOperationResponse.Status.RUNNING)
+                    .articleId(idToUpdateBy)
+                    .build();
+
+            when(orchestratedArticleService.startUpdateById(request, idToUpdateBy, version, authenticatedUser.id()))
+                    .thenReturn(expected);
+
+            // when
+            ArticleOperationResponse actual = articleServiceImpl.startUpdateById(idToUpdateBy, request, version, authenticatedUser);
+
+            // then
+            assertThat(actual).isEqualTo(expected);
+
+            InOrder inOrder = inOrder(
+                    articleServiceAuthorizer,
+                    dtoValidator,
+                    orchestratedArticleService
+            );
+            inOrder.verify(articleServiceAuthorizer).authorizeUpdateById(idToUpdateBy, authenticatedUser);
+            inOrder.verify(dtoValidator).validate(request);
+            inOrder.verify(orchestratedArticleService).startUpdateById(request, idToUpdateBy, version, authenticatedUser.id());
+            inOrder.verifyNoMoreInteractions();
+        }
+    }
+
+    @Nested
+    class findOperationById_String_AuthenticatedUser {
+
+        @Test
+        void shouldFindOperationStartedByAuthenticatedUser() {
+
+            // given
+            AuthenticatedUser authenticatedUser = AuthenticatedUser.builder()
+                    .id(UUID.fromString("5d6a3b2e-0f4c-4f1e-9a8b-7c6d5e4f3a2b"))
+                    .build();
+
+            String operationId = "article-create-0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d";
+            ArticleOperationResponse expected = ArticleOperationResponse.builder()
+                    .id(operationId)
+                    .status(ArticleOperationResponse.Status.COMPLETED)
+                    .articleId(UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d"))
+                    .build();
+
+            when(orchestratedArticleService.findOperationById(operationId, authenticatedUser.id()))
+                    .thenReturn(Optional.of(expected));
+
+            // when
+            Optional<ArticleOperationResponse> actual = articleServiceImpl.findOperationById(operationId, authenticatedUser);
+
+            // then
+            assertThat(actual).contains(expected);
+
+            verify(orchestratedArticleService).findOperationById(operationId, authenticatedUser.id());
+            verifyNoMoreInteractions(orchestratedArticleService);
+        }
+    }
 }
\ No newline at end of file
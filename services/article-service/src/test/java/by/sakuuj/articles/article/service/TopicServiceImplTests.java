@@ -1,5 +1,6 @@
 package by.sakuuj.articles.article.service;
 
+import by.sakuuj.articles.article.ArticleTestDataBuilder;
 import by.sakuuj.articles.article.PagingTestDataBuilder;
 import by.sakuuj.articles.article.TopicTestDataBuilder;
 import by.sakuuj.articles.article.dto.TopicRequest;
@@ -7,16 +8,18 @@ import by.sakuuj.articles.article.dto.TopicResponse;
 import by.sakuuj.articles.article.dto.validator.DtoValidator;
 import by.sakuuj.articles.article.exception.EntityNotFoundException;
 import by.sakuuj.articles.article.exception.EntityVersionDoesNotMatch;
-import by.sakuuj.articles.article.exception.IdempotencyTokenExistsException;
 import by.sakuuj.articles.article.mapper.jpa.TopicMapper;
+import by.sakuuj.articles.article.repository.jpa.ArticleOutboxEventRepository;
+import by.sakuuj.articles.article.repository.jpa.ArticleRepository;
 import by.sakuuj.articles.article.repository.jpa.TopicRepository;
 import by.sakuuj.articles.article.service.authorization.TopicServiceAuthorizer;
 import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
-import by.sakuuj.articles.entity.jpa.entities.IdempotencyTokenEntity;
+import by.sakuuj.articles.entity.jpa.entities.ArticleOutboxEventEntity;
 import by.sakuuj.articles.entity.jpa.entities.TopicEntity;
 import by.sakuuj.articles.paging.PageView;
 import by.sakuuj.articles.paging.RequestedPage;
+import by.sakuuj.articles.service.IdempotencyClaim;
 import by.sakuuj.articles.service.IdempotencyTokenService;
 import by.sakuuj.articles.security.AuthenticatedUser;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +42,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doNothing;
@@ -60,6 +64,10 @@ public class TopicServiceImplTests {
     private TopicMapper topicMapper;
     @Mock
     private IdempotencyTokenService idempotencyTokenService;
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private ArticleOutboxEventRepository articleOutboxEventRepository;
 
     @InjectMocks
     private TopicServiceImpl topicServiceImpl;
@@ -210,8 +218,11 @@ public class TopicServiceImplTests {
     @Nested
     class create_TopicRequest_UUID_UUID_AuthenticatedUser {
 
+        @Captor
+        private ArgumentCaptor<CreationId> creationIdCaptor;
+
         @Test
-        void shouldCreate_IfIdempotencyTokenDoesNotExist() {
+        void shouldClaimIdempotencyToken_ThenPersistTopicWithClaimedId() {
 
             // given
             doNothing().when(topicServiceAuthorizer).authorizeCreate(any());
@@ -220,29 +231,27 @@ public class TopicServiceImplTests {
             AuthenticatedUser authenticatedUser = AuthenticatedUser.builder().build();
 
             TopicTestDataBuilder topicBuilder = TopicTestDataBuilder.aTopic();
-            TopicEntity topicEntity = topicBuilder.build();
+            TopicEntity topicEntity = topicBuilder
+                    .withId(null)
+                    .build();
             TopicRequest topicRequest = topicBuilder.buildRequest();
-            UUID expected = topicEntity.getId();
 
             when(topicMapper.toEntity(any(TopicRequest.class))).thenReturn(topicEntity);
-            when(topicRepository.save(any())).thenReturn(topicEntity);
+            when(topicRepository.persist(any())).thenReturn(topicEntity);
 
             UUID idempotencyTokenValue = UUID.fromString("d95b3c07-91c0-4443-aaa0-beffb98f452a");
             var idempotencyTokenId = IdempotencyTokenId.builder()
                     .clientId(authenticatedUser.id())
                     .idempotencyTokenValue(idempotencyTokenValue)
                     .build();
-            var creationId = CreationId.of(TopicEntity.class, topicEntity.getId());
 
-            when(idempotencyTokenService.findById(any())).thenReturn(Optional.empty());
-            doNothing().when(idempotencyTokenService).create(any(), any());
+            when(idempotencyTokenService.claim(any(), any()))
+                    .thenAnswer(invocation -> IdempotencyClaim.won(invocation.getArgument(1)));
 
             // when
             UUID actual = topicServiceImpl.create(topicRequest, idempotencyTokenValue, authenticatedUser);
 
             // then
-            assertThat(actual).isEqualTo(expected);
-
             InOrder inOrder = Mockito.inOrder(
                     topicServiceAuthorizer,
                     dtoValidator,
@@ -255,19 +264,21 @@ public class TopicServiceImplTests {
 
             inOrder.verify(dtoValidator).validate(topicRequest);
 
-            inOrder.verify(idempotencyTokenService).findById(idempotencyTokenId);
+            inOrder.verify(idempotencyTokenService).claim(eq(idempotencyTokenId), creationIdCaptor.capture());
 
             inOrder.verify(topicMapper).toEntity(topicRequest);
 
-            inOrder.verify(topicRepository).save(topicEntity);
-
-            inOrder.verify(idempotencyTokenService).create(idempotencyTokenId, creationId);
+            inOrder.verify(topicRepository).persist(topicEntity);
 
             inOrder.verifyNoMoreInteractions();
+
+            assertThat(actual).isNotNull();
+            assertThat(topicEntity.getId()).isEqualTo(actual);
+            assertThat(creationIdCaptor.getValue()).isEqualTo(CreationId.of(TopicEntity.class, actual));
         }
 
         @Test
-        void shouldThrowException_IfIdempotencyTokenExists() {
+        void shouldReturnPreviouslyCreatedId_IfIdempotencyTokenIsClaimedAlready() {
 
             // given
             doNothing().when(topicServiceAuthorizer).authorizeCreate(any());
@@ -276,26 +287,23 @@ public class TopicServiceImplTests {
             AuthenticatedUser authenticatedUser = AuthenticatedUser.builder().build();
 
             TopicTestDataBuilder topicBuilder = TopicTestDataBuilder.aTopic();
-            TopicEntity topicEntity = topicBuilder.build();
             TopicRequest topicRequest = topicBuilder.buildRequest();
+            UUID previouslyCreatedId = topicBuilder.getId();
 
             UUID idempotencyTokenValue = UUID.fromString("d95b3c07-91c0-4443-aaa0-beffb98f452a");
             var idempotencyTokenId = IdempotencyTokenId.builder()
                     .clientId(authenticatedUser.id())
                     .idempotencyTokenValue(idempotencyTokenValue)
                     .build();
-            var creationId = CreationId.of(TopicEntity.class, topicEntity.getId());
+            var previousCreationId = CreationId.of(TopicEntity.class, previouslyCreatedId);
 
-            IdempotencyTokenEntity idempotencyToken = IdempotencyTokenEntity.builder()
-                    .id(idempotencyTokenId)
-                    .creationId(creationId)
-                    .build();
+            when(idempotencyTokenService.claim(any(), any())).thenReturn(IdempotencyClaim.lost(previousCreationId));
 
-            when(idempotencyTokenService.findById(any())).thenReturn(Optional.of(idempotencyToken));
+            // when
+            UUID actual = topicServiceImpl.create(topicRequest, idempotencyTokenValue, authenticatedUser);
 
-            // when, then
-            assertThatThrownBy(() -> topicServiceImpl.create(topicRequest, idempotencyTokenValue, authenticatedUser))
-                    .isInstanceOf(IdempotencyTokenExistsException.class);
+            // then
+            assertThat(actual).isEqualTo(previouslyCreatedId);
 
             InOrder inOrder = Mockito.inOrder(
                     topicServiceAuthorizer,
@@ -307,7 +315,7 @@ public class TopicServiceImplTests {
 
             inOrder.verify(dtoValidator).validate(topicRequest);
 
-            inOrder.verify(idempotencyTokenService).findById(idempotencyTokenId);
+            inOrder.verify(idempotencyTokenService).claim(eq(idempotencyTokenId), any());
 
             verifyNoInteractions(
                     topicRepository,
@@ -357,7 +365,9 @@ public class TopicServiceImplTests {
 
             verifyNoInteractions(
                     idempotencyTokenService,
-                    topicMapper
+                    topicMapper,
+                    articleRepository,
+                    articleOutboxEventRepository
             );
         }
 
@@ -400,7 +410,9 @@ public class TopicServiceImplTests {
 
             verifyNoInteractions(
                     idempotencyTokenService,
-                    topicMapper
+                    topicMapper,
+                    articleRepository,
+                    articleOutboxEventRepository
             );
         }
 
@@ -419,8 +431,15 @@ public class TopicServiceImplTests {
             short topicVersion = topicEntity.getVersion();
             TopicRequest topicRequest = topicBuilder.buildRequest();
 
+            UUID firstArticleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
+            UUID secondArticleId = UUID.fromString("0192a4c5-7a1b-7c2d-8e3f-4a5b6c7d8e9f");
+
             doNothing().when(topicMapper).updateEntity(any(), any());
             when(topicRepository.findById(any())).thenReturn(Optional.of(topicEntity));
+            when(articleRepository.findAllByTopicIdForcingVersionIncrement(any())).thenReturn(List.of(
+                    ArticleTestDataBuilder.anArticle().withId(firstArticleId).build(),
+                    ArticleTestDataBuilder.anArticle().withId(secondArticleId).build()
+            ));
 
 
             // when
@@ -432,7 +451,9 @@ public class TopicServiceImplTests {
                     topicServiceAuthorizer,
                     dtoValidator,
                     topicRepository,
-                    topicMapper
+                    topicMapper,
+                    articleRepository,
+                    articleOutboxEventRepository
             );
 
             inOrder.verify(topicServiceAuthorizer).authorizeUpdate(eq(topicId), same(authenticatedUser));
@@ -443,6 +464,17 @@ public class TopicServiceImplTests {
 
             inOrder.verify(topicMapper).updateEntity(topicEntity, topicRequest);
 
+            inOrder.verify(articleRepository).findAllByTopicIdForcingVersionIncrement(topicId);
+
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(firstArticleId)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT
+            ));
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(secondArticleId)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT
+            ));
+
             inOrder.verifyNoMoreInteractions();
 
             verifyNoInteractions(
@@ -463,6 +495,11 @@ public class TopicServiceImplTests {
             UUID idToDeleteBy = TopicTestDataBuilder.aTopic().getId();
             AuthenticatedUser authenticatedUser = AuthenticatedUser.builder().build();
 
+            UUID articleId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
+
+            when(articleRepository.findAllByTopicIdForcingVersionIncrement(any())).thenReturn(List.of(
+                    ArticleTestDataBuilder.anArticle().withId(articleId).build()
+            ));
             doNothing().when(topicRepository).removeById(any());
             doNothing().when(idempotencyTokenService).deleteByCreationId(any());
 
@@ -472,12 +509,21 @@ public class TopicServiceImplTests {
             // then
             InOrder inOrder = Mockito.inOrder(
                     topicServiceAuthorizer,
+                    articleRepository,
+                    articleOutboxEventRepository,
                     topicRepository,
                     idempotencyTokenService
             );
 
             inOrder.verify(topicServiceAuthorizer).authorizeDelete(eq(idToDeleteBy), same(authenticatedUser));
 
+            inOrder.verify(articleRepository).findAllByTopicIdForcingVersionIncrement(idToDeleteBy);
+
+            inOrder.verify(articleOutboxEventRepository).persist(argThat(event ->
+                    event.getArticleId().equals(articleId)
+                            && event.getEventType() == ArticleOutboxEventEntity.EventType.UPSERT
+            ));
+
             inOrder.verify(topicRepository).removeById(idToDeleteBy);
 
             inOrder.verify(idempotencyTokenService).deleteByCreationId(CreationId.of(TopicEntity.class, idToDeleteBy));
@@ -1,9 +1,13 @@
+import com.google.protobuf.gradle.ProtobufExtract
+
+
 plugins {
     id("java")
     id("int-test")
     id("idea")
     alias(libs.plugins.springBoot)
     alias(libs.plugins.hibernate)
+    id("com.google.protobuf") version "0.9.4"
 }
 
 group = "org.example"
@@ -13,6 +17,10 @@ tasks.compileJava {
     dependsOn(project(":index-creator-elasticsearch-spring-boot-starter").tasks.jar)
 }
 
+tasks.withType<ProtobufExtract>().configureEach {
+    dependsOn(project(":index-creator-elasticsearch-spring-boot-starter").tasks.jar)
+}
+
 java {
     toolchain.languageVersion = JavaLanguageVersion.of(21)
 }
@@ -22,6 +30,12 @@ repositories {
     mavenLocal()
 }
 
+protobuf {
+    protoc {
+        artifact = "com.google.protobuf:protoc:3.21.7"
+    }
+}
+
 idea {
     module {
         testSources.from(sourceSets.intTest.get().allSource.srcDirs)
@@ -39,6 +53,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-elasticsearch")
     implementation("by.sakuuj.elasticsearch:index-creator-elasticsearch-spring-boot-starter")
+    implementation("org.springframework.kafka:spring-kafka")
+    implementation("com.google.protobuf:protobuf-java")
 
 
     testAnnotationProcessor(platform(project(":platform")))
@@ -47,6 +63,7 @@ dependencies {
     testCompileOnly("org.projectlombok:lombok")
 
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     intTestImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
@@ -35,6 +35,12 @@ public class ArticleDocument {
     @Field(name = ElasticsearchFieldNames.CONTENT, type = FieldType.Text)
     private String content;
 
+    @Field(name = ElasticsearchFieldNames.EXCERPT, type = FieldType.Text, index = false)
+    private String excerpt;
+
+    @Field(name = ElasticsearchFieldNames.WORD_COUNT, type = FieldType.Integer)
+    private int wordCount;
+
     @Field(
             name = ElasticsearchFieldNames.DATE_PUBLISHED,
             type = FieldType.Date,
@@ -46,6 +52,8 @@ public class ArticleDocument {
         public static final String ID = "id";
         public static final String TITLE = "title";
         public static final String CONTENT = "content";
+        public static final String EXCERPT = "excerpt";
+        public static final String WORD_COUNT = "word_count";
         public static final String DATE_PUBLISHED = "date_published";
     }
 }
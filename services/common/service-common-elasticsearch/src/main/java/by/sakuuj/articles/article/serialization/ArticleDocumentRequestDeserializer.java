@@ -0,0 +1,71 @@
+package by.sakuuj.articles.article.serialization;
+
+import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.dto.proto.ArticleDocumentRequestProto;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Decodes records of both formats by their {@link ArticleEventFormat#HEADER},
+ * records without the header are decoded as JSON.
+ * <p>
+ * The configuration is passed to the JSON delegate as it is.
+ */
+public class ArticleDocumentRequestDeserializer implements Deserializer<ArticleDocumentRequest> {
+
+    private final JsonDeserializer<ArticleDocumentRequest> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public ArticleDocumentRequest deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public ArticleDocumentRequest deserialize(String topic, Headers headers, byte[] data) {
+
+        Header formatHeader = headers.lastHeader(ArticleEventFormat.HEADER);
+        if (formatHeader == null) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+
+        String headerValue = new String(formatHeader.value(), StandardCharsets.UTF_8);
+        ArticleEventFormat format = ArticleEventFormat.fromHeaderValue(headerValue)
+                .orElseThrow(() -> new SerializationException("Unknown article event format: " + headerValue));
+
+        return switch (format) {
+            case JSON -> jsonDeserializer.deserialize(topic, headers, data);
+            case PROTOBUF -> deserializeProtobuf(data);
+        };
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    private static ArticleDocumentRequest deserializeProtobuf(byte[] data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return ArticleDocumentRequestProtoMapper.fromProto(ArticleDocumentRequestProto.parseFrom(data));
+
+        } catch (InvalidProtocolBufferException ex) {
+            throw new SerializationException("Can't deserialize data from topic to ArticleDocumentRequest", ex);
+        }
+    }
+}
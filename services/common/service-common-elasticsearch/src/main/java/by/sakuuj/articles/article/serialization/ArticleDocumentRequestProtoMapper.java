@@ -0,0 +1,94 @@
+package by.sakuuj.articles.article.serialization;
+
+import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import by.sakuuj.articles.article.dto.proto.ArticleDocumentProto;
+import by.sakuuj.articles.article.dto.proto.ArticleDocumentRequestProto;
+import by.sakuuj.articles.article.entity.elasticsearch.ArticleDocument;
+import com.google.protobuf.Timestamp;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+@UtilityClass
+public class ArticleDocumentRequestProtoMapper {
+
+    public static ArticleDocumentRequestProto toProto(ArticleDocumentRequest request) {
+
+        ArticleDocumentRequestProto.Builder builder = ArticleDocumentRequestProto.newBuilder()
+                .setType(switch (request.type()) {
+                    case UPSERT -> ArticleDocumentRequestProto.RequestType.UPSERT;
+                    case DELETE -> ArticleDocumentRequestProto.RequestType.DELETE;
+                });
+
+        if (request.articleDocument() != null) {
+            builder.setArticleDocument(toProto(request.articleDocument()));
+        }
+
+        return builder.build();
+    }
+
+    public static ArticleDocumentRequest fromProto(ArticleDocumentRequestProto proto) {
+
+        return ArticleDocumentRequest.builder()
+                .type(switch (proto.getType()) {
+                    case UPSERT -> ArticleDocumentRequest.RequestType.UPSERT;
+                    case DELETE -> ArticleDocumentRequest.RequestType.DELETE;
+                    case REQUEST_TYPE_UNSPECIFIED, UNRECOGNIZED -> null;
+                })
+                .articleDocument(proto.hasArticleDocument()
+                        ? fromProto(proto.getArticleDocument())
+                        : null
+                )
+                .build();
+    }
+
+    private static ArticleDocumentProto toProto(ArticleDocument document) {
+
+        ArticleDocumentProto.Builder builder = ArticleDocumentProto.newBuilder()
+                .setIdMostSignificantBits(document.getId().getMostSignificantBits())
+                .setIdLeastSignificantBits(document.getId().getLeastSignificantBits())
+                .setWordCount(document.getWordCount());
+
+        if (document.getTitle() != null) {
+            builder.setTitle(document.getTitle());
+        }
+        if (document.getContent() != null) {
+            builder.setContent(document.getContent());
+        }
+        if (document.getExcerpt() != null) {
+            builder.setExcerpt(document.getExcerpt());
+        }
+        if (document.getDatePublishedOn() != null) {
+            builder.setDatePublishedOn(toTimestamp(document.getDatePublishedOn()));
+        }
+
+        return builder.build();
+    }
+
+    private static ArticleDocument fromProto(ArticleDocumentProto proto) {
+
+        return ArticleDocument.builder()
+                .id(new UUID(proto.getIdMostSignificantBits(), proto.getIdLeastSignificantBits()))
+                .title(proto.hasTitle() ? proto.getTitle() : null)
+                .content(proto.hasContent() ? proto.getContent() : null)
+                .excerpt(proto.hasExcerpt() ? proto.getExcerpt() : null)
+                .wordCount(proto.getWordCount())
+                .datePublishedOn(proto.hasDatePublishedOn() ? fromTimestamp(proto.getDatePublishedOn()) : null)
+                .build();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime localDateTime) {
+
+        return Timestamp.newBuilder()
+                .setSeconds(localDateTime.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(localDateTime.getNano())
+                .build();
+    }
+
+    private static LocalDateTime fromTimestamp(Timestamp timestamp) {
+
+        return LocalDateTime.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos(), ZoneOffset.UTC);
+    }
+}
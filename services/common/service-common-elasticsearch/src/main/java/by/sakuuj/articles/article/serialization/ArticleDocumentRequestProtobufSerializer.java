@@ -0,0 +1,36 @@
+package by.sakuuj.articles.article.serialization;
+
+import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Marks each record with the {@link ArticleEventFormat#PROTOBUF} header,
+ * so that consumers tell it from the JSON records written before
+ */
+public class ArticleDocumentRequestProtobufSerializer implements Serializer<ArticleDocumentRequest> {
+
+    private static final byte[] FORMAT_HEADER_VALUE = ArticleEventFormat.PROTOBUF.getHeaderValue()
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public byte[] serialize(String topic, ArticleDocumentRequest data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        return ArticleDocumentRequestProtoMapper.toProto(data).toByteArray();
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, ArticleDocumentRequest data) {
+
+        headers.remove(ArticleEventFormat.HEADER);
+        headers.add(ArticleEventFormat.HEADER, FORMAT_HEADER_VALUE);
+
+        return serialize(topic, data);
+    }
+}
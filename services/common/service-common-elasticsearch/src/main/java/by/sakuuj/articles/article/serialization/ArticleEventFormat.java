@@ -0,0 +1,30 @@
+package by.sakuuj.articles.article.serialization;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Format of the values of the articles topic, written to the {@link #HEADER} of each record.
+ * Records without the header are JSON, as written before the header was introduced.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ArticleEventFormat {
+
+    JSON("json"),
+    PROTOBUF("protobuf-v1");
+
+    public static final String HEADER = "article-event-format";
+
+    private final String headerValue;
+
+    public static Optional<ArticleEventFormat> fromHeaderValue(String headerValue) {
+
+        return Arrays.stream(values())
+                .filter(format -> format.headerValue.equals(headerValue))
+                .findFirst();
+    }
+}
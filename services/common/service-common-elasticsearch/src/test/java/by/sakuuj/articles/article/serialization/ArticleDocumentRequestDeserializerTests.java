@@ -0,0 +1,122 @@
+package by.sakuuj.articles.article.serialization;
+
+import by.sakuuj.articles.article.ArticleDocumentTestBuilder;
+import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleDocumentRequestDeserializerTests {
+
+    private static final String TOPIC = "articles";
+    private static final String TYPE_MAPPINGS = "articleDocReq:" + ArticleDocumentRequest.class.getName();
+
+    private final ArticleDocumentRequestProtobufSerializer protobufSerializer = new ArticleDocumentRequestProtobufSerializer();
+    private final JsonSerializer<ArticleDocumentRequest> jsonSerializer = new JsonSerializer<>();
+
+    private final ArticleDocumentRequestDeserializer deserializer = new ArticleDocumentRequestDeserializer();
+
+    @BeforeEach
+    void configure() {
+
+        jsonSerializer.configure(Map.of(JsonSerializer.TYPE_MAPPINGS, TYPE_MAPPINGS), false);
+        deserializer.configure(Map.of(JsonDeserializer.TYPE_MAPPINGS, TYPE_MAPPINGS), false);
+    }
+
+    @AfterEach
+    void close() {
+
+        jsonSerializer.close();
+        deserializer.close();
+    }
+
+    @Nested
+    class deserialize_String_Headers_ByteArray {
+
+        @Test
+        void shouldDeserializeProtobufUpsert() {
+
+            // given
+            ArticleDocumentRequest request = ArticleDocumentRequest.builder()
+                    .type(ArticleDocumentRequest.RequestType.UPSERT)
+                    .articleDocument(ArticleDocumentTestBuilder.anArticleDocument()
+                            .withDatePublishedOn(LocalDateTime.of(2021, 10, 17, 11, 11, 11, 123_456_789))
+                            .buildDocument())
+                    .build();
+
+            Headers headers = new RecordHeaders();
+            byte[] data = protobufSerializer.serialize(TOPIC, headers, request);
+
+            // when
+            ArticleDocumentRequest actual = deserializer.deserialize(TOPIC, headers, data);
+
+            // then
+            assertThat(actual).isEqualTo(request);
+            assertThat(new String(headers.lastHeader(ArticleEventFormat.HEADER).value(), StandardCharsets.UTF_8))
+                    .isEqualTo(ArticleEventFormat.PROTOBUF.getHeaderValue());
+        }
+
+        @Test
+        void shouldDeserializeProtobufDelete_WithoutDocument() {
+
+            // given
+            ArticleDocumentRequest request = ArticleDocumentRequest.builder()
+                    .type(ArticleDocumentRequest.RequestType.DELETE)
+                    .build();
+
+            Headers headers = new RecordHeaders();
+            byte[] data = protobufSerializer.serialize(TOPIC, headers, request);
+
+            // when
+            ArticleDocumentRequest actual = deserializer.deserialize(TOPIC, headers, data);
+
+            // then
+            assertThat(actual).isEqualTo(request);
+        }
+
+        @Test
+        void shouldDeserializeJson_WrittenWithoutFormatHeader() {
+
+            // given
+            ArticleDocumentRequest request = ArticleDocumentRequest.builder()
+                    .type(ArticleDocumentRequest.RequestType.UPSERT)
+                    .articleDocument(ArticleDocumentTestBuilder.anArticleDocument().buildDocument())
+                    .build();
+
+            Headers headers = new RecordHeaders();
+            byte[] data = jsonSerializer.serialize(TOPIC, headers, request);
+
+            // when
+            ArticleDocumentRequest actual = deserializer.deserialize(TOPIC, headers, data);
+
+            // then
+            assertThat(actual).isEqualTo(request);
+        }
+
+        @Test
+        void shouldThrow_OnUnknownFormat() {
+
+            // given
+            Headers headers = new RecordHeaders();
+            headers.add(ArticleEventFormat.HEADER, "avro-v1".getBytes(StandardCharsets.UTF_8));
+
+            // when, then
+            assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers, new byte[]{1, 2, 3}))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("avro-v1");
+        }
+    }
+}
@@ -45,6 +45,7 @@ dependencies {
 
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
     intTestImplementation("com.h2database:h2")
     intTestImplementation("org.testcontainers:junit-jupiter")
@@ -8,6 +8,9 @@ import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import by.sakuuj.articles.entity.jpa.entities.IdempotencyTokenEntity;
 import by.sakuuj.articles.entity.jpa.entities.PersonEntity;
 import by.sakuuj.articles.repository.jpa.IdempotencyTokenRepository;
+import by.sakuuj.articles.repository.jpa.projection.IdempotencyTokenPartition;
+import by.sakuuj.articles.service.IdempotencyTokenPurgeReport;
+import by.sakuuj.articles.service.IdempotencyTokenServiceImpl;
 import by.sakuuj.testcontainers.PostgresSingletonContainerLauncher;
 import by.sakuuj.utils.LocalDateTimeComparator;
 import by.sakuuj.utils.PostgresDBCleaner;
@@ -19,8 +22,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -209,4 +217,196 @@ class IdempotencyTokenRepositoryTests extends PostgresSingletonContainerLauncher
             });
         }
     }
+
+    @Nested
+    class insertIfAbsent_UUID_UUID_String_LocalDate_LocalDate {
+
+        @Test
+        void shouldInsertOnlyFirstOfSameTokens() {
+
+            // given
+            PersonEntity idempotencyTokenOwner = PersonTestDataBuilder.aPerson()
+                    .withId(null)
+                    .build();
+
+            txTemplate.executeWithoutResult(txStatus ->
+                    entityManager.persist(idempotencyTokenOwner)
+            );
+
+            UUID clientId = idempotencyTokenOwner.getId();
+            var idempotencyTokenValue = UUID.fromString("ed03b605-cc2d-4b9e-89cc-324ce8a38cab");
+            var firstCreationId = CreationId.of(ArticleEntity.class, UUID.fromString("9f3b2d35-41d3-4b4d-870c-ffe6d9a83508"));
+            var secondCreationId = CreationId.of(ArticleEntity.class, UUID.fromString("0190b6a4-1f2e-7c3d-8e4f-5a6b7c8d9e0f"));
+
+            LocalDate yesterday = LocalDate.now(Clock.systemUTC()).minusDays(1);
+            LocalDate today = yesterday.plusDays(1);
+            LocalDate notExpiredSince = today.minusDays(7);
+
+            // when
+            Optional<String> first = txTemplate.execute(txStatus -> idempotencyTokenRepository.insertIfAbsent(
+                    clientId, idempotencyTokenValue, firstCreationId.getCreationIdValue(), yesterday, notExpiredSince
+            ));
+            Optional<String> sameDay = txTemplate.execute(txStatus -> idempotencyTokenRepository.insertIfAbsent(
+                    clientId, idempotencyTokenValue, secondCreationId.getCreationIdValue(), yesterday, notExpiredSince
+            ));
+            Optional<String> nextDay = txTemplate.execute(txStatus -> idempotencyTokenRepository.insertIfAbsent(
+                    clientId, idempotencyTokenValue, secondCreationId.getCreationIdValue(), today, notExpiredSince
+            ));
+
+            // then
+            assertThat(first).contains(firstCreationId.getCreationIdValue());
+            assertThat(sameDay).isEmpty();
+            assertThat(nextDay).isEmpty();
+        }
+
+        @Test
+        void shouldInsert_IfSameTokenHasExpired() {
+
+            // given
+            PersonEntity idempotencyTokenOwner = PersonTestDataBuilder.aPerson()
+                    .withId(null)
+                    .build();
+
+            txTemplate.executeWithoutResult(txStatus ->
+                    entityManager.persist(idempotencyTokenOwner)
+            );
+
+            UUID clientId = idempotencyTokenOwner.getId();
+            var idempotencyTokenValue = UUID.fromString("ed03b605-cc2d-4b9e-89cc-324ce8a38cab");
+            var expiredCreationId = CreationId.of(ArticleEntity.class, UUID.fromString("9f3b2d35-41d3-4b4d-870c-ffe6d9a83508"));
+            var creationId = CreationId.of(ArticleEntity.class, UUID.fromString("0190b6a4-1f2e-7c3d-8e4f-5a6b7c8d9e0f"));
+
+            LocalDate today = LocalDate.now(Clock.systemUTC());
+            LocalDate notExpiredSince = today.minusDays(7);
+
+            txTemplate.executeWithoutResult(txStatus -> idempotencyTokenRepository.insertIfAbsent(
+                    clientId, idempotencyTokenValue, expiredCreationId.getCreationIdValue(),
+                    notExpiredSince.minusDays(1), notExpiredSince.minusDays(8)
+            ));
+
+            // when
+            Optional<String> actual = txTemplate.execute(txStatus -> idempotencyTokenRepository.insertIfAbsent(
+                    clientId, idempotencyTokenValue, creationId.getCreationIdValue(), today, notExpiredSince
+            ));
+
+            // then
+            assertThat(actual).contains(creationId.getCreationIdValue());
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                var idempotencyTokenId = IdempotencyTokenId.builder()
+                        .clientId(clientId)
+                        .idempotencyTokenValue(idempotencyTokenValue)
+                        .build();
+
+                assertThat(idempotencyTokenRepository.findNotExpiredById(idempotencyTokenId, notExpiredSince))
+                        .map(IdempotencyTokenEntity::getCreationId)
+                        .contains(creationId);
+            });
+        }
+    }
+
+    @Nested
+    class partitions {
+
+        @Test
+        void shouldCreateThenFindThenDropExpiredDailyPartition() {
+
+            // given
+            LocalDate expiredDay = LocalDate.of(2024, 1, 1);
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                assertThat(idempotencyTokenRepository.tryLockPartitionMaintenance()).isTrue();
+                idempotencyTokenRepository.createDailyPartitionIfAbsent(expiredDay);
+                idempotencyTokenRepository.createDailyPartitionIfAbsent(expiredDay);
+            });
+
+            // when
+            List<IdempotencyTokenPartition> expiredPartitions = txTemplate.execute(txStatus ->
+                    idempotencyTokenRepository.findAllDailyPartitionsBefore(expiredDay.plusDays(1))
+            );
+
+            // then
+            assertThat(expiredPartitions).singleElement()
+                    .satisfies(p -> {
+                        assertThat(p.name()).isEqualTo("idempotency_tokens_p20240101");
+                        assertThat(p.day()).isEqualTo(expiredDay);
+                        assertThat(p.sizeInBytes()).isPositive();
+                    });
+
+            txTemplate.executeWithoutResult(txStatus ->
+                    idempotencyTokenRepository.dropPartition(expiredPartitions.get(0))
+            );
+
+            var actual = txTemplate.execute(txStatus ->
+                    idempotencyTokenRepository.findAllDailyPartitionsBefore(expiredDay.plusDays(1))
+            );
+            assertThat(actual).isEmpty();
+        }
+
+        @Test
+        void shouldMoveTokensOutOfDefaultPartition_ThenPurgeExpiredOnes_WhenPurgingExpired() {
+
+            // given
+            LocalDate today = LocalDate.now(Clock.systemUTC());
+            LocalDate dayAfterTomorrow = today.plusDays(2);
+            LocalDate expiredDay = today.minusDays(30);
+
+            PersonEntity idempotencyTokenOwner = PersonTestDataBuilder.aPerson()
+                    .withId(null)
+                    .build();
+
+            txTemplate.executeWithoutResult(txStatus -> {
+                entityManager.persist(idempotencyTokenOwner);
+
+                idempotencyTokenRepository.dropPartition(IdempotencyTokenPartition.builder()
+                        .name("idempotency_tokens_p" + DateTimeFormatter.BASIC_ISO_DATE.format(dayAfterTomorrow))
+                        .day(dayAfterTomorrow)
+                        .build());
+
+                idempotencyTokenRepository.insertIfAbsent(
+                        idempotencyTokenOwner.getId(),
+                        UUID.fromString("ed03b605-cc2d-4b9e-89cc-324ce8a38cab"),
+                        CreationId.of(ArticleEntity.class, UUID.fromString("9f3b2d35-41d3-4b4d-870c-ffe6d9a83508"))
+                                .getCreationIdValue(),
+                        dayAfterTomorrow,
+                        dayAfterTomorrow
+                );
+                idempotencyTokenRepository.insertIfAbsent(
+                        idempotencyTokenOwner.getId(),
+                        UUID.fromString("0190b6a4-1f2e-7c3d-8e4f-5a6b7c8d9e0f"),
+                        CreationId.of(ArticleEntity.class, UUID.fromString("0190b6a4-2a3b-7c4d-8e5f-6a7b8c9d0e1f"))
+                                .getCreationIdValue(),
+                        expiredDay,
+                        expiredDay
+                );
+            });
+            assertThat(countTokensIn("idempotency_tokens_default")).isEqualTo(2);
+
+            var idempotencyTokenService = new IdempotencyTokenServiceImpl(
+                    idempotencyTokenRepository,
+                    Period.ofDays(7)
+            );
+
+            // when
+            Optional<IdempotencyTokenPurgeReport> actual = txTemplate.execute(txStatus ->
+                    idempotencyTokenService.purgeExpired()
+            );
+
+            // then
+            assertThat(actual).hasValueSatisfying(report -> assertThat(report.purgedRows()).isEqualTo(1));
+
+            assertThat(countTokensIn("idempotency_tokens_default")).isZero();
+            assertThat(countTokensIn(
+                    "idempotency_tokens_p" + DateTimeFormatter.BASIC_ISO_DATE.format(dayAfterTomorrow)
+            )).isEqualTo(1);
+        }
+
+        private long countTokensIn(String partitionName) {
+
+            return txTemplate.execute(txStatus -> ((Number) entityManager
+                    .createNativeQuery("SELECT count(*) FROM " + partitionName)
+                    .getSingleResult()).longValue()
+            );
+        }
+    }
 }
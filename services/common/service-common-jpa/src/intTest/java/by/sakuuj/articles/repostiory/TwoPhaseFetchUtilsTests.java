@@ -0,0 +1,190 @@
+package by.sakuuj.articles.repostiory;
+
+import by.sakuuj.annotations.JpaTest;
+import by.sakuuj.articles.PersonTestDataBuilder;
+import by.sakuuj.articles.entity.jpa.entities.PersonEntity;
+import by.sakuuj.articles.entity.jpa.entities.PersonEntity_;
+import by.sakuuj.articles.entity.jpa.utils.EntityGraphNames;
+import by.sakuuj.articles.repository.jpa.utils.TwoPhaseFetchUtils;
+import by.sakuuj.testcontainers.PostgresSingletonContainerLauncher;
+import by.sakuuj.utils.PostgresDBCleaner;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JpaTest
+@ContextConfiguration(classes = TestConfig.class)
+class TwoPhaseFetchUtilsTests extends PostgresSingletonContainerLauncher {
+
+    @Autowired
+    private TransactionTemplate txTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID firstId;
+    private UUID secondId;
+    private UUID thirdId;
+
+    @BeforeEach
+    void persistPersons() {
+
+        PersonEntity first = PersonTestDataBuilder.aPerson()
+                .withId(null)
+                .withPrimaryEmail("a_first@gmail.com")
+                .build();
+        PersonEntity second = PersonTestDataBuilder.aPerson()
+                .withId(null)
+                .withPrimaryEmail("b_second@gmail.com")
+                .build();
+        PersonEntity third = PersonTestDataBuilder.aPerson()
+                .withId(null)
+                .withPrimaryEmail("c_third@gmail.com")
+                .build();
+
+        txTemplate.executeWithoutResult(txStatus -> {
+            entityManager.persist(first);
+            entityManager.persist(second);
+            entityManager.persist(third);
+        });
+
+        firstId = first.getId();
+        secondId = second.getId();
+        thirdId = third.getId();
+    }
+
+    @AfterEach
+    void cleanDB() {
+        PostgresDBCleaner.truncateTables(txTemplate, entityManager);
+    }
+
+    @Nested
+    class loadAllByIdsInOrder_Session_Class_String_List {
+
+        @Test
+        void shouldLoadInOrderOfIds() {
+
+            // given
+            List<UUID> ids = List.of(thirdId, firstId, secondId);
+
+            // when
+            List<UUID> actual = loadIds(ids);
+
+            // then
+            assertThat(actual).containsExactly(thirdId, firstId, secondId);
+        }
+
+        @Test
+        void shouldSkipIdsOfAbsentEntities() {
+
+            // given
+            UUID absentId = UUID.fromString("0192a4c5-6f4e-7b8a-9c3d-2e1f0a9b8c7d");
+            List<UUID> ids = List.of(secondId, absentId, firstId);
+
+            // when
+            List<UUID> actual = loadIds(ids);
+
+            // then
+            assertThat(actual).containsExactly(secondId, firstId);
+        }
+
+        @Test
+        void shouldLoadSameEntityAtEachPositionOfDuplicateId() {
+
+            // given
+            List<UUID> ids = List.of(firstId, thirdId, firstId);
+
+            // when
+            List<PersonEntity> actual = txTemplate.execute(txStatus -> TwoPhaseFetchUtils.loadAllByIdsInOrder(
+                    entityManager.unwrap(Session.class),
+                    PersonEntity.class,
+                    EntityGraphNames.PERSON_EAGER_WITH_PERSON_ROLES_EAGER,
+                    ids
+            ));
+
+            // then
+            assertThat(actual).extracting(PersonEntity::getId).containsExactly(firstId, thirdId, firstId);
+            assertThat(actual.get(0)).isSameAs(actual.get(2));
+        }
+
+        @Test
+        void shouldReturnEmptyList_WhenIdsAreEmpty() {
+
+            // when
+            List<UUID> actual = loadIds(List.of());
+
+            // then
+            assertThat(actual).isEmpty();
+        }
+
+        private List<UUID> loadIds(List<UUID> ids) {
+
+            return txTemplate.execute(txStatus -> TwoPhaseFetchUtils.loadAllByIdsInOrder(
+                            entityManager.unwrap(Session.class),
+                            PersonEntity.class,
+                            EntityGraphNames.PERSON_EAGER_WITH_PERSON_ROLES_EAGER,
+                            ids
+                    ).stream()
+                    .map(PersonEntity::getId)
+                    .toList()
+            );
+        }
+    }
+
+    @Nested
+    class fetchSlice_Session_Class_SingularAttribute_String_Pageable {
+
+        @Test
+        void shouldFetchSliceInRequestedOrder_AndTellThereIsNextSlice() {
+
+            // given
+            PageRequest pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, PersonEntity_.PRIMARY_EMAIL));
+
+            // when
+            Slice<PersonEntity> actual = fetchSlice(pageable);
+
+            // then
+            assertThat(actual.getContent()).extracting(PersonEntity::getId).containsExactly(thirdId, secondId);
+            assertThat(actual.hasNext()).isTrue();
+        }
+
+        @Test
+        void shouldFetchLastSlice_AndTellThereIsNoNextSlice() {
+
+            // given
+            PageRequest pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, PersonEntity_.PRIMARY_EMAIL));
+
+            // when
+            Slice<PersonEntity> actual = fetchSlice(pageable);
+
+            // then
+            assertThat(actual.getContent()).extracting(PersonEntity::getId).containsExactly(firstId);
+            assertThat(actual.hasNext()).isFalse();
+        }
+
+        private Slice<PersonEntity> fetchSlice(PageRequest pageable) {
+
+            return txTemplate.execute(txStatus -> TwoPhaseFetchUtils.fetchSlice(
+                    entityManager.unwrap(Session.class),
+                    PersonEntity.class,
+                    PersonEntity_.id,
+                    EntityGraphNames.PERSON_EAGER_WITH_PERSON_ROLES_EAGER,
+                    pageable
+            ));
+        }
+    }
+}
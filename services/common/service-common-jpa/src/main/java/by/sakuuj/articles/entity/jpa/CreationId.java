@@ -16,6 +16,10 @@ import java.util.UUID;
  *      &lt;prefix>:&lt;uuid-value>
  * Prefixes depend on classes that CreationId works with and are defined
  * in the filed {@link CreationId#entityClassToCreationIdPrefix}.
+ *
+ * Created entities get time-ordered ids by {@link by.sakuuj.articles.entity.jpa.generators.UuidV7Generator},
+ * so hex values of their uuids sort by creation time as well and new creation ids
+ * are appended to the end of the unique index on creation_id for each prefix.
  * </pre>
  */
 @Getter
@@ -50,6 +54,16 @@ public class CreationId {
         return new CreationId(creationId);
     }
 
+    /**
+     * @return id of the created entity, that the creation id has been made {@link #of}
+     */
+    public UUID getCreatedEntityId() {
+
+        String uuidWithoutHyphens = creationIdValue.substring(creationIdValue.indexOf(':') + 1);
+
+        return UuidUtils.restoreHyphens(uuidWithoutHyphens);
+    }
+
     @Override
     public String toString() {
         return creationIdValue;
@@ -1,13 +1,13 @@
 package by.sakuuj.articles.entity.jpa.entities;
 
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit;
+import by.sakuuj.articles.entity.jpa.generators.UuidV7;
+import by.sakuuj.articles.entity.jpa.utils.ArticleExcerptUtils;
 import by.sakuuj.articles.entity.jpa.utils.EntityGraphNames;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -15,6 +15,8 @@ import jakarta.persistence.NamedAttributeNode;
 import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
@@ -50,7 +52,7 @@ public class ArticleEntity {
 
     @Id
     @Column(name = SqlAttributes.ID)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = SqlAttributes.TITLE)
@@ -59,6 +61,12 @@ public class ArticleEntity {
     @Column(name = SqlAttributes.CONTENT)
     private String content;
 
+    @Column(name = SqlAttributes.EXCERPT)
+    private String excerpt;
+
+    @Column(name = SqlAttributes.WORD_COUNT)
+    private int wordCount;
+
     @Embedded
     @Builder.Default
     private ModificationAudit modificationAudit = new ModificationAudit();
@@ -78,9 +86,18 @@ public class ArticleEntity {
         public static final String ID = "article_id";
         public static final String TITLE = "title";
         public static final String CONTENT = "content";
+        public static final String EXCERPT = "excerpt";
+        public static final String WORD_COUNT = "word_count";
         public static final String AUTHOR_ID = "author_id";
     }
 
+    @PrePersist
+    @PreUpdate
+    private void computeExcerptAndWordCount() {
+        excerpt = ArticleExcerptUtils.excerptOf(content);
+        wordCount = ArticleExcerptUtils.countWords(content);
+    }
+
     @Override
     public int hashCode() {
         return getClass().hashCode();
@@ -0,0 +1,81 @@
+package by.sakuuj.articles.entity.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Search index event of an article, saved in the same transaction as the article change,
+ * deleted once it has been published.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "article_outbox_events")
+public class ArticleOutboxEventEntity {
+
+    @Id
+    @Column(name = SqlAttributes.ID)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = SqlAttributes.ARTICLE_ID)
+    private UUID articleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = SqlAttributes.EVENT_TYPE)
+    private EventType eventType;
+
+    @Builder.Default
+    @Column(name = SqlAttributes.CREATED_AT, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now(Clock.systemUTC());
+
+    public enum EventType {
+        UPSERT,
+        DELETE
+    }
+
+    public static class SqlAttributes {
+        public static final String ID = "article_outbox_event_id";
+        public static final String ARTICLE_ID = "article_id";
+        public static final String EVENT_TYPE = "event_type";
+        public static final String CREATED_AT = "created_at";
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ArticleOutboxEventEntity e)) {
+            return false;
+        }
+
+        return getId() != null
+                && getId().equals(e.getId());
+    }
+}
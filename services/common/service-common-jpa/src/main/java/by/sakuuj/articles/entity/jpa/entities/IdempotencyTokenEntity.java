@@ -14,6 +14,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Persistable;
 
+import java.time.Clock;
+import java.time.LocalDate;
+
 @Entity
 @Getter
 @Setter
@@ -31,8 +34,16 @@ public class IdempotencyTokenEntity implements Persistable<IdempotencyTokenId> {
     @Convert(converter = CreationId.Converter.class)
     private CreationId creationId;
 
+    /**
+     * UTC date the token has been saved on, tokens are partitioned by it.
+     */
+    @Builder.Default
+    @Column(name = SqlAttributes.CREATED_AT, updatable = false)
+    private LocalDate createdAt = LocalDate.now(Clock.systemUTC());
+
     public static class SqlAttributes {
         public static final String CREATION_ID = "creation_id";
+        public static final String CREATED_AT = "created_at";
     }
 
     @Override
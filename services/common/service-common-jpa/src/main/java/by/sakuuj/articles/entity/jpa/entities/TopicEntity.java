@@ -1,11 +1,10 @@
 package by.sakuuj.articles.entity.jpa.entities;
 
 import by.sakuuj.articles.entity.jpa.embeddable.ModificationAudit;
+import by.sakuuj.articles.entity.jpa.generators.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
@@ -30,7 +29,7 @@ public class TopicEntity {
 
     @Id
     @Column(name = SqlAttributes.ID)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = SqlAttributes.NAME)
@@ -0,0 +1,83 @@
+package by.sakuuj.articles.entity.jpa.generators;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Generates time-ordered version 7 UUIDs (RFC 9562):
+ *
+ *      48 bits  unix epoch milliseconds
+ *       4 bits  version, 0111
+ *      12 bits  counter within the millisecond
+ *       2 bits  variant, 10
+ *      62 bits  random
+ *
+ * Postgres compares uuids byte by byte, so ids generated later are greater
+ * and new rows are appended to the rightmost pages of primary key indexes
+ * instead of being scattered over the whole index as random version 4 UUIDs are.
+ *
+ * Ids are strictly increasing within a JVM: if the counter of the current millisecond overflows,
+ * or the clock goes back, the timestamp of the last generated id is carried on.
+ *
+ * An id assigned before persisting, e.g. to be referenced by an idempotency token, is kept.
+ * </pre>
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_BITS_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session,
+                           Object owner,
+                           Object currentValue,
+                           EventType eventType) {
+
+        Object assignedId = session.getEntityPersister(null, owner).getIdentifier(owner, session);
+        if (assignedId != null) {
+            return assignedId;
+        }
+
+        return generateUuid();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID generateUuid() {
+
+        long currentMillis = System.currentTimeMillis();
+
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(last ->
+                Math.max(currentMillis << COUNTER_BITS, last + 1)
+        );
+
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        long mostSigBits = timestamp << 16 | VERSION | counter;
+        long leastSigBits = VARIANT | ThreadLocalRandom.current().nextLong() & RANDOM_BITS_MASK;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
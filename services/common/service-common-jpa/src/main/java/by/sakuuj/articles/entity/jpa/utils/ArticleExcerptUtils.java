@@ -0,0 +1,49 @@
+package by.sakuuj.articles.entity.jpa.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.regex.Pattern;
+
+@UtilityClass
+public class ArticleExcerptUtils {
+
+    public static final int EXCERPT_MAX_LENGTH = 300;
+
+    private static final String ELLIPSIS = "…";
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    /**
+     * @return content with whitespaces collapsed, cut on a word boundary
+     * and ended with an ellipsis if longer than {@link #EXCERPT_MAX_LENGTH}
+     */
+    public static String excerptOf(String content) {
+
+        String normalized = normalize(content);
+        if (normalized.length() <= EXCERPT_MAX_LENGTH) {
+            return normalized;
+        }
+
+        String cut = normalized.substring(0, EXCERPT_MAX_LENGTH - ELLIPSIS.length());
+
+        int lastSpaceIdx = cut.lastIndexOf(' ');
+        if (lastSpaceIdx > 0) {
+            cut = cut.substring(0, lastSpaceIdx);
+        }
+
+        return cut + ELLIPSIS;
+    }
+
+    public static int countWords(String content) {
+
+        String normalized = normalize(content);
+        if (normalized.isEmpty()) {
+            return 0;
+        }
+
+        return WHITESPACES.split(normalized).length;
+    }
+
+    private static String normalize(String content) {
+        return WHITESPACES.matcher(content.strip()).replaceAll(" ");
+    }
+}
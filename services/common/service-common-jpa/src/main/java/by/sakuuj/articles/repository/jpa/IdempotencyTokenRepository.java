@@ -3,15 +3,59 @@ package by.sakuuj.articles.repository.jpa;
 import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.entities.IdempotencyTokenEntity;
+import by.sakuuj.articles.repository.jpa.custom.IdempotencyTokenCustomRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface IdempotencyTokenRepository extends Repository<IdempotencyTokenEntity, IdempotencyTokenId> {
+public interface IdempotencyTokenRepository extends Repository<IdempotencyTokenEntity, IdempotencyTokenId>,
+        IdempotencyTokenCustomRepository {
 
     Optional<IdempotencyTokenEntity> findById(IdempotencyTokenId idempotencyTokenId);
 
+    @Query("""
+            SELECT t FROM IdempotencyTokenEntity t
+            WHERE t.id = :id AND t.createdAt >= :notExpiredSince
+            ORDER BY t.createdAt
+            LIMIT 1
+            """)
+    Optional<IdempotencyTokenEntity> findNotExpiredById(@Param("id") IdempotencyTokenId idempotencyTokenId,
+                                                        @Param("notExpiredSince") LocalDate notExpiredSince);
+
     IdempotencyTokenEntity save(IdempotencyTokenEntity entity);
 
+    /**
+     * A concurrent insert of the same token on the same day waits for the transaction that has inserted it first,
+     * then inserts nothing if that transaction has been committed.
+     * A not expired token saved on one of the previous days is checked for explicitly,
+     * since it is stored in another partition and does not conflict.
+     * That check does not see an uncommitted token, so concurrent claims on either side of UTC midnight
+     * are serialized by {@link #lockClaim}, to be taken before.
+     *
+     * @return creation id of the inserted token, empty if the token already exists
+     */
+    @Query(value = """
+            INSERT INTO idempotency_tokens (client_id, idempotency_token, creation_id, created_at)
+            SELECT :clientId, :idempotencyTokenValue, :creationId, :createdAt
+            WHERE NOT EXISTS (
+                SELECT 1 FROM idempotency_tokens
+                WHERE client_id = :clientId
+                    AND idempotency_token = :idempotencyTokenValue
+                    AND created_at >= :notExpiredSince
+                    AND created_at < :createdAt
+            )
+            ON CONFLICT DO NOTHING
+            RETURNING creation_id
+            """, nativeQuery = true)
+    Optional<String> insertIfAbsent(@Param("clientId") UUID clientId,
+                                    @Param("idempotencyTokenValue") UUID idempotencyTokenValue,
+                                    @Param("creationId") String creationId,
+                                    @Param("createdAt") LocalDate createdAt,
+                                    @Param("notExpiredSince") LocalDate notExpiredSince);
+
     void removeByCreationId(CreationId creationId);
 }
@@ -0,0 +1,10 @@
+package by.sakuuj.articles.repository.jpa;
+
+/**
+ * Repository fragment for entities created with an id assigned beforehand,
+ * {@code save} would merge them, selecting by the id first.
+ */
+public interface PersistingRepository<T> {
+
+    <S extends T> S persist(S entity);
+}
@@ -0,0 +1,18 @@
+package by.sakuuj.articles.repository.jpa;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PersistingRepositoryImpl<T> implements PersistingRepository<T> {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public <S extends T> S persist(S entity) {
+
+        entityManager.persist(entity);
+
+        return entity;
+    }
+}
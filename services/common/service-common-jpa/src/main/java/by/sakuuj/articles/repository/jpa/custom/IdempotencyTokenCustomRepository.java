@@ -0,0 +1,41 @@
+package by.sakuuj.articles.repository.jpa.custom;
+
+import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
+import by.sakuuj.articles.repository.jpa.projection.IdempotencyTokenPartition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IdempotencyTokenCustomRepository {
+
+    /**
+     * Takes a transaction-level advisory lock, so that only one service instance maintains partitions at a time.
+     *
+     * @return whether the lock has been taken
+     */
+    boolean tryLockPartitionMaintenance();
+
+    /**
+     * Takes a transaction-level advisory lock of the token, so that concurrent claims of the same token
+     * are serialized. Must be taken before the claim statement, whose snapshot then includes a committed
+     * concurrent claim, even one saved on the previous day into another partition.
+     */
+    void lockClaim(IdempotencyTokenId idempotencyTokenId);
+
+    /**
+     * Tokens of the day already saved in the default partition are moved into the created partition.
+     */
+    void createDailyPartitionIfAbsent(LocalDate day);
+
+    /**
+     * @return daily partitions holding tokens saved before the day, the default partition excluded
+     */
+    List<IdempotencyTokenPartition> findAllDailyPartitionsBefore(LocalDate day);
+
+    void dropPartition(IdempotencyTokenPartition partition);
+
+    /**
+     * @return number of deleted tokens
+     */
+    int deleteFromDefaultPartitionCreatedBefore(LocalDate day);
+}
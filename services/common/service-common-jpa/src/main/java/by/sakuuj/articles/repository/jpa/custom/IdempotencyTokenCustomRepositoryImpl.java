@@ -0,0 +1,189 @@
+package by.sakuuj.articles.repository.jpa.custom;
+
+import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
+import by.sakuuj.articles.repository.jpa.projection.IdempotencyTokenPartition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyTokenCustomRepositoryImpl implements IdempotencyTokenCustomRepository {
+
+    private static final String DAILY_PARTITION_NAME_PREFIX = "idempotency_tokens_p";
+    private static final DateTimeFormatter DAILY_PARTITION_NAME_DAY_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern DAILY_PARTITION_NAME_PATTERN = Pattern.compile(DAILY_PARTITION_NAME_PREFIX + "\\d{8}");
+
+    private static final String TRY_LOCK_PARTITION_MAINTENANCE_QUERY = """
+            SELECT pg_try_advisory_xact_lock(hashtext('idempotency_tokens_partition_maintenance'))
+            """;
+
+    private static final String LOCK_CLAIM_QUERY = """
+            SELECT 1 FROM pg_advisory_xact_lock(
+                hashtextextended(CAST(:clientId AS TEXT) || ':' || CAST(:idempotencyTokenValue AS TEXT), 0)
+            )
+            """;
+
+    private static final String DAILY_PARTITION_EXISTS_QUERY = "SELECT to_regclass(:partitionName) IS NOT NULL";
+
+    private static final String DEFAULT_PARTITION_HOLDS_DAY_QUERY = """
+            SELECT EXISTS (
+                SELECT 1 FROM idempotency_tokens_default
+                WHERE created_at >= :since AND created_at < :before
+            )
+            """;
+
+    private static final String DETACH_DEFAULT_PARTITION_QUERY = """
+            ALTER TABLE idempotency_tokens DETACH PARTITION idempotency_tokens_default
+            """;
+
+    private static final String CREATE_DAILY_PARTITION_QUERY = """
+            CREATE TABLE IF NOT EXISTS %s PARTITION OF idempotency_tokens
+            FOR VALUES FROM ('%s') TO ('%s')
+            """;
+
+    private static final String MOVE_FROM_DEFAULT_PARTITION_QUERY = """
+            WITH moved AS (
+                DELETE FROM idempotency_tokens_default
+                WHERE created_at >= :since AND created_at < :before
+                RETURNING idempotency_token, client_id, creation_id, created_at
+            )
+            INSERT INTO %s (idempotency_token, client_id, creation_id, created_at)
+            SELECT idempotency_token, client_id, creation_id, created_at FROM moved
+            """;
+
+    private static final String ATTACH_DEFAULT_PARTITION_QUERY = """
+            ALTER TABLE idempotency_tokens ATTACH PARTITION idempotency_tokens_default DEFAULT
+            """;
+
+    // partition names sort as the days they hold
+    private static final String FIND_DAILY_PARTITIONS_BEFORE_QUERY = """
+            SELECT c.relname AS name,
+                GREATEST(c.reltuples, 0)::BIGINT AS estimated_rows,
+                pg_total_relation_size(c.oid) AS size_in_bytes
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'idempotency_tokens'::REGCLASS
+                AND c.relname ~ '^idempotency_tokens_p[0-9]{8}$'
+                AND c.relname < :partitionName
+            ORDER BY c.relname
+            """;
+
+    private static final String DROP_PARTITION_QUERY = "DROP TABLE IF EXISTS %s";
+
+    private static final String DELETE_FROM_DEFAULT_PARTITION_QUERY = """
+            DELETE FROM idempotency_tokens_default
+            WHERE created_at < :day
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public boolean tryLockPartitionMaintenance() {
+
+        return (Boolean) entityManager.createNativeQuery(TRY_LOCK_PARTITION_MAINTENANCE_QUERY, Boolean.class)
+                .getSingleResult();
+    }
+
+    @Override
+    public void lockClaim(IdempotencyTokenId idempotencyTokenId) {
+
+        entityManager.createNativeQuery(LOCK_CLAIM_QUERY, Integer.class)
+                .setParameter("clientId", idempotencyTokenId.getClientId())
+                .setParameter("idempotencyTokenValue", idempotencyTokenId.getIdempotencyTokenValue())
+                .getSingleResult();
+    }
+
+    /**
+     * Postgres refuses to create a partition while the default partition holds rows of its range,
+     * so such rows are moved into the created partition with the default partition detached.
+     * Detaching locks the table, which only happens if a daily partition has not been created in time.
+     */
+    @Override
+    public void createDailyPartitionIfAbsent(LocalDate day) {
+
+        String partitionName = toDailyPartitionName(day);
+        LocalDate nextDay = day.plusDays(1);
+
+        boolean exists = (Boolean) entityManager.createNativeQuery(DAILY_PARTITION_EXISTS_QUERY, Boolean.class)
+                .setParameter("partitionName", partitionName)
+                .getSingleResult();
+        if (exists) {
+            return;
+        }
+
+        String createQuery = CREATE_DAILY_PARTITION_QUERY.formatted(partitionName, day, nextDay);
+
+        boolean defaultPartitionHoldsDay = (Boolean) entityManager
+                .createNativeQuery(DEFAULT_PARTITION_HOLDS_DAY_QUERY, Boolean.class)
+                .setParameter("since", day)
+                .setParameter("before", nextDay)
+                .getSingleResult();
+        if (!defaultPartitionHoldsDay) {
+            entityManager.createNativeQuery(createQuery).executeUpdate();
+            return;
+        }
+
+        entityManager.createNativeQuery(DETACH_DEFAULT_PARTITION_QUERY).executeUpdate();
+        entityManager.createNativeQuery(createQuery).executeUpdate();
+        entityManager.createNativeQuery(MOVE_FROM_DEFAULT_PARTITION_QUERY.formatted(partitionName))
+                .setParameter("since", day)
+                .setParameter("before", nextDay)
+                .executeUpdate();
+        entityManager.createNativeQuery(ATTACH_DEFAULT_PARTITION_QUERY).executeUpdate();
+    }
+
+    @Override
+    public List<IdempotencyTokenPartition> findAllDailyPartitionsBefore(LocalDate day) {
+
+        List<Tuple> partitions = entityManager.unwrap(Session.class)
+                .createNativeQuery(FIND_DAILY_PARTITIONS_BEFORE_QUERY, Tuple.class)
+                .setParameter("partitionName", toDailyPartitionName(day))
+                .getResultList();
+
+        return partitions.stream()
+                .map(p -> {
+                    String name = p.get("name", String.class);
+
+                    return IdempotencyTokenPartition.builder()
+                            .name(name)
+                            .day(LocalDate.parse(
+                                    name.substring(DAILY_PARTITION_NAME_PREFIX.length()),
+                                    DAILY_PARTITION_NAME_DAY_FORMATTER
+                            ))
+                            .estimatedRows(p.get("estimated_rows", Number.class).longValue())
+                            .sizeInBytes(p.get("size_in_bytes", Number.class).longValue())
+                            .build();
+                })
+                .toList();
+    }
+
+    @Override
+    public void dropPartition(IdempotencyTokenPartition partition) {
+
+        if (!DAILY_PARTITION_NAME_PATTERN.matcher(partition.name()).matches()) {
+            throw new IllegalArgumentException("'%s' is not a daily idempotency token partition".formatted(partition.name()));
+        }
+
+        entityManager.createNativeQuery(DROP_PARTITION_QUERY.formatted(partition.name())).executeUpdate();
+    }
+
+    @Override
+    public int deleteFromDefaultPartitionCreatedBefore(LocalDate day) {
+
+        return entityManager.createNativeQuery(DELETE_FROM_DEFAULT_PARTITION_QUERY)
+                .setParameter("day", day)
+                .executeUpdate();
+    }
+
+    private static String toDailyPartitionName(LocalDate day) {
+        return DAILY_PARTITION_NAME_PREFIX + DAILY_PARTITION_NAME_DAY_FORMATTER.format(day);
+    }
+}
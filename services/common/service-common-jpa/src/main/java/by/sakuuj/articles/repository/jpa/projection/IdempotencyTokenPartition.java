@@ -0,0 +1,19 @@
+package by.sakuuj.articles.repository.jpa.projection;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+/**
+ * @param day            the only day the partition holds tokens saved on
+ * @param estimatedRows  row count estimated by the last analyze of the partition
+ * @param sizeInBytes    size of the partition including its indexes
+ */
+@Builder
+public record IdempotencyTokenPartition(
+        String name,
+        LocalDate day,
+        long estimatedRows,
+        long sizeInBytes
+) {
+}
@@ -0,0 +1,122 @@
+package by.sakuuj.articles.repository.jpa.utils;
+
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.experimental.UtilityClass;
+import org.hibernate.Session;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Fetches entities with a collection entity graph in two phases:
+ * the page of ids is selected first (so that LIMIT/OFFSET is applied by the database),
+ * then the found ids are hydrated by {@code multiLoad} with the entity graph, keeping the order of ids.
+ * <p>
+ * Applying a collection fetch graph to a paged query directly either makes Hibernate
+ * paginate in memory or multiplies the result rows by the collection size.
+ */
+@UtilityClass
+public class TwoPhaseFetchUtils {
+
+    /**
+     * @return entities in the order of ids, ids of absent entities are skipped,
+     * a duplicate id yields the same entity at each of its positions
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, ID> List<T> loadAllByIdsInOrder(Session session,
+                                                      Class<T> entityClass,
+                                                      String entityGraphName,
+                                                      List<ID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        RootGraph<T> entityGraph = (RootGraph<T>) session.getEntityGraph(entityGraphName);
+
+        List<ID> distinctIds = ids.stream()
+                .distinct()
+                .toList();
+
+        // ordered return puts null at the positions of absent entities
+        List<T> loaded = session
+                .byMultipleIds(entityClass)
+                .withFetchGraph(entityGraph)
+                .enableOrderedReturn(true)
+                .multiLoad(distinctIds);
+
+        Map<ID, T> loadedById = new HashMap<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+
+            T entity = loaded.get(i);
+            if (entity != null) {
+                loadedById.put(distinctIds.get(i), entity);
+            }
+        }
+
+        return ids.stream()
+                .map(loadedById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * @param idsQuery query selecting ids of entities to find, should be already limited
+     */
+    public static <T, ID> List<T> fetchAll(Session session,
+                                           Class<T> entityClass,
+                                           String entityGraphName,
+                                           SelectionQuery<ID> idsQuery) {
+        List<ID> foundIds = idsQuery.list();
+
+        return loadAllByIdsInOrder(session, entityClass, entityGraphName, foundIds);
+    }
+
+    /**
+     * Same as {@code Slice<T> findAll(Pageable)} of a Spring Data repository annotated with
+     * {@code @EntityGraph}, except the entity graph is not applied to the paged query.
+     * The id is appended to the requested sort to make the order of pages deterministic.
+     */
+    public static <T, ID> Slice<T> fetchSlice(Session session,
+                                              Class<T> entityClass,
+                                              SingularAttribute<? super T, ID> idAttribute,
+                                              String entityGraphName,
+                                              Pageable pageable) {
+        HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
+
+        JpaCriteriaQuery<ID> idsQuery = builder.createQuery(idAttribute.getJavaType());
+        JpaRoot<T> root = idsQuery.from(entityClass);
+        idsQuery.select(root.get(idAttribute));
+
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor(idAttribute.getName()) == null) {
+            sort = sort.and(Sort.by(idAttribute.getName()));
+        }
+        idsQuery.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        List<ID> foundIds = session.createSelectionQuery(idsQuery)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .list();
+
+        boolean hasNext = foundIds.size() > pageable.getPageSize();
+        if (hasNext) {
+            foundIds = foundIds.subList(0, pageable.getPageSize());
+        }
+
+        List<T> found = loadAllByIdsInOrder(session, entityClass, entityGraphName, foundIds);
+
+        return new SliceImpl<>(found, pageable, hasNext);
+    }
+}
@@ -0,0 +1,20 @@
+package by.sakuuj.articles.service;
+
+import by.sakuuj.articles.entity.jpa.CreationId;
+
+/**
+ * Result of {@link IdempotencyTokenService#claim}.
+ *
+ * @param creationId creation id saved with the token, the passed one if the claim is won
+ * @param isWon whether the token has been saved by this claim
+ */
+public record IdempotencyClaim(CreationId creationId, boolean isWon) {
+
+    public static IdempotencyClaim won(CreationId creationId) {
+        return new IdempotencyClaim(creationId, true);
+    }
+
+    public static IdempotencyClaim lost(CreationId creationId) {
+        return new IdempotencyClaim(creationId, false);
+    }
+}
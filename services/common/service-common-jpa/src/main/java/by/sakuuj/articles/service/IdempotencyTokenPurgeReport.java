@@ -0,0 +1,20 @@
+package by.sakuuj.articles.service;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Result of {@link IdempotencyTokenService#purgeExpired()}.
+ *
+ * @param droppedPartitions names of the dropped daily partitions
+ * @param purgedRows        tokens removed with the dropped partitions (estimated) and from the default partition
+ * @param reclaimedBytes    size of the dropped partitions, the space of deleted rows is reclaimed by vacuum
+ */
+@Builder
+public record IdempotencyTokenPurgeReport(
+        List<String> droppedPartitions,
+        long purgedRows,
+        long reclaimedBytes
+) {
+}
@@ -8,10 +8,27 @@ import java.util.Optional;
 
 public interface IdempotencyTokenService {
 
+    /**
+     * @return the token unless it has expired, even if it has not been purged yet
+     */
     Optional<IdempotencyTokenEntity> findById(IdempotencyTokenId id);
 
-    void create(IdempotencyTokenId idempotencyTokenId, CreationId creationId);
+    /**
+     * Saves the token with the creation id unless the token already exists, in a single statement.
+     * The entity the creation id refers to is expected to be created in the same transaction if the claim is won.
+     *
+     * @return won claim with the passed creation id, or lost claim with the creation id of the existing token
+     */
+    IdempotencyClaim claim(IdempotencyTokenId idempotencyTokenId, CreationId creationId);
 
     void deleteByCreationId(CreationId creationId);
 
+    /**
+     * Creates the daily partitions for the upcoming tokens,
+     * then drops the partitions holding only expired tokens.
+     *
+     * @return empty if the partitions are being maintained by another service instance
+     */
+    Optional<IdempotencyTokenPurgeReport> purgeExpired();
+
 }
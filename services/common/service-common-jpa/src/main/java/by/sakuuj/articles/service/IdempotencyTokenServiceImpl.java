@@ -4,34 +4,67 @@ import by.sakuuj.articles.entity.jpa.CreationId;
 import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.entities.IdempotencyTokenEntity;
 import by.sakuuj.articles.repository.jpa.IdempotencyTokenRepository;
-import lombok.RequiredArgsConstructor;
+import by.sakuuj.articles.repository.jpa.projection.IdempotencyTokenPartition;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class IdempotencyTokenServiceImpl implements IdempotencyTokenService {
 
+    private static final int DAILY_PARTITIONS_CREATED_AHEAD = 2;
+
     private final IdempotencyTokenRepository idempotencyTokenRepository;
 
+    private final Period retention;
+
+    public IdempotencyTokenServiceImpl(
+            IdempotencyTokenRepository idempotencyTokenRepository,
+            @Value("${by.sakuuj.articles.idempotency-tokens.retention:7d}") Period retention
+    ) {
+        this.idempotencyTokenRepository = idempotencyTokenRepository;
+        this.retention = retention;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<IdempotencyTokenEntity> findById(IdempotencyTokenId id) {
 
-        return idempotencyTokenRepository.findById(id);
+        return idempotencyTokenRepository.findNotExpiredById(id, notExpiredSince(today()));
     }
 
     @Override
-    public void create(IdempotencyTokenId idempotencyTokenId, CreationId creationId) {
-        IdempotencyTokenEntity idempotencyTokenToSave = IdempotencyTokenEntity.builder()
-                .id(idempotencyTokenId)
-                .creationId(creationId)
-                .build();
+    public IdempotencyClaim claim(IdempotencyTokenId idempotencyTokenId, CreationId creationId) {
+
+        idempotencyTokenRepository.lockClaim(idempotencyTokenId);
+
+        LocalDate today = today();
 
-        idempotencyTokenRepository.save(idempotencyTokenToSave);
+        Optional<String> insertedCreationId = idempotencyTokenRepository.insertIfAbsent(
+                idempotencyTokenId.getClientId(),
+                idempotencyTokenId.getIdempotencyTokenValue(),
+                creationId.getCreationIdValue(),
+                today,
+                notExpiredSince(today)
+        );
+
+        if (insertedCreationId.isPresent()) {
+            return IdempotencyClaim.won(creationId);
+        }
+
+        return idempotencyTokenRepository.findNotExpiredById(idempotencyTokenId, notExpiredSince(today))
+                .map(IdempotencyTokenEntity::getCreationId)
+                .map(IdempotencyClaim::lost)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Idempotency token '%s' has been deleted after a conflicting insert".formatted(idempotencyTokenId)
+                ));
     }
 
     @Override
@@ -39,5 +72,50 @@ public class IdempotencyTokenServiceImpl implements IdempotencyTokenService {
 
         idempotencyTokenRepository.removeByCreationId(creationId);
     }
-}
 
+    @Override
+    public Optional<IdempotencyTokenPurgeReport> purgeExpired() {
+
+        if (!idempotencyTokenRepository.tryLockPartitionMaintenance()) {
+            return Optional.empty();
+        }
+
+        LocalDate today = today();
+        for (int i = 0; i <= DAILY_PARTITIONS_CREATED_AHEAD; i++) {
+            idempotencyTokenRepository.createDailyPartitionIfAbsent(today.plusDays(i));
+        }
+
+        LocalDate notExpiredSince = notExpiredSince(today);
+
+        List<IdempotencyTokenPartition> expiredPartitions = idempotencyTokenRepository
+                .findAllDailyPartitionsBefore(notExpiredSince);
+        expiredPartitions.forEach(idempotencyTokenRepository::dropPartition);
+
+        int purgedFromDefaultPartition = idempotencyTokenRepository
+                .deleteFromDefaultPartitionCreatedBefore(notExpiredSince);
+
+        return Optional.of(IdempotencyTokenPurgeReport.builder()
+                .droppedPartitions(expiredPartitions.stream()
+                        .map(IdempotencyTokenPartition::name)
+                        .toList()
+                )
+                .purgedRows(purgedFromDefaultPartition + expiredPartitions.stream()
+                        .mapToLong(IdempotencyTokenPartition::estimatedRows)
+                        .sum()
+                )
+                .reclaimedBytes(expiredPartitions.stream()
+                        .mapToLong(IdempotencyTokenPartition::sizeInBytes)
+                        .sum()
+                )
+                .build()
+        );
+    }
+
+    private LocalDate notExpiredSince(LocalDate today) {
+        return today.minus(retention);
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(Clock.systemUTC());
+    }
+}
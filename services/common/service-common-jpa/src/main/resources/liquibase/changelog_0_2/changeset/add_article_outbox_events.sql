@@ -0,0 +1,15 @@
+-- search index events, inserted in the same transaction as the article change and deleted once published to Kafka.
+-- only the article id is kept: the article is published as it is at the moment of publishing
+CREATE TABLE article_outbox_events
+(
+    article_outbox_event_id BIGINT GENERATED ALWAYS AS IDENTITY,
+    article_id              UUID        NOT NULL,
+    event_type              VARCHAR(10) NOT NULL,
+    created_at              TIMESTAMP   NOT NULL,
+
+    CONSTRAINT article_outbox_events_pk PRIMARY KEY (article_outbox_event_id)
+);
+
+-- only the oldest event of an article is claimed for publishing:
+-- WHERE NOT EXISTS (... WHERE article_id = ? AND article_outbox_event_id < ?)
+CREATE INDEX article_outbox_events_article_id_idx ON article_outbox_events (article_id, article_outbox_event_id);
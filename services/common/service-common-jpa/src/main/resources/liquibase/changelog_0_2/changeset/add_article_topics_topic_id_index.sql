@@ -0,0 +1,3 @@
+-- primary key (article_id, topic_id) cannot serve lookups by topic,
+-- which both the topic-intersection query and topic deletion need
+CREATE INDEX article_topics_topic_id_article_id_idx ON article_topics (topic_id, article_id);
@@ -0,0 +1,3 @@
+-- supports keyset pagination of the newest-first article feed:
+-- WHERE (created_at, article_id) < (?, ?) ORDER BY created_at DESC, article_id DESC
+CREATE INDEX articles_created_at_article_id_idx ON articles (created_at DESC, article_id DESC);
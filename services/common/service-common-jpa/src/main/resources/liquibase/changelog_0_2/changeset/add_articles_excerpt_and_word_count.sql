@@ -0,0 +1,20 @@
+ALTER TABLE articles
+    ADD COLUMN excerpt    VARCHAR(300),
+    ADD COLUMN word_count INTEGER;
+
+-- backfill mirrors ArticleExcerptUtils, new writes are computed by ArticleEntity itself
+UPDATE articles a
+SET excerpt    = CASE
+                     WHEN char_length(n.normalized) <= 300 THEN n.normalized
+                     ELSE regexp_replace(left(n.normalized, 299), ' \S*$', '') || '…'
+                 END,
+    word_count = CASE
+                     WHEN n.normalized = '' THEN 0
+                     ELSE array_length(string_to_array(n.normalized, ' '), 1)
+                 END
+FROM (SELECT article_id, btrim(regexp_replace(content, '\s+', ' ', 'g')) AS normalized FROM articles) n
+WHERE a.article_id = n.article_id;
+
+ALTER TABLE articles
+    ALTER COLUMN excerpt SET NOT NULL,
+    ALTER COLUMN word_count SET NOT NULL;
@@ -0,0 +1,3 @@
+-- supports the export of articles updated since a given moment:
+-- WHERE updated_at >= ? ORDER BY updated_at, article_id
+CREATE INDEX articles_updated_at_article_id_idx ON articles (updated_at, article_id);
@@ -0,0 +1,45 @@
+-- tokens are kept in daily partitions, so that expired ones are dropped whole instead of being deleted row by row.
+-- created_at is a date rather than a timestamp, because a primary key of a partitioned table must include
+-- the partition key: concurrent claims of the same token on the same day still conflict on it
+CREATE TABLE idempotency_tokens_partitioned
+(
+    idempotency_token UUID        NOT NULL,
+    client_id         UUID        NOT NULL,
+    creation_id       VARCHAR(50) NOT NULL,
+    created_at        DATE        NOT NULL DEFAULT (now() AT TIME ZONE 'UTC')::DATE,
+
+    -- creation_id is included for the lookup of an existing token to be index-only
+    CONSTRAINT idempotency_tokens_pk PRIMARY KEY (idempotency_token, client_id, created_at) INCLUDE (creation_id),
+    CONSTRAINT idempotency_tokens_client_id_fk FOREIGN KEY (client_id) REFERENCES persons (person_id)
+) PARTITION BY RANGE (created_at);
+
+-- creation ids are unique by construction and only looked up by equality,
+-- a hash index stores a 4-byte hash instead of the whole value
+CREATE INDEX idempotency_tokens_creation_id_idx ON idempotency_tokens_partitioned USING HASH (creation_id);
+
+-- receives tokens if a daily partition has not been created in time, purged row by row
+CREATE TABLE idempotency_tokens_default PARTITION OF idempotency_tokens_partitioned DEFAULT;
+
+-- partitions are named idempotency_tokens_pYYYYMMDD, the following ones are created by the purge job
+DO
+$$
+    DECLARE
+        day DATE;
+    BEGIN
+        FOR day IN SELECT (now() AT TIME ZONE 'UTC')::DATE + generate_series(0, 2)
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE %I PARTITION OF idempotency_tokens_partitioned FOR VALUES FROM (%L) TO (%L)',
+                        'idempotency_tokens_p' || to_char(day, 'YYYYMMDD'), day, day + 1
+                        );
+            END LOOP;
+    END
+$$;
+
+INSERT INTO idempotency_tokens_partitioned (idempotency_token, client_id, creation_id)
+SELECT idempotency_token, client_id, creation_id
+FROM idempotency_tokens;
+
+DROP TABLE idempotency_tokens;
+
+ALTER TABLE idempotency_tokens_partitioned RENAME TO idempotency_tokens;
@@ -0,0 +1,81 @@
+package by.sakuuj.articles.entity.jpa.generators;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTests {
+
+    @Nested
+    class generateUuid {
+
+        @Test
+        void shouldGenerateVersion7_WithCurrentUnixMillis() {
+
+            // given
+            long millisBefore = System.currentTimeMillis();
+
+            // when
+            UUID actual = UuidV7Generator.generateUuid();
+
+            // then
+            long millisAfter = System.currentTimeMillis();
+
+            assertThat(actual.version()).isEqualTo(7);
+            assertThat(actual.variant()).isEqualTo(2);
+            assertThat(actual.getMostSignificantBits() >>> 16).isBetween(millisBefore, millisAfter + 1);
+        }
+
+        @Test
+        void shouldGenerateIncreasingIds_InPostgresByteOrder() {
+
+            // given
+            int idsCount = 100_000;
+
+            // when
+            List<UUID> actual = new ArrayList<>(idsCount);
+            for (int i = 0; i < idsCount; i++) {
+                actual.add(UuidV7Generator.generateUuid());
+            }
+
+            // then
+            for (int i = 1; i < idsCount; i++) {
+                assertThat(compareUnsigned(actual.get(i - 1), actual.get(i))).isNegative();
+            }
+        }
+
+        @Test
+        void shouldGenerateUniqueIds_WhenGeneratedConcurrently() {
+
+            // given
+            int idsCount = 100_000;
+            Set<UUID> generated = ConcurrentHashMap.newKeySet();
+
+            // when
+            IntStream.range(0, idsCount)
+                    .parallel()
+                    .forEach(i -> generated.add(UuidV7Generator.generateUuid()));
+
+            // then
+            assertThat(generated).hasSize(idsCount);
+        }
+    }
+
+    private static int compareUnsigned(UUID first, UUID second) {
+
+        int mostSigBitsComparison = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        if (mostSigBitsComparison != 0) {
+            return mostSigBitsComparison;
+        }
+
+        return Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}
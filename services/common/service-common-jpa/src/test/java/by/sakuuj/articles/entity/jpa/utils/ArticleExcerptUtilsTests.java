@@ -0,0 +1,68 @@
+package by.sakuuj.articles.entity.jpa.utils;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleExcerptUtilsTests {
+
+    @Nested
+    class excerptOf_String {
+
+        @Test
+        void shouldCollapseWhitespaces_AndNotCut_WhenShortEnough() {
+
+            // given
+            String content = "  Java\n\nHotSpot \t VM  ";
+
+            // when
+            String actual = ArticleExcerptUtils.excerptOf(content);
+
+            // then
+            assertThat(actual).isEqualTo("Java HotSpot VM");
+        }
+
+        @Test
+        void shouldCutOnWordBoundary_AndAppendEllipsis_WhenTooLong() {
+
+            // given
+            String word = "word ";
+            String content = word.repeat(ArticleExcerptUtils.EXCERPT_MAX_LENGTH);
+
+            // when
+            String actual = ArticleExcerptUtils.excerptOf(content);
+
+            // then
+            assertThat(actual).hasSizeLessThanOrEqualTo(ArticleExcerptUtils.EXCERPT_MAX_LENGTH);
+            assertThat(actual).endsWith("word…");
+        }
+    }
+
+    @Nested
+    class countWords_String {
+
+        @Test
+        void shouldCountWordsSeparatedByAnyWhitespaces() {
+
+            // given
+            String content = " Java\nHotSpot\t\tVM is  a mixed-mode VM ";
+
+            // when
+            int actual = ArticleExcerptUtils.countWords(content);
+
+            // then
+            assertThat(actual).isEqualTo(7);
+        }
+
+        @Test
+        void shouldReturnZero_WhenBlank() {
+
+            // when
+            int actual = ArticleExcerptUtils.countWords(" \n ");
+
+            // then
+            assertThat(actual).isZero();
+        }
+    }
+}
@@ -5,21 +5,27 @@ import by.sakuuj.articles.entity.jpa.embeddable.IdempotencyTokenId;
 import by.sakuuj.articles.entity.jpa.entities.ArticleEntity;
 import by.sakuuj.articles.entity.jpa.entities.IdempotencyTokenEntity;
 import by.sakuuj.articles.repository.jpa.IdempotencyTokenRepository;
+import by.sakuuj.articles.repository.jpa.projection.IdempotencyTokenPartition;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -27,12 +33,18 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class IdempotencyTokenServiceImplTests {
 
+    private static final Period RETENTION = Period.ofDays(7);
+
     @Mock
     private IdempotencyTokenRepository idempotencyTokenRepository;
 
-    @InjectMocks
     private IdempotencyTokenServiceImpl idempotencyTokenServiceImpl;
 
+    @BeforeEach
+    void setUp() {
+        idempotencyTokenServiceImpl = new IdempotencyTokenServiceImpl(idempotencyTokenRepository, RETENTION);
+    }
+
     @Nested
     class findById_IdempotencyTokenId {
 
@@ -56,7 +68,7 @@ public class IdempotencyTokenServiceImplTests {
                     .creationId(creationId)
                     .build();
 
-            when(idempotencyTokenRepository.findById(any())).thenReturn(Optional.of(idempotencyTokenEntity));
+            when(idempotencyTokenRepository.findNotExpiredById(any(), any())).thenReturn(Optional.of(idempotencyTokenEntity));
 
             // when
             Optional<IdempotencyTokenEntity> actual = idempotencyTokenServiceImpl.findById(idempotencyTokenId);
@@ -66,7 +78,7 @@ public class IdempotencyTokenServiceImplTests {
             assertThat(actual.get()).usingRecursiveComparison()
                     .isEqualTo(idempotencyTokenEntity);
 
-            verify(idempotencyTokenRepository).findById(idempotencyTokenId);
+            verify(idempotencyTokenRepository).findNotExpiredById(idempotencyTokenId, notExpiredSince());
             verifyNoMoreInteractions(idempotencyTokenRepository);
         }
 
@@ -81,7 +93,7 @@ public class IdempotencyTokenServiceImplTests {
                     .idempotencyTokenValue(idempotencyTokenValue)
                     .build();
 
-            when(idempotencyTokenRepository.findById(any())).thenReturn(Optional.empty());
+            when(idempotencyTokenRepository.findNotExpiredById(any(), any())).thenReturn(Optional.empty());
 
             // when
             Optional<IdempotencyTokenEntity> actual = idempotencyTokenServiceImpl.findById(idempotencyTokenId);
@@ -89,48 +101,85 @@ public class IdempotencyTokenServiceImplTests {
             // then
             assertThat(actual).isEmpty();
 
-            verify(idempotencyTokenRepository).findById(idempotencyTokenId);
+            verify(idempotencyTokenRepository).findNotExpiredById(idempotencyTokenId, notExpiredSince());
             verifyNoMoreInteractions(idempotencyTokenRepository);
         }
     }
 
     @Nested
-    class create_IdempotencyTokenId_CreationId {
+    class claim_IdempotencyTokenId_CreationId {
+
+        private final IdempotencyTokenId idempotencyTokenId = IdempotencyTokenId.builder()
+                .clientId(UUID.fromString("309affca-2e66-493e-b050-caeebff5a9c9"))
+                .idempotencyTokenValue(UUID.fromString("ed03b605-cc2d-4b9e-89cc-324ce8a38cab"))
+                .build();
 
-        @Captor
-        private ArgumentCaptor<IdempotencyTokenEntity> tokenEntityArgumentCaptor;
+        private final CreationId creationId = CreationId.of(
+                ArticleEntity.class,
+                UUID.fromString("9f3b2d35-41d3-4b4d-870c-ffe6d9a83508")
+        );
 
         @Test
-        void shouldCreate() {
-            UUID clientId = UUID.fromString("309affca-2e66-493e-b050-caeebff5a9c9");
-            UUID idempotencyTokenValue = UUID.fromString("ed03b605-cc2d-4b9e-89cc-324ce8a38cab");
-            IdempotencyTokenId idempotencyTokenId = IdempotencyTokenId.builder()
-                    .clientId(clientId)
-                    .idempotencyTokenValue(idempotencyTokenValue)
-                    .build();
+        void shouldWinClaim_IfTokenIsInserted() {
 
-            Class<ArticleEntity> createdEntityClass = ArticleEntity.class;
-            UUID createdEntityId = UUID.fromString("9f3b2d35-41d3-4b4d-870c-ffe6d9a83508");
-            CreationId creationId = CreationId.of(createdEntityClass, createdEntityId);
+            // given
+            when(idempotencyTokenRepository.insertIfAbsent(any(), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(creationId.getCreationIdValue()));
 
-            IdempotencyTokenEntity idempotencyTokenEntity = IdempotencyTokenEntity.builder()
+            // when
+            IdempotencyClaim actual = idempotencyTokenServiceImpl.claim(idempotencyTokenId, creationId);
+
+            // then
+            assertThat(actual).isEqualTo(IdempotencyClaim.won(creationId));
+
+            InOrder inOrder = inOrder(idempotencyTokenRepository);
+
+            inOrder.verify(idempotencyTokenRepository).lockClaim(idempotencyTokenId);
+            inOrder.verify(idempotencyTokenRepository).insertIfAbsent(
+                    idempotencyTokenId.getClientId(),
+                    idempotencyTokenId.getIdempotencyTokenValue(),
+                    creationId.getCreationIdValue(),
+                    today(),
+                    notExpiredSince()
+            );
+            inOrder.verifyNoMoreInteractions();
+        }
+
+        @Test
+        void shouldLoseClaimWithExistingCreationId_IfTokenExists() {
+
+            // given
+            CreationId existingCreationId = CreationId.of(
+                    ArticleEntity.class,
+                    UUID.fromString("0190b6a4-1f2e-7c3d-8e4f-5a6b7c8d9e0f")
+            );
+            IdempotencyTokenEntity existingToken = IdempotencyTokenEntity.builder()
                     .id(idempotencyTokenId)
-                    .creationId(creationId)
+                    .creationId(existingCreationId)
                     .build();
 
-            when(idempotencyTokenRepository.save(any())).thenReturn(idempotencyTokenEntity);
+            when(idempotencyTokenRepository.insertIfAbsent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+            when(idempotencyTokenRepository.findNotExpiredById(any(), any())).thenReturn(Optional.of(existingToken));
 
             // when
-            idempotencyTokenServiceImpl.create(idempotencyTokenId, creationId);
+            IdempotencyClaim actual = idempotencyTokenServiceImpl.claim(idempotencyTokenId, creationId);
 
             // then
-            verify(idempotencyTokenRepository).save(tokenEntityArgumentCaptor.capture());
-            IdempotencyTokenEntity savedTokenEntity = tokenEntityArgumentCaptor.getValue();
+            assertThat(actual).isEqualTo(IdempotencyClaim.lost(existingCreationId));
 
-            assertThat(savedTokenEntity.getId()).isEqualTo(idempotencyTokenId);
-            assertThat(savedTokenEntity.getCreationId()).isEqualTo(creationId);
+            verify(idempotencyTokenRepository).findNotExpiredById(idempotencyTokenId, notExpiredSince());
+        }
 
-            verifyNoMoreInteractions(idempotencyTokenRepository);
+        @Test
+        void shouldThrowIllegalStateException_IfConflictingTokenIsDeleted() {
+
+            // given
+            when(idempotencyTokenRepository.insertIfAbsent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+            when(idempotencyTokenRepository.findNotExpiredById(any(), any())).thenReturn(Optional.empty());
+
+            // when, then
+            assertThatThrownBy(() -> idempotencyTokenServiceImpl.claim(idempotencyTokenId, creationId))
+                    .isInstanceOf(IllegalStateException.class);
         }
     }
 
@@ -155,4 +204,79 @@ public class IdempotencyTokenServiceImplTests {
         }
     }
 
+    @Nested
+    class purgeExpired {
+
+        @Test
+        void shouldCreateUpcomingPartitions_ThenDropExpiredOnes_ThenPurgeDefaultPartition() {
+
+            // given
+            LocalDate notExpiredSince = notExpiredSince();
+
+            var firstExpiredPartition = IdempotencyTokenPartition.builder()
+                    .name("idempotency_tokens_p20240101")
+                    .day(LocalDate.of(2024, 1, 1))
+                    .estimatedRows(100)
+                    .sizeInBytes(8192)
+                    .build();
+            var secondExpiredPartition = IdempotencyTokenPartition.builder()
+                    .name("idempotency_tokens_p20240102")
+                    .day(LocalDate.of(2024, 1, 2))
+                    .estimatedRows(200)
+                    .sizeInBytes(16384)
+                    .build();
+
+            when(idempotencyTokenRepository.tryLockPartitionMaintenance()).thenReturn(true);
+            when(idempotencyTokenRepository.findAllDailyPartitionsBefore(any()))
+                    .thenReturn(List.of(firstExpiredPartition, secondExpiredPartition));
+            when(idempotencyTokenRepository.deleteFromDefaultPartitionCreatedBefore(any())).thenReturn(3);
+
+            // when
+            Optional<IdempotencyTokenPurgeReport> actual = idempotencyTokenServiceImpl.purgeExpired();
+
+            // then
+            assertThat(actual).contains(IdempotencyTokenPurgeReport.builder()
+                    .droppedPartitions(List.of(firstExpiredPartition.name(), secondExpiredPartition.name()))
+                    .purgedRows(303)
+                    .reclaimedBytes(24576)
+                    .build()
+            );
+
+            InOrder inOrder = inOrder(idempotencyTokenRepository);
+
+            inOrder.verify(idempotencyTokenRepository).tryLockPartitionMaintenance();
+            inOrder.verify(idempotencyTokenRepository).createDailyPartitionIfAbsent(today());
+            inOrder.verify(idempotencyTokenRepository).createDailyPartitionIfAbsent(today().plusDays(1));
+            inOrder.verify(idempotencyTokenRepository).createDailyPartitionIfAbsent(today().plusDays(2));
+            inOrder.verify(idempotencyTokenRepository).findAllDailyPartitionsBefore(notExpiredSince);
+            inOrder.verify(idempotencyTokenRepository).dropPartition(firstExpiredPartition);
+            inOrder.verify(idempotencyTokenRepository).dropPartition(secondExpiredPartition);
+            inOrder.verify(idempotencyTokenRepository).deleteFromDefaultPartitionCreatedBefore(notExpiredSince);
+            inOrder.verifyNoMoreInteractions();
+        }
+
+        @Test
+        void shouldDoNothing_IfPartitionsAreMaintainedByAnotherInstance() {
+
+            // given
+            when(idempotencyTokenRepository.tryLockPartitionMaintenance()).thenReturn(false);
+
+            // when
+            Optional<IdempotencyTokenPurgeReport> actual = idempotencyTokenServiceImpl.purgeExpired();
+
+            // then
+            assertThat(actual).isEmpty();
+
+            verify(idempotencyTokenRepository).tryLockPartitionMaintenance();
+            verifyNoMoreInteractions(idempotencyTokenRepository);
+        }
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(Clock.systemUTC());
+    }
+
+    private static LocalDate notExpiredSince() {
+        return today().minus(RETENTION);
+    }
 }
@@ -0,0 +1,49 @@
+package by.sakuuj.articles.controller.resolvers;
+
+import by.sakuuj.articles.paging.RequestedCursorPage;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.annotation.RequestParamMethodArgumentResolver;
+
+import java.util.Optional;
+
+public class RequestedCursorPageArgumentResolver extends RequestParamMethodArgumentResolver {
+
+    public static final String PAGE_SIZE_PARAM = RequestedPageArgumentResolver.PAGE_SIZE_PARAM;
+    public static final String CURSOR_PARAM = "cursor";
+
+    public RequestedCursorPageArgumentResolver(boolean useDefaultResolution) {
+        super(useDefaultResolution);
+    }
+
+    @Override
+    protected Object resolveName(String name, MethodParameter parameter, NativeWebRequest request) {
+
+        String pageSize = Optional.ofNullable(request.getParameter(PAGE_SIZE_PARAM))
+                .orElseThrow(() -> new IllegalStateException("'%s' request parameter is not specified".formatted(PAGE_SIZE_PARAM)));
+        int parsedPageSize = parseInt(pageSize);
+
+        String cursor = Optional.ofNullable(request.getParameter(CURSOR_PARAM))
+                .filter(c -> !c.isBlank())
+                .orElse(null);
+
+        return RequestedCursorPage.builder()
+                .size(parsedPageSize)
+                .cursor(cursor)
+                .build();
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+
+        return parameter.getParameterType().equals(RequestedCursorPage.class);
+    }
+
+    private static int parseInt(String stringToParse) {
+        try {
+            return Integer.parseInt(stringToParse);
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException();
+        }
+    }
+}
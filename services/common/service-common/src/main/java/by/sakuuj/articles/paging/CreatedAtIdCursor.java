@@ -0,0 +1,53 @@
+package by.sakuuj.articles.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * <pre>
+ * Position in a result set sorted by (created_at DESC, id DESC).
+ * Encoded as an opaque url-safe string of the format:
+ *      base64url(&lt;created-at>|&lt;uuid-value>)
+ * </pre>
+ */
+public record CreatedAtIdCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public CreatedAtIdCursor {
+        Objects.requireNonNull(createdAt);
+        Objects.requireNonNull(id);
+    }
+
+    public String encode() {
+
+        String rawCursor = createdAt + SEPARATOR + id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CreatedAtIdCursor decode(String encodedCursor) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+
+            int separatorIndex = rawCursor.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalStateException("Invalid cursor: '%s'".formatted(encodedCursor));
+            }
+
+            LocalDateTime createdAt = LocalDateTime.parse(rawCursor.substring(0, separatorIndex));
+            UUID id = UUID.fromString(rawCursor.substring(separatorIndex + SEPARATOR.length()));
+
+            return new CreatedAtIdCursor(createdAt, id);
+
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalStateException("Invalid cursor: '%s'".formatted(encodedCursor), ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package by.sakuuj.articles.paging;
+
+import lombok.Builder;
+import lombok.With;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of the keyset (seek) pagination.
+ *
+ * @param content    page content
+ * @param size       requested page size
+ * @param nextCursor cursor to request the next page with, {@code null} if this page is the last one
+ */
+@With
+@Builder
+public record CursorPageView<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {
+
+    public static <T> CursorPageView<T> ofContent(List<T> content) {
+        return new CursorPageView<>(content, 0, null);
+    }
+
+    public static <T> CursorPageView<T> empty() {
+        return new CursorPageView<>(List.of(), 0, null);
+    }
+
+    public <R> CursorPageView<R> map(Function<T, R> mapper) {
+        List<R> mappedContent = content.stream()
+                .map(mapper)
+                .toList();
+
+        return new CursorPageView<>(
+                mappedContent,
+                size,
+                nextCursor
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package by.sakuuj.articles.paging;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.With;
+
+/**
+ * Page request of the keyset (seek) pagination.
+ *
+ * @param cursor opaque cursor returned as {@link CursorPageView#nextCursor()} by the previous page,
+ *               {@code null} to request the first page
+ * @param size   maximum number of elements in the page, at most {@link #MAX_SIZE}
+ */
+@With
+@Builder
+public record RequestedCursorPage(
+        String cursor,
+
+        @Positive
+        @Max(RequestedCursorPage.MAX_SIZE)
+        int size
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    public static RequestedCursorPage aFirstPage() {
+        return new RequestedCursorPage(null, 1);
+    }
+}
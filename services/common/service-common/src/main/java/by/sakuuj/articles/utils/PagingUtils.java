@@ -1,5 +1,6 @@
 package by.sakuuj.articles.utils;
 
+import by.sakuuj.articles.paging.CursorPageView;
 import by.sakuuj.articles.paging.RequestedPage;
 import by.sakuuj.articles.paging.PageView;
 import lombok.experimental.UtilityClass;
@@ -8,6 +9,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.function.Function;
+
 @UtilityClass
 public class PagingUtils {
 
@@ -47,4 +51,29 @@ public class PagingUtils {
                 .withSize(page.getSize())
                 .withNumber(page.getNumber());
     }
+
+    /**
+     * Builds a keyset page out of the elements, that were fetched with the limit of {@code pageSize + 1}:
+     * the extra element is used only to find out whether the next page exists and is not included in the page.
+     *
+     * @param fetched         elements fetched with the limit of {@code pageSize + 1}
+     * @param pageSize        requested page size
+     * @param cursorExtractor extracts the encoded cursor pointing at the given element
+     * @return page with the next cursor pointing at its last element, or without one if the page is the last one
+     */
+    public static <T> CursorPageView<T> toCursorPageView(List<T> fetched,
+                                                         int pageSize,
+                                                         Function<T, String> cursorExtractor) {
+        if (fetched.size() <= pageSize) {
+            return CursorPageView.ofContent(fetched)
+                    .withSize(pageSize);
+        }
+
+        List<T> pageContent = fetched.subList(0, pageSize);
+        String nextCursor = cursorExtractor.apply(pageContent.get(pageSize - 1));
+
+        return CursorPageView.ofContent(pageContent)
+                .withSize(pageSize)
+                .withNextCursor(nextCursor);
+    }
 }
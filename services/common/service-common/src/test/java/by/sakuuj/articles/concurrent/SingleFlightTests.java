@@ -0,0 +1,99 @@
+package by.sakuuj.articles.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTests {
+
+    private static final int CALLERS_COUNT = 8;
+
+    @Test
+    void shouldComputeOnce_WhenSameKeyIsRequestedConcurrently() throws Exception {
+
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        AtomicInteger computationsCount = new AtomicInteger();
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch releaseComputation = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS_COUNT);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // when
+        try {
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                computationsCount.incrementAndGet();
+                computationStarted.countDown();
+                await(releaseComputation);
+                return 42;
+            })));
+            computationStarted.await();
+
+            for (int i = 1; i < CALLERS_COUNT; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("key", computationsCount::incrementAndGet)));
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+            releaseComputation.countDown();
+
+            // then
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(computationsCount.get()).isOne();
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldComputeAgain_WhenPreviousComputationIsCompleted() {
+
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger computationsCount = new AtomicInteger();
+
+        // when
+        singleFlight.execute("key", computationsCount::incrementAndGet);
+        Integer actual = singleFlight.execute("key", computationsCount::incrementAndGet);
+
+        // then
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRethrowAndForgetKey_WhenComputationFails() {
+
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        // when, then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package by.sakuuj.articles.article.config;
 import by.sakuuj.articles.article.consumer.ElasticsearchConsumer;
 import by.sakuuj.articles.article.dto.ArticleDocumentRequest;
 import by.sakuuj.articles.article.exceptions.RecordKeyIsAbsentException;
+import by.sakuuj.articles.article.serialization.ArticleDocumentRequestDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.UUIDDeserializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
@@ -64,7 +65,7 @@ public class ElasticsearchConsumerConfig {
                     return keyDeserializer;
                 },
                 () -> {
-                    var delegateValueDeserializer = new JsonDeserializer<ArticleDocumentRequest>();
+                    var delegateValueDeserializer = new ArticleDocumentRequestDeserializer();
 
                     var valueDeserializer = new ErrorHandlingDeserializer<>(delegateValueDeserializer);
                     valueDeserializer.setValidator(validator);
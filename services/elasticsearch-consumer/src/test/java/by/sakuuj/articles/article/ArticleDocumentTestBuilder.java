@@ -37,9 +37,15 @@ public class ArticleDocumentTestBuilder {
             compiled.
             """;
 
+    private String excerpt = "Java HotSpot VM is a mixed- mode VM, which means that it starts off interpreting the byte- code, "
+            + "but it can (on a method-by-method basis) compile code into native machine instructions for faster execution. "
+            + "By passing the switch -XX:+PrintCompilation, you can see entries in the log file that show…";
+
+    private int wordCount = 55;
+
     private LocalDateTime datePublishedOn = LocalDateTime.of(2021, 10, 17, 11, 11, 11);
 
     public ArticleDocument buildDocument() {
-        return new ArticleDocument(id, title, content, datePublishedOn);
+        return new ArticleDocument(id, title, content, excerpt, wordCount, datePublishedOn);
     }
 }